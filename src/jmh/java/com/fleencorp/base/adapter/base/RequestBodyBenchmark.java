@@ -0,0 +1,65 @@
+package com.fleencorp.base.adapter.base;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares the allocations of serializing a request body in {@link BaseAdapter} with the implementation it replaced.
+ *
+ * <p>The previous implementation built a new {@link ObjectMapper} for every conversion, and converted the body twice
+ * per call, once for the log line and once for the request. The current one serializes the body once with the shared
+ * mapper of the adapter. Run with {@code mvn -Pjmh test-compile exec:exec} and add {@code -prof gc} to the JMH
+ * arguments: the {@code gc.alloc.rate.norm} column gives the bytes allocated per call.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBodyBenchmark {
+
+  private BaseAdapter adapter;
+  private Map<String, Object> body;
+
+  @Setup
+  public void setUp() {
+    adapter = new BaseAdapter("http://localhost", AdapterContext.defaults());
+    body = Map.of(
+      "userId", 42,
+      "emailAddress", "jane.doe@example.com",
+      "roles", List.of("USER", "ADMIN"),
+      "address", Map.of("city", "Lagos", "country", "NG"));
+  }
+
+  @Benchmark
+  public byte[] serializeOnceWithSharedMapper() {
+    return adapter.serializeBody(body);
+  }
+
+  @Benchmark
+  public void serializeTwiceWithNewMapper(final Blackhole blackhole) throws JsonProcessingException {
+    blackhole.consume(String.format("HTTP call with body=%s", new ObjectMapper().writeValueAsString(body)));
+    blackhole.consume(new ObjectMapper().writeValueAsString(body).getBytes(UTF_8));
+  }
+}
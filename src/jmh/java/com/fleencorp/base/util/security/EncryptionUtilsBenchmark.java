@@ -0,0 +1,119 @@
+package com.fleencorp.base.util.security;
+
+import org.apache.commons.codec.binary.Base64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares {@link EncryptionUtils} with the implementation it replaced, which looked up a cipher with
+ * {@link Cipher#getInstance(String)} and derived the key and GCM parameters from the key string on every call.
+ *
+ * <p>Both implementations encrypt and decrypt the same value with the same key, so the ciphertexts are identical and
+ * the scores only differ by the cost of obtaining a cipher. Run with {@code mvn -Pjmh test-compile exec:exec}, adding
+ * {@code -prof gc} to the JMH arguments to also compare the allocations per call.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class EncryptionUtilsBenchmark {
+
+  private static final String ENCRYPTION_KEY = "0123456789abcdef0123456789abcdef";
+  private static final String VALUE = "jane.doe@example.com";
+
+  private EncryptionUtils encryptionUtils;
+  private PerCallEncryption perCallEncryption;
+  private String encryptedValue;
+
+  @Setup
+  public void setUp() {
+    encryptionUtils = new EncryptionUtils(ENCRYPTION_KEY);
+    perCallEncryption = new PerCallEncryption(ENCRYPTION_KEY);
+    encryptedValue = perCallEncryption.encrypt(VALUE);
+  }
+
+  @Benchmark
+  public String encryptPooled() {
+    return encryptionUtils.encrypt(VALUE);
+  }
+
+  @Benchmark
+  public String encryptPerCall() {
+    return perCallEncryption.encrypt(VALUE);
+  }
+
+  @Benchmark
+  public String decryptPooled() {
+    return encryptionUtils.decrypt(encryptedValue);
+  }
+
+  @Benchmark
+  public String decryptPerCall() {
+    return perCallEncryption.decrypt(encryptedValue);
+  }
+
+  /**
+   * The implementation of {@link EncryptionUtils} before cipher pooling, kept as the baseline of the comparison.
+   */
+  static final class PerCallEncryption {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String ALGORITHM = "AES";
+
+    private final String encryptionKey;
+
+    PerCallEncryption(final String encryptionKey) {
+      this.encryptionKey = encryptionKey;
+    }
+
+    String encrypt(final String value) {
+      try {
+        final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.ENCRYPT_MODE, getSecretKeySpec(), getGCMParameterSpec());
+        return Base64.encodeBase64String(cipher.doFinal(value.getBytes(UTF_8)));
+      } catch (final Exception ex) {
+        throw new IllegalStateException(ex);
+      }
+    }
+
+    String decrypt(final String encryptedValue) {
+      try {
+        final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.DECRYPT_MODE, getSecretKeySpec(), getGCMParameterSpec());
+        return new String(cipher.doFinal(Base64.decodeBase64(encryptedValue)), UTF_8);
+      } catch (final Exception ex) {
+        throw new IllegalStateException(ex);
+      }
+    }
+
+    private SecretKeySpec getSecretKeySpec() {
+      return new SecretKeySpec(encryptionKey.getBytes(UTF_8), ALGORITHM);
+    }
+
+    private GCMParameterSpec getGCMParameterSpec() {
+      return new GCMParameterSpec(128, encryptionKey.getBytes(UTF_8));
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.fleencorp.base.adapter.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fleencorp.base.adapter.cache.ResponseCache;
+import com.fleencorp.base.adapter.cache.SingleFlight;
+import com.fleencorp.base.adapter.logging.AdapterLoggingProperties;
+import com.fleencorp.base.adapter.metrics.AdapterMetrics;
+import com.fleencorp.base.adapter.resilience.RateLimiter;
+import com.fleencorp.base.adapter.resilience.ResilienceRegistry;
+import com.fleencorp.base.adapter.resilience.RetryPolicy;
+import com.fleencorp.base.adapter.transport.AdapterTransportFactory;
+import com.fleencorp.base.adapter.transport.AdapterTransportProperties;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The infrastructure shared by adapters: their transport, serialization, logging, resilience, caching and metrics.
+ *
+ * <p>A context is built once, typically as a bean, and passed to the constructor of every adapter, so adapters never
+ * depend on when or whether global defaults were registered. A {@code null} guard, cache or coalescer disables that
+ * feature. A {@code null} object mapper, logging settings or metrics are replaced by their defaults.</p>
+ *
+ * <p>Adapters built with a constructor that takes no context use the context registered with
+ * {@link #setConfigured(AdapterContext)}, which the configuration of the application does for its context bean, or
+ * {@link #defaults()} when none is registered.</p>
+ *
+ * @param transportFactory   the factory of the pooled HTTP transport
+ * @param objectMapper       the mapper serializing request bodies
+ * @param loggingProperties  the settings of the request and response log lines
+ * @param resilienceRegistry the registry of circuit breakers and bulkheads, or {@code null} if calls are not guarded
+ * @param retryPolicy        the policy retrying and hedging idempotent calls, or {@code null} if calls are not retried
+ * @param responseCache      the cache answering repeated GET calls, or {@code null} if responses are not cached
+ * @param singleFlight       the coalescer of concurrent identical calls, or {@code null} if calls are not coalesced
+ * @param rateLimiter        the rate limiter pacing calls, or {@code null} if calls are not rate limited
+ * @param adapterMetrics     the metrics recording calls
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record AdapterContext(
+    AdapterTransportFactory transportFactory,
+    ObjectMapper objectMapper,
+    AdapterLoggingProperties loggingProperties,
+    ResilienceRegistry resilienceRegistry,
+    RetryPolicy retryPolicy,
+    ResponseCache responseCache,
+    SingleFlight singleFlight,
+    RateLimiter rateLimiter,
+    AdapterMetrics adapterMetrics) {
+
+  /**
+   * The context registered by the application, or {@code null} if none is.
+   */
+  private static final AtomicReference<AdapterContext> CONFIGURED = new AtomicReference<>();
+
+  public AdapterContext {
+    requireNonNull(transportFactory, "transportFactory");
+    objectMapper = isNull(objectMapper) ? defaultObjectMapper() : objectMapper;
+    loggingProperties = isNull(loggingProperties) ? AdapterLoggingProperties.defaults() : loggingProperties;
+    adapterMetrics = isNull(adapterMetrics) ? AdapterMetrics.NOOP : adapterMetrics;
+  }
+
+  /**
+   * Registers the context of the application, used by adapters constructed without a context from then on. Adapters
+   * already constructed keep the context they resolved.
+   *
+   * @param context the context of the application, or {@code null} to fall back to {@link #defaults()} again
+   */
+  public static void setConfigured(final AdapterContext context) {
+    CONFIGURED.set(context);
+  }
+
+  /**
+   * Returns the context registered with {@link #setConfigured(AdapterContext)}, or {@link #defaults()} if none is.
+   *
+   * @return the context of adapters constructed without a context
+   */
+  public static AdapterContext configured() {
+    final AdapterContext context = CONFIGURED.get();
+    return nonNull(context) ? context : defaults();
+  }
+
+  /**
+   * Returns the context used when the application registers none: the default transport settings, the
+   * {@link #defaultObjectMapper() default object mapper}, the default logging settings, no metrics and none of the
+   * optional guards. The context is created on first use and never replaced.
+   *
+   * @return the default context
+   */
+  public static AdapterContext defaults() {
+    return DefaultHolder.DEFAULT;
+  }
+
+  /**
+   * Creates the object mapper of contexts built without one. It registers the Jackson modules found on the classpath,
+   * such as the java.time module, as the mapper configured by Spring Boot does.
+   *
+   * @return a new object mapper
+   */
+  public static ObjectMapper defaultObjectMapper() {
+    return JsonMapper.builder()
+      .findAndAddModules()
+      .build();
+  }
+
+  /**
+   * Holds the default context, so its transport is only created when an adapter first needs it.
+   */
+  private static final class DefaultHolder {
+
+    private static final AdapterContext DEFAULT = new AdapterContext(
+      new AdapterTransportFactory(AdapterTransportProperties.defaults()),
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      null);
+  }
+}
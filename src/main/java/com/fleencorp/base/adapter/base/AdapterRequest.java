@@ -0,0 +1,33 @@
+package com.fleencorp.base.adapter.base;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An HTTP request prepared by an adapter, with its body already serialized.
+ *
+ * <p>The body is serialized once when the request is created, and the same bytes are sent on the wire and written
+ * to the logs, so a call never serializes its payload more than once.</p>
+ *
+ * @param uri     the URI the request is sent to
+ * @param method  the HTTP method of the request
+ * @param headers the headers of the request
+ * @param body    the serialized body of the request, empty if the request has no body
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record AdapterRequest(URI uri, HttpMethod method, HttpHeaders headers, byte[] body) {
+
+  /**
+   * Returns the body of the request decoded as UTF-8, for logging.
+   *
+   * @return the body as a string
+   */
+  public String bodyAsString() {
+    return new String(body, UTF_8);
+  }
+}
@@ -1,9 +1,24 @@
 package com.fleencorp.base.adapter.base;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.base.adapter.cache.ResponseCache;
+import com.fleencorp.base.adapter.cache.SingleFlight;
+import com.fleencorp.base.adapter.logging.AdapterLogger;
+import com.fleencorp.base.adapter.metrics.AdapterCall;
+import com.fleencorp.base.adapter.metrics.AdapterMetrics;
+import com.fleencorp.base.adapter.metrics.CallOutcome;
+import com.fleencorp.base.adapter.resilience.Bulkhead;
+import com.fleencorp.base.adapter.resilience.CircuitBreaker;
+import com.fleencorp.base.adapter.resilience.RateLimiter;
+import com.fleencorp.base.adapter.resilience.ResilienceProperties;
+import com.fleencorp.base.adapter.resilience.ResilienceRegistry;
+import com.fleencorp.base.adapter.resilience.RetryPolicy;
+import com.fleencorp.base.adapter.transport.ResponseSizeInterceptor;
 import com.fleencorp.base.constant.base.ApiParameter;
 import com.fleencorp.base.constant.base.EndpointBlock;
+import com.fleencorp.base.exception.externalsystem.ExternalSystemException;
 import com.fleencorp.base.util.security.AuthUtil;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Setter;
@@ -14,18 +29,45 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
@@ -34,6 +76,12 @@ import static org.springframework.http.MediaType.APPLICATION_JSON;
  * This class encapsulates common functionality such as initializing REST clients,
  * building URIs, setting headers, and making HTTP calls.
  *
+ * <p>The infrastructure of an adapter, such as its pooled transport, guards, caches and metrics, comes from the
+ * {@link AdapterContext} it is constructed with, typically the context bean of the application shared by every adapter,
+ * so connections and TLS sessions are reused across calls and adapters. Adapters constructed without a context use
+ * {@link AdapterContext#configured()}, the context bean once it is created, or else the defaults. Any component can
+ * still be replaced on a single adapter through its setter.</p>
+ *
  * @author Yusuf Alamu Musa
  * @version 1.0
  */
@@ -42,6 +90,24 @@ public class BaseAdapter {
 
   protected static final Logger log = LoggerFactory.getLogger(BaseAdapter.class);
 
+  /**
+   * The executor running asynchronous calls, one virtual thread per call.
+   */
+  private static final ExecutorService ASYNC_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+  private static final byte[] EMPTY_BODY = new byte[0];
+
+  /**
+   * The length from which a path segment containing a digit is taken for a variable value, such as an opaque id.
+   */
+  private static final int MIN_OPAQUE_SEGMENT_LENGTH = 16;
+
+  /**
+   * The object mapper of {@link #getPayloadBodyAsString(Object)}. Building an {@link ObjectMapper} is expensive, so a
+   * single instance is shared and its serializer caches stay warm.
+   */
+  private static final ObjectMapper PAYLOAD_OBJECT_MAPPER = AdapterContext.defaultObjectMapper();
+
   /**
    * The base URL for the API endpoints.
    */
@@ -58,12 +124,89 @@ public class BaseAdapter {
    */
   protected final RestClient restClient;
 
+  /**
+   * The AdapterContext providing the infrastructure of this adapter that is not set on it explicitly.
+   */
+  protected final AdapterContext context;
+
+  /**
+   * The ObjectMapper used to serialize request bodies, or {@code null} to use the mapper of the context.
+   */
+  protected ObjectMapper objectMapper;
+
+  /**
+   * The AdapterLogger writing the request and response log lines, or {@code null} to use one with the settings of
+   * the context.
+   */
+  protected AdapterLogger adapterLogger;
+
+  /**
+   * The ResilienceRegistry providing the circuit breaker and bulkhead of this adapter, or {@code null} to use the
+   * registry of the context.
+   */
+  protected ResilienceRegistry resilienceRegistry;
+
+  /**
+   * The RetryPolicy retrying and hedging idempotent calls of this adapter, or {@code null} to use the policy of the context.
+   */
+  protected RetryPolicy retryPolicy;
+
+  /**
+   * The RateLimiter pacing the calls of this adapter, or {@code null} to use the one of the context.
+   */
+  protected RateLimiter rateLimiter;
+
+  /**
+   * The AdapterMetrics recording the calls of this adapter, or {@code null} to use the metrics of the context.
+   */
+  protected AdapterMetrics adapterMetrics;
+
+  /**
+   * The ResponseCache answering repeated GET calls of this adapter, or {@code null} to use the cache of the context.
+   */
+  protected ResponseCache responseCache;
+
+  /**
+   * The SingleFlight coalescing concurrent identical calls of this adapter, or {@code null} to use the one of the context.
+   */
+  protected SingleFlight singleFlight;
+
+  /**
+   * The endpoint templates compiled by this adapter, used to name the route of its calls in the metrics.
+   */
+  private final List<EndpointTemplate> endpointTemplates = new CopyOnWriteArrayList<>();
+
+  /**
+   * Constructs a new {@code BaseAdapter} with the specified base URL, {@link RestTemplate}, {@link RestClient} and
+   * {@link AdapterContext}.
+   *
+   * <p>A {@code null} client is replaced by one using the pooled transport of the context.</p>
+   *
+   * @param baseUrl      the base URL for the REST API endpoints that this adapter will interact with.
+   * @param restTemplate the {@link RestTemplate} used for making HTTP requests.
+   * @param restClient   the {@link RestClient} used for managing HTTP client configurations and requests.
+   * @param context      the {@link AdapterContext} providing the infrastructure of this adapter.
+   */
+  protected BaseAdapter(
+      final String baseUrl,
+      final RestTemplate restTemplate,
+      final RestClient restClient,
+      final AdapterContext context) {
+    this.baseUrl = baseUrl;
+    this.context = context;
+    this.restTemplate = nonNull(restTemplate) ? restTemplate : context.transportFactory().createRestTemplate();
+    this.restClient = nonNull(restClient) ? restClient : context.transportFactory().createRestClient();
+  }
+
   /**
    * Constructs a new {@code BaseAdapter} with the specified base URL, {@link RestTemplate}, and {@link RestClient}.
    *
    * <p>This protected constructor initializes the {@code BaseAdapter} with the given base URL,
    * a {@link RestTemplate} for HTTP requests, and a custom {@link RestClient} for additional client configurations
-   * or features. It sets up the adapter with the necessary components for making RESTful calls to external services.</p>
+   * or features. It sets up the adapter with the necessary components for making RESTful calls to external services.
+   * The adapter uses {@link AdapterContext#configured()}, resolved once here: a Spring bean built with this
+   * constructor gets the context bean if it is created after it, for example by depending on {@code adapterContext}.
+   * A {@code null} client is replaced by one using the transport of that context.</p>
    *
    * @param baseUrl      the base URL for the REST API endpoints that this adapter will interact with.
    * @param restTemplate the {@link RestTemplate} used for making HTTP requests.
@@ -73,9 +216,28 @@ public class BaseAdapter {
       final String baseUrl,
       final RestTemplate restTemplate,
       final RestClient restClient) {
-    this.baseUrl = baseUrl;
-    this.restTemplate = restTemplate;
-    this.restClient = restClient;
+    this(baseUrl, restTemplate, restClient, AdapterContext.configured());
+  }
+
+  /**
+   * Constructs a new {@code BaseAdapter} with the specified base URL and the clients and infrastructure of the given
+   * context.
+   *
+   * @param baseUrl the base URL for the REST API endpoints that this adapter will interact with.
+   * @param context the {@link AdapterContext} providing the transport and infrastructure of this adapter.
+   */
+  protected BaseAdapter(final String baseUrl, final AdapterContext context) {
+    this(baseUrl, null, null, context);
+  }
+
+  /**
+   * Constructs a new {@code BaseAdapter} with the specified base URL and {@link AdapterContext#configured()},
+   * resolved once when the adapter is constructed.
+   *
+   * @param baseUrl the base URL for the REST API endpoints that this adapter will interact with.
+   */
+  protected BaseAdapter(final String baseUrl) {
+    this(baseUrl, AdapterContext.configured());
   }
 
   /**
@@ -90,40 +252,7 @@ public class BaseAdapter {
    */
   public <T> ResponseEntity<T> doCall(@NonNull final URI uri, @NonNull final HttpMethod method,
                                       @Nullable final Map<String, String> headers, @Nullable final Object body, @NonNull final Class<T> responseModel) {
-    // Log the HTTP call details
-    log.info(String.format("HTTP call to url=%s with method=%s and body=%s", uri, method.name(),
-      getPayloadBodyAsString(body)));
-
-    // Set request headers
-    final HttpHeaders requestHeaders = getHeaders();
-    if (headers != null) {
-      headers.forEach(requestHeaders::add);
-    }
-
-    try {
-      // Make the HTTP call using the RestClient
-      return restClient
-        .method(method)
-        .uri(uri)
-        .headers(newHeaders -> newHeaders.addAll(requestHeaders))
-        .body(nonNull(body) ? body : "")
-        .retrieve()
-        .toEntity(responseModel);
-    } catch (final HttpStatusCodeException e) {
-      // Handle HTTP status code errors
-      log.error(String.format(
-        "An error occurred while HTTP call to url=%s with method=%s and body=%s: %s", uri,
-        method.name(),
-        getPayloadBodyAsString(body), e.getMessage()));
-      final HttpHeaders errorHeaders = e.getResponseHeaders();
-      final String errorBody = e.getResponseBodyAsString();
-
-      return ResponseEntity.status(e.getStatusCode())
-        .headers(errorHeaders).body((T) errorBody);
-    } catch (ResourceAccessException e) {
-      log.error("Connection error while calling {} {}: {}", method, uri, e.getMessage());
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-    }
+    return doCall(uri, method, headers, body, ParameterizedTypeReference.<T>forType(responseModel));
   }
 
   /**
@@ -137,6 +266,10 @@ public class BaseAdapter {
    * it catches the {@link HttpStatusCodeException} and logs the error details, then returns an
    * appropriate {@link ResponseEntity} containing the error status, headers, and body.</p>
    *
+   * <p>The body is serialized exactly once, by {@link #serializeBody(Object)}, and the resulting bytes are both
+   * sent and logged. Log lines are written by the {@link AdapterLogger} of this adapter, which only formats them when
+   * its level is enabled.</p>
+   *
    * @param <T>           the type of the response body.
    * @param uri           the {@link URI} to which the HTTP request is sent. Must not be {@code null}.
    * @param method        the {@link HttpMethod} to use for the request. Must not be {@code null}.
@@ -145,45 +278,602 @@ public class BaseAdapter {
    * @param responseModel a {@link ParameterizedTypeReference} indicating the type of the response body. Must not be {@code null}.
    * @return a {@link ResponseEntity} containing the response status, headers, and body of type {@code T}.
    * @throws HttpStatusCodeException if the HTTP call results in an error response status.
+   * @throws IllegalArgumentException if the body cannot be serialized, in which case no request is sent.
    */
   public <T> ResponseEntity<T> doCall(@NonNull final URI uri, @NonNull final HttpMethod method,
                                       @Nullable final Map<String, String> headers, @Nullable final Object body,
                                       @NonNull final ParameterizedTypeReference<T> responseModel) {
+    return execute(createRequest(uri, method, headers, body), responseModel);
+  }
 
-    log.info(String.format("HTTP call to url=%s with method=%s and body=%s", uri, method.name(),
-      getPayloadBodyAsString(body)));
+  /**
+   * Makes an HTTP call and returns the response body as a stream, without reading it into memory.
+   *
+   * <p>The response body, including the body of an error response, is read directly from the connection as the
+   * caller consumes it, so heap use does not grow with the size of the response. The caller must close the returned
+   * stream, which releases the connection. Streamed calls are not cached, coalesced or retried, since their body can
+   * only be read once.</p>
+   *
+   * <p>Streamed calls are otherwise guarded like other calls: they are paced by the {@link RateLimiter}, and go
+   * through the circuit breaker and bulkhead of this adapter. The circuit breaker judges the call by its status and
+   * by the time its response headers took to arrive. The bulkhead slot is held until the stream is closed, since
+   * the connection stays in use while the body is read. The call is recorded in the {@link AdapterMetrics} once the
+   * stream is closed, with the number of bytes read and the time until it was closed.</p>
+   *
+   * @param uri     the {@link URI} to which the HTTP request is sent. Must not be {@code null}.
+   * @param method  the {@link HttpMethod} to use for the request. Must not be {@code null}.
+   * @param headers a map of additional headers to include in the request, may be {@code null}.
+   * @param body    the request body to be sent, may be {@code null}.
+   * @return a {@link ResponseEntity} with the response status and headers, and the response body as an
+   *         {@link InputStream}, or an empty {@link HttpStatus#INTERNAL_SERVER_ERROR} response on connection errors.
+   * @throws ExternalSystemException if the rate limit is exceeded, the circuit is open or the bulkhead is full.
+   */
+  public ResponseEntity<InputStream> doCallForStream(@NonNull final URI uri, @NonNull final HttpMethod method,
+                                                     @Nullable final Map<String, String> headers, @Nullable final Object body) {
+    final AdapterRequest request = createRequest(uri, method, headers, body);
+    return executeRateLimited(request, () -> executeGuarded(request, true, release -> sendForStream(request, release)));
+  }
 
+  /**
+   * Makes an HTTP call whose response is a JSON array, and returns its elements as a lazily read {@link Stream}.
+   *
+   * <p>Elements are read one at a time with a Jackson streaming parser as the stream is consumed, so only the
+   * current element is held in memory. A response that is not a JSON array is read as a sequence of root-level
+   * values. The caller must close the returned stream, for example with try-with-resources, which releases the
+   * connection. For error responses and connection errors, the status is returned with an empty stream.</p>
+   *
+   * @param <T>         the type of the elements.
+   * @param uri         the {@link URI} to which the HTTP request is sent. Must not be {@code null}.
+   * @param method      the {@link HttpMethod} to use for the request. Must not be {@code null}.
+   * @param headers     a map of additional headers to include in the request, may be {@code null}.
+   * @param body        the request body to be sent, may be {@code null}.
+   * @param elementType the type of the elements of the array. Must not be {@code null}.
+   * @return a {@link ResponseEntity} with the response status and headers, and the elements of the response body.
+   */
+  public <T> ResponseEntity<Stream<T>> doCallForStream(@NonNull final URI uri, @NonNull final HttpMethod method,
+                                                       @Nullable final Map<String, String> headers, @Nullable final Object body,
+                                                       @NonNull final Class<T> elementType) {
+    final ResponseEntity<InputStream> response = doCallForStream(uri, method, headers, body);
+    final InputStream responseBody = response.getBody();
+    if (!response.getStatusCode().is2xxSuccessful() || isNull(responseBody)) {
+      closeQuietly(responseBody);
+      return ResponseEntity.status(response.getStatusCode())
+        .headers(response.getHeaders())
+        .body(Stream.empty());
+    }
+
+    try {
+      final MappingIterator<T> elements = getObjectMapper().readerFor(elementType).readValues(responseBody);
+      final Stream<T> stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false)
+        .onClose(() -> {
+          closeQuietly(elements);
+          closeQuietly(responseBody);
+        });
+      return ResponseEntity.status(response.getStatusCode())
+        .headers(response.getHeaders())
+        .body(stream);
+    } catch (final IOException e) {
+      closeQuietly(responseBody);
+      log.error("Reading the response of {} {} failed: {}", method, uri, e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  /**
+   * Prepares a request: merges the given headers into the default headers and serializes the body.
+   *
+   * @param uri     the URI of the request
+   * @param method  the HTTP method of the request
+   * @param headers the additional headers of the request, may be {@code null}
+   * @param body    the body of the request, may be {@code null}
+   * @return the prepared request
+   */
+  protected AdapterRequest createRequest(@NonNull final URI uri, @NonNull final HttpMethod method,
+                                         @Nullable final Map<String, String> headers, @Nullable final Object body) {
     final HttpHeaders requestHeaders = getHeaders();
     if (headers != null) {
       headers.forEach(requestHeaders::add);
     }
+    return new AdapterRequest(uri, method, requestHeaders, serializeBody(body));
+  }
+
+  /**
+   * Executes a prepared request, answering {@code GET} requests from the {@link ResponseCache} of this adapter when
+   * one is configured and the cached response is still fresh or revalidated.
+   *
+   * @param <T>           the type of the response body.
+   * @param request       the request to send, with its body already serialized.
+   * @param responseModel a {@link ParameterizedTypeReference} indicating the type of the response body.
+   * @return a {@link ResponseEntity} containing the response status, headers, and body of type {@code T}.
+   * @throws ExternalSystemException if the circuit is open or the bulkhead is full.
+   */
+  protected <T> ResponseEntity<T> execute(@NonNull final AdapterRequest request, @NonNull final ParameterizedTypeReference<T> responseModel) {
+    final ResponseCache responseCache = getResponseCache();
+    if (nonNull(responseCache) && responseCache.isCacheable(request)) {
+      return responseCache.execute(getResilienceName(), request, responseModel, sentRequest -> executeCoalesced(sentRequest, responseModel));
+    }
+    return executeCoalesced(request, responseModel);
+  }
+
+  /**
+   * Executes a prepared request, sharing the call of an identical request already in flight when a
+   * {@link SingleFlight} is configured for this adapter and coalesces the method of the request.
+   *
+   * @param <T>           the type of the response body.
+   * @param request       the request to send, with its body already serialized.
+   * @param responseModel a {@link ParameterizedTypeReference} indicating the type of the response body.
+   * @return a {@link ResponseEntity} containing the response status, headers, and body of type {@code T}.
+   * @throws ExternalSystemException if the circuit is open or the bulkhead is full.
+   */
+  protected <T> ResponseEntity<T> executeCoalesced(@NonNull final AdapterRequest request, @NonNull final ParameterizedTypeReference<T> responseModel) {
+    final SingleFlight singleFlight = getSingleFlight();
+    if (nonNull(singleFlight) && singleFlight.isCoalesced(request)) {
+      return singleFlight.execute(request, responseModel, sentRequest -> executeWithRetry(sentRequest, responseModel));
+    }
+    return executeWithRetry(request, responseModel);
+  }
+
+  /**
+   * Executes a prepared request, retrying or hedging it with the {@link RetryPolicy} of this adapter when one is
+   * configured. Only idempotent calls are retried; each attempt goes through {@link #executeRateLimited}, so every
+   * attempt is paced and an open circuit stops the retries.
+   *
+   * @param <T>           the type of the response body.
+   * @param request       the request to send, with its body already serialized.
+   * @param responseModel a {@link ParameterizedTypeReference} indicating the type of the response body.
+   * @return a {@link ResponseEntity} containing the response status, headers, and body of type {@code T}.
+   * @throws ExternalSystemException if the circuit is open or the bulkhead is full.
+   */
+  protected <T> ResponseEntity<T> executeWithRetry(@NonNull final AdapterRequest request, @NonNull final ParameterizedTypeReference<T> responseModel) {
+    final RetryPolicy retryPolicy = getRetryPolicy();
+    if (isNull(retryPolicy)) {
+      return executeRateLimited(request, responseModel);
+    }
+    return retryPolicy.execute(getResilienceName(), request.method(), () -> executeRateLimited(request, responseModel));
+  }
+
+  /**
+   * Executes one attempt of a prepared request once the {@link RateLimiter} of this adapter, when one is configured,
+   * lets it through, and adjusts the rate limiter to the quota headers of the response.
+   *
+   * @param <T>           the type of the response body.
+   * @param request       the request to send, with its body already serialized.
+   * @param responseModel a {@link ParameterizedTypeReference} indicating the type of the response body.
+   * @return a {@link ResponseEntity} containing the response status, headers, and body of type {@code T}.
+   * @throws ExternalSystemException if the rate limit is exceeded, the circuit is open or the bulkhead is full.
+   */
+  protected <T> ResponseEntity<T> executeRateLimited(@NonNull final AdapterRequest request, @NonNull final ParameterizedTypeReference<T> responseModel) {
+    return executeRateLimited(request, () -> executeGuarded(request, responseModel));
+  }
+
+  /**
+   * Runs one attempt of a request once the rate limiter lets it through, and adjusts the rate limiter to the quota
+   * headers of the response.
+   */
+  private <T> ResponseEntity<T> executeRateLimited(final AdapterRequest request, final Supplier<ResponseEntity<T>> call) {
+    final RateLimiter rateLimiter = getRateLimiter();
+    if (isNull(rateLimiter)) {
+      return call.get();
+    }
+
+    final String name = getResilienceName();
+    if (!rateLimiter.acquire(name, request.uri())) {
+      throw new ExternalSystemException(name);
+    }
+    final ResponseEntity<T> response = call.get();
+    rateLimiter.onResponse(name, request.uri(), response.getStatusCode(), response.getHeaders());
+    return response;
+  }
+
+  /**
+   * Executes one attempt of a prepared request, guarded by the circuit breaker and bulkhead of this adapter when a
+   * {@link ResilienceRegistry} is configured.
+   *
+   * <p>A call that finds the circuit open, or no free slot in the bulkhead, fails fast with an
+   * {@link ExternalSystemException} instead of waiting on a struggling external system. Responses with a server
+   * error status, including the {@link HttpStatus#INTERNAL_SERVER_ERROR} reported for connection errors, and calls
+   * slower than {@link ResilienceProperties#slowCallThreshold()} count as failures of the circuit.</p>
+   *
+   * @param <T>           the type of the response body.
+   * @param request       the request to send, with its body already serialized.
+   * @param responseModel a {@link ParameterizedTypeReference} indicating the type of the response body.
+   * @return a {@link ResponseEntity} containing the response status, headers, and body of type {@code T}.
+   * @throws ExternalSystemException if the circuit is open or the bulkhead is full.
+   */
+  protected <T> ResponseEntity<T> executeGuarded(@NonNull final AdapterRequest request, @NonNull final ParameterizedTypeReference<T> responseModel) {
+    return executeGuarded(request, false, release -> send(request, responseModel));
+  }
+
+  /**
+   * Runs one attempt of a request guarded by the circuit breaker and bulkhead. The call is given the action releasing
+   * its bulkhead slot. Unless the slot is held, it is released once the call returns; a held slot is only released
+   * by that action, for example once the response body is closed, or straight away if the response has no body.
+   */
+  private <T> ResponseEntity<T> executeGuarded(final AdapterRequest request, final boolean holdPermit,
+                                               final Function<Runnable, ResponseEntity<T>> call) {
+    final ResilienceRegistry registry = getResilienceRegistry();
+    if (isNull(registry)) {
+      return call.apply(() -> {});
+    }
+
+    final String name = getResilienceName();
+    final Bulkhead bulkhead = registry.bulkhead(name);
+    if (!bulkhead.tryAcquire()) {
+      log.warn("Bulkhead {} is full, rejecting {} {}", name, request.method(), request.uri());
+      throw new ExternalSystemException(name);
+    }
+
+    final AtomicBoolean released = new AtomicBoolean();
+    final Runnable release = () -> {
+      if (released.compareAndSet(false, true)) {
+        bulkhead.release();
+      }
+    };
+    boolean permitHeld = false;
+    try {
+      final CircuitBreaker circuitBreaker = registry.circuitBreaker(name);
+      if (!circuitBreaker.tryAcquirePermission()) {
+        log.warn("Circuit breaker {} is {}, rejecting {} {}", name, circuitBreaker.getState(), request.method(), request.uri());
+        throw new ExternalSystemException(name);
+      }
+
+      final long startedAt = System.nanoTime();
+      boolean failed = true;
+      try {
+        final ResponseEntity<T> response = call.apply(release);
+        failed = response.getStatusCode().is5xxServerError()
+          || System.nanoTime() - startedAt > registry.getProperties().slowCallThreshold().toNanos();
+        permitHeld = holdPermit && nonNull(response.getBody());
+        return response;
+      } finally {
+        if (failed) {
+          circuitBreaker.onFailure();
+        } else {
+          circuitBreaker.onSuccess();
+        }
+      }
+    } finally {
+      if (!permitHeld) {
+        release.run();
+      }
+    }
+  }
+
+  /**
+   * Sends a prepared request with the configured {@link RestClient}, recording the call in the
+   * {@link AdapterMetrics} of this adapter.
+   *
+   * <p>HTTP error responses are returned as a {@link ResponseEntity} holding the error status, headers and body,
+   * and connection errors as an empty {@link HttpStatus#INTERNAL_SERVER_ERROR} response. Other client errors, such as
+   * a response body that cannot be read as the response model, are thrown. The size of the response is the number of
+   * body bytes actually received, as counted by the {@link ResponseSizeInterceptor} of the transport.</p>
+   *
+   * @param <T>           the type of the response body.
+   * @param request       the request to send, with its body already serialized.
+   * @param responseModel a {@link ParameterizedTypeReference} indicating the type of the response body.
+   * @return a {@link ResponseEntity} containing the response status, headers, and body of type {@code T}.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> ResponseEntity<T> send(@NonNull final AdapterRequest request, @NonNull final ParameterizedTypeReference<T> responseModel) {
+    final AdapterLogger adapterLogger = getAdapterLogger();
+    final AdapterMetrics adapterMetrics = getAdapterMetrics();
+    final String name = getResilienceName();
+    final String route = getRoute(request.uri());
+    adapterLogger.logRequest(request);
+    adapterMetrics.callStarted(name, route);
+    final long startedAt = System.nanoTime();
+    final AtomicLong bytesRead = new AtomicLong(-1);
+    int status = 0;
+    CallOutcome outcome = CallOutcome.OTHER_ERROR;
 
     try {
-      return restClient
-        .method(method)
-        .uri(uri)
-        .headers(newHeaders -> newHeaders.addAll(requestHeaders))
-        .body(getPayloadBodyAsString(body))
+      final ResponseEntity<T> response = restClient
+        .method(request.method())
+        .uri(request.uri())
+        .headers(newHeaders -> newHeaders.addAll(request.headers()))
+        .attribute(ResponseSizeInterceptor.BYTES_READ_ATTRIBUTE, bytesRead)
+        .body(request.body())
         .retrieve()
         .toEntity(responseModel);
+      status = response.getStatusCode().value();
+      outcome = CallOutcome.SUCCESS;
+      adapterLogger.logResponse(request, response.getStatusCode(), System.nanoTime() - startedAt);
+      return response;
     } catch (final HttpStatusCodeException e) {
-      log.error(String.format(
-        "An error occurred while HTTP call to url=%s with method=%s and body=%s: %s", uri,
-        method.name(),
-        getPayloadBodyAsString(body), e.getMessage()));
+      status = e.getStatusCode().value();
+      outcome = CallOutcome.HTTP_STATUS_ERROR;
+      adapterLogger.logFailure(request, e.getStatusCode(), e.getMessage(), System.nanoTime() - startedAt);
       final HttpHeaders errorHeaders = e.getResponseHeaders();
       final String errorBody = e.getResponseBodyAsString();
 
       return ResponseEntity.status(e.getStatusCode())
         .headers(errorHeaders)
         .body((T) errorBody);
-    } catch (ResourceAccessException e) {
-      log.error("Connection error while calling {} {}: {}", method, uri, e.getMessage());
+    } catch (final ResourceAccessException e) {
+      outcome = CallOutcome.RESOURCE_ACCESS_ERROR;
+      adapterLogger.logFailure(request, null, e.getMessage(), System.nanoTime() - startedAt);
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    } catch (final RestClientException e) {
+      // For example a response that cannot be read as the response model, recorded as the default OTHER_ERROR
+      adapterLogger.logFailure(request, null, e.getMessage(), System.nanoTime() - startedAt);
+      throw e;
+    } finally {
+      adapterMetrics.callCompleted(new AdapterCall(name, route, request.method(), status, outcome,
+        request.body().length, bytesRead.get(), System.nanoTime() - startedAt));
     }
   }
 
+  /**
+   * Sends a prepared request and returns its response body as a stream, recording the call in the
+   * {@link AdapterMetrics} of this adapter once the stream is closed.
+   *
+   * @param request the request to send, with its body already serialized.
+   * @param onClose run once the returned stream is closed.
+   * @return a {@link ResponseEntity} with the response status and headers, and the response body as an
+   *         {@link InputStream}, or an empty {@link HttpStatus#INTERNAL_SERVER_ERROR} response on connection errors.
+   */
+  protected ResponseEntity<InputStream> sendForStream(@NonNull final AdapterRequest request, @NonNull final Runnable onClose) {
+    final AdapterLogger adapterLogger = getAdapterLogger();
+    final AdapterMetrics adapterMetrics = getAdapterMetrics();
+    final String name = getResilienceName();
+    final String route = getRoute(request.uri());
+    adapterLogger.logRequest(request);
+    adapterMetrics.callStarted(name, route);
+    final long startedAt = System.nanoTime();
+    final AtomicLong bytesRead = new AtomicLong(-1);
+    boolean streamed = false;
+    CallOutcome outcome = CallOutcome.OTHER_ERROR;
 
+    try {
+      final ResponseEntity<InputStream> response = restClient
+        .method(request.method())
+        .uri(request.uri())
+        .headers(newHeaders -> newHeaders.addAll(request.headers()))
+        .attribute(ResponseSizeInterceptor.BYTES_READ_ATTRIBUTE, bytesRead)
+        .body(request.body())
+        .exchange((clientRequest, clientResponse) -> {
+          final int status = clientResponse.getStatusCode().value();
+          final CallOutcome responseOutcome = clientResponse.getStatusCode().isError()
+            ? CallOutcome.HTTP_STATUS_ERROR
+            : CallOutcome.SUCCESS;
+          final InputStream responseBody = new ResponseClosingInputStream(clientResponse, () -> {
+            adapterMetrics.callCompleted(new AdapterCall(name, route, request.method(), status, responseOutcome,
+              request.body().length, bytesRead.get(), System.nanoTime() - startedAt));
+            onClose.run();
+          });
+          return ResponseEntity.status(clientResponse.getStatusCode())
+            .headers(clientResponse.getHeaders())
+            .body(responseBody);
+        }, false);
+      streamed = true;
+      adapterLogger.logResponse(request, response.getStatusCode(), System.nanoTime() - startedAt);
+      return response;
+    } catch (final ResourceAccessException e) {
+      outcome = CallOutcome.RESOURCE_ACCESS_ERROR;
+      adapterLogger.logFailure(request, null, e.getMessage(), System.nanoTime() - startedAt);
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    } finally {
+      if (!streamed) {
+        adapterMetrics.callCompleted(new AdapterCall(name, route, request.method(), 0, outcome,
+          request.body().length, bytesRead.get(), System.nanoTime() - startedAt));
+      }
+    }
+  }
+
+  /**
+   * Serializes a request body once, into the bytes sent on the wire.
+   *
+   * <p>A {@code String} is sent as is, a {@code byte[]} is sent unchanged, and any other object is written as JSON
+   * with the {@link ObjectMapper} of this adapter. A {@code null} body results in an empty body, while a body that
+   * cannot be serialized fails the call before anything is sent.</p>
+   *
+   * @param body the request body, may be {@code null}
+   * @return the serialized body
+   * @throws IllegalArgumentException if the body cannot be serialized
+   */
+  protected byte[] serializeBody(@Nullable final Object body) {
+    if (body == null) {
+      return EMPTY_BODY;
+    }
+    if (body instanceof final String text) {
+      return text.getBytes(UTF_8);
+    }
+    if (body instanceof final byte[] bytes) {
+      return bytes;
+    }
+
+    try {
+      return getObjectMapper().writeValueAsBytes(body);
+    } catch (final JsonProcessingException ex) {
+      throw new IllegalArgumentException(String.format("Serialization of the request body of type %s failed",
+        body.getClass().getName()), ex);
+    }
+  }
+
+  /**
+   * Returns the {@link ObjectMapper} used to serialize request bodies: the one set on this adapter, or else the
+   * mapper of the context.
+   *
+   * @return the object mapper of this adapter
+   */
+  protected ObjectMapper getObjectMapper() {
+    return nonNull(objectMapper) ? objectMapper : context.objectMapper();
+  }
+
+  /**
+   * Returns the {@link AdapterLogger} writing the log lines of calls: the one set on this adapter, or else a logger
+   * with the settings of the context writing to the log of {@code BaseAdapter}.
+   *
+   * @return the adapter logger of this adapter
+   */
+  protected AdapterLogger getAdapterLogger() {
+    AdapterLogger logger = adapterLogger;
+    if (isNull(logger)) {
+      logger = new AdapterLogger(log, context.loggingProperties());
+      adapterLogger = logger;
+    }
+    return logger;
+  }
+
+  /**
+   * Returns the {@link ResilienceRegistry} holding the circuit breaker and bulkhead of this adapter: the one set on
+   * this adapter, or else the registry of the context.
+   *
+   * @return the resilience registry, or {@code null} if calls are not guarded
+   */
+  protected ResilienceRegistry getResilienceRegistry() {
+    return nonNull(resilienceRegistry) ? resilienceRegistry : context.resilienceRegistry();
+  }
+
+  /**
+   * Returns the {@link ResponseCache} of this adapter: the one set on this adapter, or else the cache of the
+   * context.
+   *
+   * @return the response cache, or {@code null} if responses are not cached
+   */
+  protected ResponseCache getResponseCache() {
+    return nonNull(responseCache) ? responseCache : context.responseCache();
+  }
+
+  /**
+   * Returns the {@link SingleFlight} of this adapter: the one set on this adapter, or else the coalescer of
+   * the context.
+   *
+   * @return the single-flight coalescer, or {@code null} if calls are not coalesced
+   */
+  protected SingleFlight getSingleFlight() {
+    return nonNull(singleFlight) ? singleFlight : context.singleFlight();
+  }
+
+  /**
+   * Returns the {@link RateLimiter} of this adapter: the one set on this adapter, or else the rate limiter
+   * of the context.
+   *
+   * @return the rate limiter, or {@code null} if calls are not rate limited
+   */
+  protected RateLimiter getRateLimiter() {
+    return nonNull(rateLimiter) ? rateLimiter : context.rateLimiter();
+  }
+
+  /**
+   * Returns the {@link AdapterMetrics} recording the calls of this adapter: the metrics set on this adapter, or else
+   * the metrics of the context.
+   *
+   * @return the adapter metrics
+   */
+  protected AdapterMetrics getAdapterMetrics() {
+    return nonNull(adapterMetrics) ? adapterMetrics : context.adapterMetrics();
+  }
+
+  /**
+   * Returns the {@link RetryPolicy} of this adapter: the one set on this adapter, or else the policy of the
+   * context.
+   *
+   * @return the retry policy, or {@code null} if calls are not retried
+   */
+  protected RetryPolicy getRetryPolicy() {
+    return nonNull(retryPolicy) ? retryPolicy : context.retryPolicy();
+  }
+
+  /**
+   * Returns the name of the circuit breaker and bulkhead of this adapter, shared by all instances of the adapter
+   * class calling the same base URL.
+   *
+   * @return the resilience name of this adapter
+   */
+  protected String getResilienceName() {
+    return getClass().getSimpleName() + "@" + baseUrl;
+  }
+
+  /**
+   * Makes an HTTP call asynchronously on a virtual thread, with the same behaviour as
+   * {@link #doCall(URI, HttpMethod, Map, Object, Class)}.
+   *
+   * <p>Several calls started this way run concurrently, so a request that needs more than one external system
+   * waits for the slowest call instead of the sum of all calls. Use {@link #awaitAll(Duration, CompletableFuture[])}
+   * to wait for them with an overall deadline. Cancelling the returned future interrupts the call.</p>
+   *
+   * @param uri            The URI to make the HTTP call to
+   * @param method         The HTTP method to use for the call
+   * @param headers        The headers to include in the request
+   * @param body           The body of the request
+   * @param responseModel  The type of the response model
+   * @return a future completed with the ResponseEntity containing the response data
+   */
+  public <T> CompletableFuture<ResponseEntity<T>> doCallAsync(@NonNull final URI uri, @NonNull final HttpMethod method,
+                                                             @Nullable final Map<String, String> headers, @Nullable final Object body,
+                                                             @NonNull final Class<T> responseModel) {
+    return AsyncCall.start(() -> doCall(uri, method, headers, body, responseModel), getAsyncExecutor());
+  }
+
+  /**
+   * Makes an HTTP call asynchronously on a virtual thread, with the same behaviour as
+   * {@link #doCall(URI, HttpMethod, Map, Object, ParameterizedTypeReference)}.
+   *
+   * @param <T>           the type of the response body.
+   * @param uri           the {@link URI} to which the HTTP request is sent. Must not be {@code null}.
+   * @param method        the {@link HttpMethod} to use for the request. Must not be {@code null}.
+   * @param headers       a map of additional headers to include in the request, may be {@code null}.
+   * @param body          the request body to be sent, may be {@code null}.
+   * @param responseModel a {@link ParameterizedTypeReference} indicating the type of the response body. Must not be {@code null}.
+   * @return a future completed with the {@link ResponseEntity} containing the response status, headers, and body.
+   */
+  public <T> CompletableFuture<ResponseEntity<T>> doCallAsync(@NonNull final URI uri, @NonNull final HttpMethod method,
+                                                             @Nullable final Map<String, String> headers, @Nullable final Object body,
+                                                             @NonNull final ParameterizedTypeReference<T> responseModel) {
+    return AsyncCall.start(() -> doCall(uri, method, headers, body, responseModel), getAsyncExecutor());
+  }
+
+  /**
+   * Waits for several asynchronous calls with an overall deadline.
+   *
+   * <p>Calls that have not completed when the deadline expires are completed with an empty
+   * {@link HttpStatus#GATEWAY_TIMEOUT} response, mirroring how {@code doCall} reports connection errors as a
+   * response rather than an exception, and the tasks of those started by {@code doCallAsync} are cancelled, which
+   * interrupts their call and releases its connection. Once this method returns every future is done, so callers can
+   * read each typed result with {@link CompletableFuture#join()}. A call that failed with an unexpected exception
+   * still throws it from {@code join()}.</p>
+   *
+   * @param deadline the maximum time to wait for all calls together
+   * @param calls    the futures returned by {@code doCallAsync}
+   * @return {@code true} if every call completed before the deadline
+   */
+  @SafeVarargs
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static boolean awaitAll(@NonNull final Duration deadline, final CompletableFuture<? extends ResponseEntity<?>>... calls) {
+    boolean completedInTime = true;
+    try {
+      CompletableFuture.allOf(calls).get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (final TimeoutException ex) {
+      completedInTime = false;
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      completedInTime = false;
+    } catch (final ExecutionException ignored) {
+      // Failed calls are reported to the caller through their own future
+    }
+
+    if (!completedInTime) {
+      for (final CompletableFuture call : calls) {
+        if (call.complete(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build())) {
+          log.warn("HTTP call did not complete within the deadline of {} ms", deadline.toMillis());
+          if (call instanceof final AsyncCall<?> asyncCall) {
+            asyncCall.cancelTask();
+          }
+        }
+      }
+    }
+    return completedInTime;
+  }
+
+  /**
+   * Returns the executor running asynchronous calls. Defaults to a shared virtual-thread-per-task executor.
+   *
+   * @return the executor of asynchronous calls
+   */
+  protected Executor getAsyncExecutor() {
+    return ASYNC_EXECUTOR;
+  }
 
   /**
    * Converts the payload body object to a string representation.
@@ -197,13 +887,43 @@ public class BaseAdapter {
       payloadAsString = (String) body;
     } else {
       try {
-        payloadAsString = new ObjectMapper().writeValueAsString(body);
+        payloadAsString = PAYLOAD_OBJECT_MAPPER.writeValueAsString(body);
       } catch (final JsonProcessingException ignored) {
       }
     }
     return payloadAsString;
   }
 
+  /**
+   * Compiles an endpoint template from the base URL of this adapter and a path that may contain {@code {name}}
+   * variables. Templates are meant to be compiled once, for example into fields of the adapter, and expanded on every
+   * call with {@link EndpointTemplate#expand(Map, Object...)}, which avoids reparsing the URL on each call. A template
+   * keeps the base URL it was compiled with. The calls to URIs expanded from the template are recorded in the metrics
+   * under its path template.
+   *
+   * @param path the path, for example {@code /users/{id}}
+   * @return the compiled template
+   */
+  protected EndpointTemplate compileEndpoint(final String path) {
+    return register(EndpointTemplate.compile(baseUrl, path));
+  }
+
+  /**
+   * Compiles an endpoint template from the base URL of this adapter and endpoint blocks, whose values may contain
+   * {@code {name}} variables.
+   *
+   * @param urlBlocks the endpoint blocks
+   * @return the compiled template
+   */
+  protected EndpointTemplate compileEndpoint(final EndpointBlock... urlBlocks) {
+    return register(EndpointTemplate.compile(baseUrl, urlBlocks));
+  }
+
+  private EndpointTemplate register(final EndpointTemplate endpointTemplate) {
+    endpointTemplates.add(endpointTemplate);
+    return endpointTemplate;
+  }
+
   /**
    * Initializes a UriComponentsBuilder with the base URL and additional endpoint blocks.
    *
@@ -299,4 +1019,155 @@ public class BaseAdapter {
     queryParams.forEach((k, v) -> uriComponentsBuilder.queryParam(k.getValue(), v));
     return uriComponentsBuilder.build().toUri();
   }
+
+  /**
+   * Returns the route of a call as recorded in the metrics: the scheme, host and port of the URI, the default port of
+   * the scheme when it has none, followed by its path without variable values, so that the calls to an endpoint are
+   * recorded together whatever the ids they carry.
+   *
+   * <p>The path is the path template of the first {@link #compileEndpoint(String) compiled endpoint} it matches.
+   * Otherwise, each path segment that looks like a variable value, made only of digits or at least
+   * {@value #MIN_OPAQUE_SEGMENT_LENGTH} characters long and containing a digit, such as a number or a UUID, is
+   * replaced by {@code {id}}. Adapters whose path variables look otherwise should compile their endpoints.</p>
+   *
+   * @param uri the URI of the call
+   * @return the route of the call, for example {@code https://api.example.com:443/users/{id}}
+   */
+  protected String getRoute(final URI uri) {
+    final String path = isNull(uri.getRawPath()) ? "" : uri.getRawPath();
+    final StringBuilder route = new StringBuilder(path.length() + 32)
+      .append(uri.getScheme()).append("://").append(uri.getHost()).append(':').append(getPort(uri));
+    for (final EndpointTemplate endpointTemplate : endpointTemplates) {
+      if (endpointTemplate.matchesPath(path)) {
+        return route.append(endpointTemplate.getPathTemplate()).toString();
+      }
+    }
+
+    int start = 0;
+    while (start < path.length()) {
+      int end = path.indexOf('/', start);
+      end = end < 0 ? path.length() : end;
+      if (isVariableValue(path, start, end)) {
+        route.append("{id}");
+      } else {
+        route.append(path, start, end);
+      }
+      if (end < path.length()) {
+        route.append('/');
+      }
+      start = end + 1;
+    }
+    return route.toString();
+  }
+
+  private static int getPort(final URI uri) {
+    if (uri.getPort() >= 0) {
+      return uri.getPort();
+    }
+    return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+  }
+
+  private static boolean isVariableValue(final String path, final int start, final int end) {
+    boolean hasDigit = false;
+    boolean onlyDigits = end > start;
+    for (int i = start; i < end; i++) {
+      final boolean digit = Character.isDigit(path.charAt(i));
+      hasDigit |= digit;
+      onlyDigits &= digit;
+    }
+    return onlyDigits || (hasDigit && end - start >= MIN_OPAQUE_SEGMENT_LENGTH);
+  }
+
+  private static void closeQuietly(final Closeable closeable) {
+    if (nonNull(closeable)) {
+      try {
+        closeable.close();
+      } catch (final IOException ignored) {
+      }
+    }
+  }
+
+  /**
+   * The future of a call made by {@code doCallAsync}, which keeps the handle of the task running the call so that the
+   * call can be interrupted when the future is cancelled or timed out by
+   * {@link #awaitAll(Duration, CompletableFuture[])}.
+   *
+   * @param <T> the type of the response body
+   */
+  private static final class AsyncCall<T> extends CompletableFuture<ResponseEntity<T>> {
+
+    private final FutureTask<Void> task;
+
+    private AsyncCall(final Supplier<ResponseEntity<T>> call) {
+      this.task = new FutureTask<>(() -> {
+        try {
+          complete(call.get());
+        } catch (final Throwable ex) {
+          completeExceptionally(ex);
+        }
+      }, null);
+    }
+
+    /**
+     * Submits the call to the executor.
+     *
+     * @param call     the call to run
+     * @param executor the executor running the call
+     * @return the future of the call
+     */
+    private static <T> AsyncCall<T> start(final Supplier<ResponseEntity<T>> call, final Executor executor) {
+      final AsyncCall<T> asyncCall = new AsyncCall<>(call);
+      executor.execute(asyncCall.task);
+      return asyncCall;
+    }
+
+    /**
+     * Cancels the task running the call, interrupting it if it has started.
+     */
+    private void cancelTask() {
+      task.cancel(true);
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+      final boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        cancelTask();
+      }
+      return cancelled;
+    }
+  }
+
+  /**
+   * The body of a streamed response, which closes the response, and so releases its connection, once closed. The
+   * close action runs once, after the response is closed.
+   */
+  private static final class ResponseClosingInputStream extends FilterInputStream {
+
+    private final ClientHttpResponse response;
+    private final Runnable onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private ResponseClosingInputStream(final ClientHttpResponse response, final Runnable onClose) throws IOException {
+      super(response.getBody());
+      this.response = response;
+      this.onClose = onClose;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!closed.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        super.close();
+      } finally {
+        try {
+          response.close();
+        } finally {
+          onClose.run();
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,259 @@
+package com.fleencorp.base.adapter.base;
+
+import com.fleencorp.base.constant.base.ApiParameter;
+import com.fleencorp.base.constant.base.EndpointBlock;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * A precompiled endpoint URI template, such as {@code https://api.example.com/users/{id}/posts}.
+ *
+ * <p>The template is parsed once, typically when the adapter is created, into literal parts and variables. Building
+ * a URI then only appends the literal parts and the percent-encoded variable and query parameter values to a buffer
+ * sized for the expected result, and parses the result into the final {@link URI}, instead of concatenating and
+ * reparsing the whole URL with a {@code UriComponentsBuilder} on every call.</p>
+ *
+ * <p>Variables are written as {@code {name}} and are expanded by position, in the order in which they appear. Values
+ * are converted with {@link String#valueOf(Object)} and percent-encoded, so a variable always stays within its path
+ * segment.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public final class EndpointTemplate {
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+  private static final int ESTIMATED_VARIABLE_LENGTH = 16;
+  private static final int ESTIMATED_QUERY_PARAMETER_LENGTH = 32;
+
+  private final String template;
+  private final String[] literals;
+  private final int literalLength;
+  private final String pathTemplate;
+  private final Pattern pathPattern;
+
+  private EndpointTemplate(final String template, final String[] literals) {
+    this.template = template;
+    this.literals = literals;
+    int length = 0;
+    for (final String literal : literals) {
+      length += literal.length();
+    }
+    this.literalLength = length;
+    this.pathTemplate = toPathTemplate(template);
+    this.pathPattern = toPathPattern(pathTemplate);
+  }
+
+  /**
+   * Compiles a template made of a base URL and a path that may contain {@code {name}} variables.
+   *
+   * @param baseUrl the base URL, including scheme and host
+   * @param path    the path, for example {@code /users/{id}}
+   * @return the compiled template
+   * @throws IllegalArgumentException if a variable is not closed
+   */
+  public static EndpointTemplate compile(final String baseUrl, final String path) {
+    return compile(baseUrl + (isNull(path) ? "" : path));
+  }
+
+  /**
+   * Compiles a template made of a base URL and endpoint blocks, whose values may contain {@code {name}} variables.
+   *
+   * @param baseUrl the base URL, including scheme and host
+   * @param blocks  the endpoint blocks appended to the base URL, {@code null} blocks being skipped
+   * @return the compiled template
+   * @throws IllegalArgumentException if a variable is not closed
+   */
+  public static EndpointTemplate compile(final String baseUrl, final EndpointBlock... blocks) {
+    final StringBuilder builder = new StringBuilder(baseUrl);
+    for (final EndpointBlock block : blocks) {
+      if (block != null) {
+        builder.append(block.value());
+      }
+    }
+    return compile(builder.toString());
+  }
+
+  /**
+   * Compiles a full URI template.
+   *
+   * @param template the URI template
+   * @return the compiled template
+   * @throws IllegalArgumentException if a variable is not closed
+   */
+  public static EndpointTemplate compile(final String template) {
+    final List<String> literals = new ArrayList<>();
+    int start = 0;
+    int open = template.indexOf('{');
+    while (open >= 0) {
+      final int close = template.indexOf('}', open);
+      if (close < 0) {
+        throw new IllegalArgumentException(String.format("Unclosed variable in endpoint template %s", template));
+      }
+      literals.add(template.substring(start, open));
+      start = close + 1;
+      open = template.indexOf('{', start);
+    }
+    literals.add(template.substring(start));
+    return new EndpointTemplate(template, literals.toArray(String[]::new));
+  }
+
+  /**
+   * Expands the template with the given variable values.
+   *
+   * @param variables the values of the variables, in the order in which they appear in the template
+   * @return the expanded URI
+   * @throws IllegalArgumentException if the number of values does not match the number of variables
+   */
+  public URI expand(final Object... variables) {
+    return expand(Map.of(), variables);
+  }
+
+  /**
+   * Expands the template with the given variable values and appends the given query parameters.
+   *
+   * @param queryParams the query parameters, whose values are percent-encoded; a {@code null} value adds the
+   *                    parameter without a value
+   * @param variables   the values of the variables, in the order in which they appear in the template
+   * @return the expanded URI
+   * @throws IllegalArgumentException if the number of values does not match the number of variables
+   */
+  public URI expand(final Map<ApiParameter, String> queryParams, final Object... variables) {
+    if (variables.length != getVariableCount()) {
+      throw new IllegalArgumentException(String.format("Endpoint template %s expects %d variables but got %d",
+        template, getVariableCount(), variables.length));
+    }
+
+    final StringBuilder builder = new StringBuilder(literalLength
+      + variables.length * ESTIMATED_VARIABLE_LENGTH
+      + queryParams.size() * ESTIMATED_QUERY_PARAMETER_LENGTH);
+    builder.append(literals[0]);
+    for (int i = 0; i < variables.length; i++) {
+      appendEncoded(builder, String.valueOf(variables[i]));
+      builder.append(literals[i + 1]);
+    }
+
+    char separator = template.indexOf('?') >= 0 ? '&' : '?';
+    for (final Map.Entry<ApiParameter, String> queryParam : queryParams.entrySet()) {
+      builder.append(separator);
+      appendEncoded(builder, queryParam.getKey().getValue());
+      if (queryParam.getValue() != null) {
+        builder.append('=');
+        appendEncoded(builder, queryParam.getValue());
+      }
+      separator = '&';
+    }
+    return URI.create(builder.toString());
+  }
+
+  /**
+   * Returns the number of variables of the template.
+   *
+   * @return the number of variables
+   */
+  public int getVariableCount() {
+    return literals.length - 1;
+  }
+
+  /**
+   * Returns the template this instance was compiled from.
+   *
+   * @return the template
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Returns the path of the template, without its scheme, authority and query, and with its variables left
+   * unexpanded, for example {@code /users/{id}/posts}.
+   *
+   * @return the path template, empty if the template has no path
+   */
+  public String getPathTemplate() {
+    return pathTemplate;
+  }
+
+  /**
+   * Returns whether a path could have been expanded from this template, each variable standing for a non-empty value
+   * within a single path segment.
+   *
+   * @param rawPath the raw, still percent-encoded, path of a URI
+   * @return {@code true} if the path matches the path template
+   */
+  public boolean matchesPath(final String rawPath) {
+    return pathPattern.matcher(isNull(rawPath) ? "" : rawPath).matches();
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+
+  /**
+   * Appends a value, percent-encoding every character that is not an unreserved URI character. The common case of
+   * a value made only of unreserved characters is appended as is.
+   */
+  private static void appendEncoded(final StringBuilder builder, final String value) {
+    int i = 0;
+    while (i < value.length() && isUnreserved(value.charAt(i))) {
+      i++;
+    }
+    if (i == value.length()) {
+      builder.append(value);
+      return;
+    }
+
+    builder.append(value, 0, i);
+    for (final byte b : value.substring(i).getBytes(UTF_8)) {
+      final char c = (char) (b & 0xFF);
+      if (isUnreserved(c)) {
+        builder.append(c);
+      } else {
+        builder.append('%').append(HEX_DIGITS[(b >> 4) & 0x0F]).append(HEX_DIGITS[b & 0x0F]);
+      }
+    }
+  }
+
+  private static String toPathTemplate(final String template) {
+    final int schemeEnd = template.indexOf("://");
+    final int pathStart = schemeEnd < 0 ? 0 : indexOfAny(template, "/?#", schemeEnd + 3);
+    final int pathEnd = indexOfAny(template, "?#", pathStart);
+    return template.substring(pathStart, pathEnd);
+  }
+
+  private static int indexOfAny(final String value, final String chars, final int from) {
+    for (int i = from; i < value.length(); i++) {
+      if (chars.indexOf(value.charAt(i)) >= 0) {
+        return i;
+      }
+    }
+    return value.length();
+  }
+
+  private static Pattern toPathPattern(final String pathTemplate) {
+    final StringBuilder regex = new StringBuilder();
+    int start = 0;
+    int open = pathTemplate.indexOf('{');
+    while (open >= 0) {
+      final int close = pathTemplate.indexOf('}', open);
+      regex.append(Pattern.quote(pathTemplate.substring(start, open))).append("[^/]+");
+      start = close + 1;
+      open = pathTemplate.indexOf('{', start);
+    }
+    regex.append(Pattern.quote(pathTemplate.substring(start)));
+    return Pattern.compile(regex.toString());
+  }
+
+  private static boolean isUnreserved(final char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+      || c == '-' || c == '.' || c == '_' || c == '~';
+  }
+}
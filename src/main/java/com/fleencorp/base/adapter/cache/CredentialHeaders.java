@@ -0,0 +1,70 @@
+package com.fleencorp.base.adapter.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Reads the credentials carried by the headers of a request, so that responses are only shared between callers
+ * presenting the same credentials.
+ *
+ * <p>Credential headers are matched ignoring case. {@code Authorization} is the only credential header that responses
+ * may be shared under; a request carrying any other, such as a cookie or an API key, is never shared, since such
+ * headers are often combined or rotated in ways a key cannot capture.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+final class CredentialHeaders {
+
+  private CredentialHeaders() {}
+
+  /**
+   * Copies header names into a set ignoring case.
+   *
+   * @param names the header names
+   * @return the header names, ignoring case
+   */
+  static Set<String> of(final Set<String> names) {
+    final Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    headers.addAll(names);
+    return headers;
+  }
+
+  /**
+   * Returns whether the headers carry a credential header other than {@code Authorization}.
+   *
+   * @param headers           the headers of the request
+   * @param credentialHeaders the names of the credential headers, ignoring case
+   * @return {@code true} if the request must not share a response
+   */
+  static boolean hasUnsharedCredentials(final HttpHeaders headers, final Set<String> credentialHeaders) {
+    for (final String name : headers.keySet()) {
+      if (!HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name) && credentialHeaders.contains(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the values of the credential headers present in the headers, indexed by lower-case name.
+   *
+   * @param headers           the headers of the request
+   * @param credentialHeaders the names of the credential headers, ignoring case
+   * @return the credentials of the request
+   */
+  static Map<String, List<String>> getCredentials(final HttpHeaders headers, final Set<String> credentialHeaders) {
+    final Map<String, List<String>> credentials = new TreeMap<>();
+    headers.forEach((name, values) -> {
+      if (credentialHeaders.contains(name)) {
+        credentials.put(name.toLowerCase(), List.copyOf(values));
+      }
+    });
+    return Map.copyOf(credentials);
+  }
+}
@@ -0,0 +1,296 @@
+package com.fleencorp.base.adapter.cache;
+
+import com.fleencorp.base.adapter.base.AdapterRequest;
+import com.fleencorp.base.cache.BoundedCache;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * An in-memory HTTP cache for the {@code GET} calls of adapters, honouring {@code Cache-Control} and {@code ETag}.
+ *
+ * <p>A successful response is stored when its {@code Cache-Control} header allows it: it is fresh for
+ * {@code max-age} seconds, less its {@code Age}, and calls made while it is fresh are answered without contacting the
+ * external system. Once stale, or straight away for {@code no-cache} responses, a response with an {@code ETag} is
+ * revalidated by sending {@code If-None-Match}: a {@code 304 Not Modified} answer renews the cached response instead of
+ * transferring it again. Responses marked {@code no-store}, or with neither a {@code max-age} nor an {@code ETag},
+ * are not stored.</p>
+ *
+ * <p>Responses are held in a {@link BoundedCache}, bounded by number of entries with least recently used eviction and
+ * by {@link ResponseCacheProperties#maxRetention()}. They are keyed by URI, response type and the values of the
+ * {@linkplain ResponseCacheProperties#credentialHeaders() credential headers} of the request, so callers with different
+ * credentials never share a response. Requests carrying a credential header other than {@code Authorization}, such
+ * as a cookie or an API key, are not cached at all. A response is only reused for requests with the same values of
+ * the headers listed in its {@code Vary} header, and a response varying on {@code *} is not stored. Cached response
+ * bodies are returned to every caller as is and must not be modified.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class ResponseCache {
+
+  private final Set<String> credentialHeaders;
+  private final BoundedCache<CacheKey, CachedResponse> responses;
+  private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new response cache.
+   *
+   * @param properties the cache settings
+   */
+  public ResponseCache(final ResponseCacheProperties properties) {
+    this.credentialHeaders = properties.credentialHeaders();
+    this.responses = new BoundedCache<>(properties.maxEntries(), properties.maxRetention());
+  }
+
+  /**
+   * Returns whether the responses of a request may be cached, which is the case for {@code GET} requests carrying no
+   * credential header other than {@code Authorization}.
+   *
+   * @param request the request
+   * @return {@code true} if the request is cacheable
+   */
+  public boolean isCacheable(final AdapterRequest request) {
+    return HttpMethod.GET.equals(request.method())
+      && !CredentialHeaders.hasUnsharedCredentials(request.headers(), credentialHeaders);
+  }
+
+  /**
+   * Answers a request from the cache when possible, and otherwise sends it, revalidating a stale response if it has
+   * an {@code ETag}, and stores the response if allowed.
+   *
+   * @param name          the name of the adapter, under which the statistics are recorded
+   * @param request       the request
+   * @param responseModel the type of the response body
+   * @param exchange      sends a request to the external system
+   * @param <T>           the type of the response body
+   * @return the cached or received response
+   */
+  @SuppressWarnings("unchecked")
+  public <T> ResponseEntity<T> execute(final String name, final AdapterRequest request, final ParameterizedTypeReference<T> responseModel,
+                                       final Function<AdapterRequest, ResponseEntity<T>> exchange) {
+    final Counters adapterCounters = counters.computeIfAbsent(name, key -> new Counters());
+    final CacheKey key = new CacheKey(request.uri(), responseModel.getType(),
+      CredentialHeaders.getCredentials(request.headers(), credentialHeaders));
+    CachedResponse cached = responses.get(key);
+    if (nonNull(cached) && !cached.matches(request.headers())) {
+      // Another variant of the response, selected by its Vary header, which the new response replaces
+      cached = null;
+    }
+
+    if (nonNull(cached) && cached.isFresh(System.nanoTime())) {
+      adapterCounters.hits.increment();
+      return (ResponseEntity<T>) cached.response();
+    }
+
+    AdapterRequest sentRequest = request;
+    if (nonNull(cached) && nonNull(cached.eTag())) {
+      final HttpHeaders headers = new HttpHeaders();
+      headers.addAll(request.headers());
+      headers.setIfNoneMatch(cached.eTag());
+      sentRequest = new AdapterRequest(request.uri(), request.method(), headers, request.body());
+    }
+
+    final ResponseEntity<T> response = exchange.apply(sentRequest);
+    if (nonNull(cached) && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+      adapterCounters.revalidations.increment();
+      final HttpHeaders freshnessHeaders = isNull(response.getHeaders().getCacheControl())
+        ? cached.response().getHeaders()
+        : response.getHeaders();
+      responses.put(key, new CachedResponse(cached.response(), cached.eTag(), getFreshUntil(freshnessHeaders),
+        cached.varyValues()));
+      return (ResponseEntity<T>) cached.response();
+    }
+
+    adapterCounters.misses.increment();
+    store(key, request, response, adapterCounters);
+    return response;
+  }
+
+  /**
+   * Returns a snapshot of the statistics of one adapter.
+   *
+   * @param name the name of the adapter
+   * @return the statistics of the adapter
+   */
+  public ResponseCacheStats stats(final String name) {
+    final Counters adapterCounters = counters.get(name);
+    return isNull(adapterCounters) ? new ResponseCacheStats(0, 0, 0, 0) : adapterCounters.snapshot();
+  }
+
+  /**
+   * Returns a snapshot of the statistics of every adapter that used the cache.
+   *
+   * @return the statistics indexed by adapter name
+   */
+  public Map<String, ResponseCacheStats> getStats() {
+    final Map<String, ResponseCacheStats> stats = new HashMap<>();
+    counters.forEach((name, adapterCounters) -> stats.put(name, adapterCounters.snapshot()));
+    return stats;
+  }
+
+  /**
+   * Returns the number of responses currently held.
+   *
+   * @return the number of responses
+   */
+  public int size() {
+    return responses.size();
+  }
+
+  /**
+   * Removes all cached responses.
+   */
+  public void clear() {
+    responses.clear();
+  }
+
+  /**
+   * Stores a successful response if its headers allow it.
+   */
+  private void store(final CacheKey key, final AdapterRequest request, final ResponseEntity<?> response,
+                     final Counters adapterCounters) {
+    if (response.getStatusCode().value() != HttpStatus.OK.value()) {
+      return;
+    }
+
+    final HttpHeaders headers = response.getHeaders();
+    final String cacheControl = headers.getCacheControl();
+    final String eTag = headers.getETag();
+    if (hasDirective(cacheControl, "no-store") || (getMaxAgeSeconds(cacheControl) < 0 && isNull(eTag))) {
+      return;
+    }
+
+    final Map<String, List<String>> varyValues = new HashMap<>();
+    for (final String vary : headers.getVary()) {
+      for (final String name : vary.split(",")) {
+        final String trimmed = name.trim();
+        if ("*".equals(trimmed)) {
+          return;
+        }
+        if (!trimmed.isEmpty()) {
+          varyValues.put(trimmed, request.headers().getOrEmpty(trimmed));
+        }
+      }
+    }
+
+    responses.put(key, new CachedResponse(response, eTag, getFreshUntil(headers), Map.copyOf(varyValues)));
+    adapterCounters.stores.increment();
+  }
+
+  /**
+   * Computes the {@link System#nanoTime()} value until which a response with the given headers is fresh.
+   */
+  private static long getFreshUntil(final HttpHeaders headers) {
+    final String cacheControl = headers.getCacheControl();
+    final long maxAge = getMaxAgeSeconds(cacheControl);
+    if (maxAge <= 0 || hasDirective(cacheControl, "no-cache")) {
+      return System.nanoTime();
+    }
+
+    long age = 0;
+    try {
+      final String ageHeader = headers.getFirst(HttpHeaders.AGE);
+      age = isNull(ageHeader) ? 0 : Long.parseLong(ageHeader.trim());
+    } catch (final NumberFormatException ignored) {
+    }
+    return System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(0, maxAge - age));
+  }
+
+  /**
+   * Returns the {@code max-age} of a {@code Cache-Control} header, or {@code -1} if it has none.
+   */
+  private static long getMaxAgeSeconds(final String cacheControl) {
+    if (isNull(cacheControl)) {
+      return -1;
+    }
+    for (final String directive : cacheControl.split(",")) {
+      final String trimmed = directive.trim();
+      if (trimmed.regionMatches(true, 0, "max-age=", 0, 8)) {
+        try {
+          return Long.parseLong(trimmed.substring(8).replace("\"", ""));
+        } catch (final NumberFormatException ex) {
+          return -1;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private static boolean hasDirective(final String cacheControl, final String name) {
+    if (isNull(cacheControl)) {
+      return false;
+    }
+    for (final String directive : cacheControl.split(",")) {
+      if (directive.trim().equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * The key of a cached response.
+   *
+   * @param uri          the URI of the request
+   * @param responseType the type the response body was read as
+   * @param credentials  the values of the credential headers of the request
+   */
+  private record CacheKey(URI uri, Type responseType, Map<String, List<String>> credentials) {}
+
+  /**
+   * A cached response.
+   *
+   * @param response   the response
+   * @param eTag       the entity tag of the response, if any
+   * @param freshUntil the {@link System#nanoTime()} value until which the response is fresh
+   * @param varyValues the values of the request headers named by the {@code Vary} header of the response
+   */
+  private record CachedResponse(ResponseEntity<?> response, String eTag, long freshUntil,
+                                Map<String, List<String>> varyValues) {
+
+    boolean isFresh(final long now) {
+      return freshUntil - now > 0;
+    }
+
+    boolean matches(final HttpHeaders requestHeaders) {
+      for (final Map.Entry<String, List<String>> vary : varyValues.entrySet()) {
+        if (!vary.getValue().equals(requestHeaders.getOrEmpty(vary.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * The counters of one adapter.
+   */
+  private static final class Counters {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    private ResponseCacheStats snapshot() {
+      return new ResponseCacheStats(hits.sum(), revalidations.sum(), misses.sum(), stores.sum());
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.fleencorp.base.adapter.cache;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Settings of the response cache of adapters.
+ *
+ * @param maxEntries        the maximum number of responses held, beyond which the least recently used are evicted
+ * @param maxRetention      the maximum time a response is kept, including the time it is kept stale for revalidation
+ * @param credentialHeaders the names of the request headers carrying credentials, ignoring case; responses are keyed
+ *                          by their values, and requests carrying any of them other than {@code Authorization} are
+ *                          not cached
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record ResponseCacheProperties(int maxEntries, Duration maxRetention, Set<String> credentialHeaders) {
+
+  public static final int DEFAULT_MAX_ENTRIES = 1_000;
+  public static final Duration DEFAULT_MAX_RETENTION = Duration.ofMinutes(30);
+  public static final Set<String> DEFAULT_CREDENTIAL_HEADERS = Set.of(
+    "Authorization", "Proxy-Authorization", "Cookie", "X-Api-Key");
+
+  public ResponseCacheProperties {
+    credentialHeaders = CredentialHeaders.of(credentialHeaders);
+  }
+
+  /**
+   * Returns the default response cache settings.
+   *
+   * @return the default settings
+   */
+  public static ResponseCacheProperties defaults() {
+    return new ResponseCacheProperties(
+      DEFAULT_MAX_ENTRIES,
+      DEFAULT_MAX_RETENTION,
+      DEFAULT_CREDENTIAL_HEADERS);
+  }
+}
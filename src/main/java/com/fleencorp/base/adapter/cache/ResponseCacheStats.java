@@ -0,0 +1,33 @@
+package com.fleencorp.base.adapter.cache;
+
+/**
+ * A point-in-time snapshot of the response cache statistics of one adapter.
+ *
+ * @param hits          the number of calls answered from a fresh cached response
+ * @param revalidations the number of calls answered from a stale cached response confirmed by a {@code 304 Not Modified}
+ * @param misses        the number of calls that needed a full response from the external system
+ * @param stores        the number of responses stored
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record ResponseCacheStats(long hits, long revalidations, long misses, long stores) {
+
+  /**
+   * Returns the total number of cacheable calls.
+   *
+   * @return the sum of hits, revalidations and misses
+   */
+  public long requests() {
+    return hits + revalidations + misses;
+  }
+
+  /**
+   * Returns the ratio of calls that did not need a full response, either answered from the cache or revalidated.
+   *
+   * @return the hit ratio between {@code 0.0} and {@code 1.0}, or {@code 0.0} if no cacheable call was made
+   */
+  public double hitRatio() {
+    final long requests = requests();
+    return requests == 0 ? 0.0 : (double) (hits + revalidations) / requests;
+  }
+}
@@ -0,0 +1,248 @@
+package com.fleencorp.base.adapter.cache;
+
+import com.fleencorp.base.adapter.base.AdapterRequest;
+import com.fleencorp.base.adapter.transport.AdapterTransportProperties;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent identical adapter calls, so that they share a single call to the external system and its
+ * response.
+ *
+ * <p>The first call for a given method, URI, response type, headers and body becomes the leader and is sent;
+ * calls arriving while it is in flight wait for it and receive the same {@link ResponseEntity}, or the same exception.
+ * Once the leader completes, the next call starts a new flight: responses are shared, never kept. A call waits at most
+ * the configured maximum wait for the leader, after which it sends its own request.</p>
+ *
+ * <p>Every request header is part of the key, ignoring the case of header names, so callers with different
+ * credentials, {@code Accept} or {@code Accept-Language} headers, or tenant headers never share a response. Calls
+ * carrying a credential header other than {@code Authorization}, such as a cookie or an API key, are never coalesced;
+ * the credential headers are configured for the coalescer, by default the {@link #DEFAULT_CREDENTIAL_HEADERS}.</p>
+ *
+ * <p>Bodies are compared in full, their hash only being used to spread keys, so two requests with different bodies
+ * never share a response. Only calls with one of the configured methods are coalesced, by default {@code GET} and
+ * {@code HEAD}; methods with side effects such as {@code POST} should only be added for endpoints that are known to
+ * be safe to coalesce, such as token lookups. Shared response bodies must not be modified by the callers.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class SingleFlight {
+
+  /**
+   * The methods coalesced by default.
+   */
+  public static final Set<HttpMethod> DEFAULT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+
+  /**
+   * The maximum time a call waits for the leader by default, the default read timeout of the transport.
+   */
+  public static final Duration DEFAULT_MAX_WAIT = AdapterTransportProperties.DEFAULT_READ_TIMEOUT;
+
+  /**
+   * The request headers carrying credentials by default.
+   */
+  public static final Set<String> DEFAULT_CREDENTIAL_HEADERS = Set.of(
+    "Authorization", "Proxy-Authorization", "Cookie", "X-Api-Key");
+
+  private final Set<HttpMethod> methods;
+  private final Set<String> credentialHeaders;
+  private final Duration maxWait;
+  private final Map<FlightKey, CompletableFuture<ResponseEntity<?>>> flights = new ConcurrentHashMap<>();
+  private final LongAdder leaderCalls = new LongAdder();
+  private final LongAdder sharedCalls = new LongAdder();
+  private final LongAdder timedOutCalls = new LongAdder();
+
+  /**
+   * Creates a new single-flight coalescer.
+   *
+   * @param methods           the methods whose calls are coalesced
+   * @param credentialHeaders the names of the request headers carrying credentials, ignoring case; requests carrying
+   *                          any of them other than {@code Authorization} are not coalesced
+   * @param maxWait           the maximum time a call waits for the leader before sending its own request
+   */
+  public SingleFlight(final Set<HttpMethod> methods, final Set<String> credentialHeaders, final Duration maxWait) {
+    this.methods = Set.copyOf(methods);
+    this.credentialHeaders = CredentialHeaders.of(credentialHeaders);
+    this.maxWait = maxWait;
+  }
+
+  /**
+   * Creates a new single-flight coalescer for the given methods, with the default credential headers and maximum
+   * wait.
+   *
+   * @param methods the methods whose calls are coalesced
+   */
+  public SingleFlight(final Set<HttpMethod> methods) {
+    this(methods, DEFAULT_CREDENTIAL_HEADERS, DEFAULT_MAX_WAIT);
+  }
+
+  /**
+   * Creates a new single-flight coalescer for the {@link #DEFAULT_METHODS}.
+   */
+  public SingleFlight() {
+    this(DEFAULT_METHODS);
+  }
+
+  /**
+   * Returns whether a request may be coalesced: its method is coalesced and it carries no credential header other
+   * than {@code Authorization}.
+   *
+   * @param request the request
+   * @return {@code true} if the request may share an in-flight call
+   */
+  public boolean isCoalesced(final AdapterRequest request) {
+    return methods.contains(request.method())
+      && !CredentialHeaders.hasUnsharedCredentials(request.headers(), credentialHeaders);
+  }
+
+  /**
+   * Sends a request, or waits for an identical request already in flight and returns its response.
+   *
+   * @param request       the request
+   * @param responseModel the type of the response body
+   * @param exchange      sends a request to the external system
+   * @param <T>           the type of the response body
+   * @return the response of the call, possibly shared with concurrent callers
+   * @throws IllegalStateException if the thread is interrupted while waiting for the leader
+   */
+  @SuppressWarnings("unchecked")
+  public <T> ResponseEntity<T> execute(final AdapterRequest request, final ParameterizedTypeReference<T> responseModel,
+                                       final Function<AdapterRequest, ResponseEntity<T>> exchange) {
+    final FlightKey key = new FlightKey(request, responseModel.getType());
+    final CompletableFuture<ResponseEntity<?>> flight = new CompletableFuture<>();
+    final CompletableFuture<ResponseEntity<?>> existing = flights.putIfAbsent(key, flight);
+
+    if (existing != null) {
+      try {
+        final ResponseEntity<T> response = (ResponseEntity<T>) existing.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        sharedCalls.increment();
+        return response;
+      } catch (final ExecutionException ex) {
+        sharedCalls.increment();
+        if (ex.getCause() instanceof final RuntimeException cause) {
+          throw cause;
+        }
+        if (ex.getCause() instanceof final Error error) {
+          throw error;
+        }
+        throw new IllegalStateException(ex.getCause());
+      } catch (final TimeoutException ex) {
+        // The leader is too slow to wait for, so this call goes on its own instead
+        timedOutCalls.increment();
+        return exchange.apply(request);
+      } catch (final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(
+          String.format("Interrupted while waiting for %s %s", request.method(), request.uri()), ex);
+      }
+    }
+
+    leaderCalls.increment();
+    try {
+      final ResponseEntity<T> response = exchange.apply(request);
+      flight.complete(response);
+      return response;
+    } catch (final RuntimeException | Error ex) {
+      flight.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      flights.remove(key, flight);
+    }
+  }
+
+  /**
+   * Returns the number of calls sent to external systems.
+   *
+   * @return the number of leader calls
+   */
+  public long getLeaderCalls() {
+    return leaderCalls.sum();
+  }
+
+  /**
+   * Returns the number of calls that shared the response of an identical call in flight.
+   *
+   * @return the number of shared calls
+   */
+  public long getSharedCalls() {
+    return sharedCalls.sum();
+  }
+
+  /**
+   * Returns the number of calls that stopped waiting for a slow leader and sent their own request.
+   *
+   * @return the number of timed out calls
+   */
+  public long getTimedOutCalls() {
+    return timedOutCalls.sum();
+  }
+
+  /**
+   * Returns the number of distinct calls currently in flight.
+   *
+   * @return the number of flights
+   */
+  public int getInFlight() {
+    return flights.size();
+  }
+
+  /**
+   * Identifies identical calls. The headers are keyed by lower-case name, and the body is hashed once and compared in
+   * full.
+   */
+  private static final class FlightKey {
+
+    private final HttpMethod method;
+    private final URI uri;
+    private final Type responseType;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final int hash;
+
+    private FlightKey(final AdapterRequest request, final Type responseType) {
+      this.method = request.method();
+      this.uri = request.uri();
+      this.responseType = responseType;
+      this.headers = new HashMap<>();
+      request.headers().forEach((name, values) -> headers.put(name.toLowerCase(Locale.ROOT), List.copyOf(values)));
+      this.body = request.body();
+      this.hash = Objects.hash(method, uri, responseType, headers, Arrays.hashCode(body));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof final FlightKey key
+        && hash == key.hash
+        && method.equals(key.method)
+        && uri.equals(key.uri)
+        && responseType.equals(key.responseType)
+        && headers.equals(key.headers)
+        && Arrays.equals(body, key.body);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.fleencorp.base.adapter.logging;
+
+import com.fleencorp.base.adapter.base.AdapterRequest;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * Writes the request, response and failure log lines of adapter calls.
+ *
+ * <p>Logging costs almost nothing when the configured level is disabled: each method checks the level first and
+ * returns before any argument is formatted. When enabled, the message is built by the logger from placeholders, the
+ * body is decoded from the bytes already serialized for the call and cut at
+ * {@link AdapterLoggingProperties#maxBodyBytes()}, and the values of sensitive headers are redacted. The duration of
+ * a call is logged as its own {@code durationMs} field.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class AdapterLogger {
+
+  private final Logger log;
+  private final AdapterLoggingProperties properties;
+
+  /**
+   * Creates a new adapter logger.
+   *
+   * @param log        the logger to write to
+   * @param properties the logging settings
+   */
+  public AdapterLogger(final Logger log, final AdapterLoggingProperties properties) {
+    this.log = log;
+    this.properties = properties;
+  }
+
+  /**
+   * Creates a new adapter logger with the default settings.
+   *
+   * @param log the logger to write to
+   */
+  public AdapterLogger(final Logger log) {
+    this(log, AdapterLoggingProperties.defaults());
+  }
+
+  /**
+   * Logs a request about to be sent.
+   *
+   * @param request the request
+   */
+  public void logRequest(final AdapterRequest request) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    if (properties.logHeaders()) {
+      write("HTTP call to url={} with method={} headers={} and body={}",
+        request.uri(), request.method(), redact(request.headers()), truncate(request.body()));
+    } else {
+      write("HTTP call to url={} with method={} and body={}", request.uri(), request.method(), truncate(request.body()));
+    }
+  }
+
+  /**
+   * Logs the response of a request.
+   *
+   * @param request      the request
+   * @param status       the status of the response
+   * @param elapsedNanos the duration of the call in nanoseconds
+   */
+  public void logResponse(final AdapterRequest request, final HttpStatusCode status, final long elapsedNanos) {
+    if (isEnabled()) {
+      write("HTTP response from url={} with method={} status={} durationMs={}",
+        request.uri(), request.method(), status.value(), toMillis(elapsedNanos));
+    }
+  }
+
+  /**
+   * Logs a request that failed with an error response or a connection error.
+   *
+   * @param request      the request
+   * @param status       the status of the error response, or {@code null} if no response was received
+   * @param reason       the description of the failure
+   * @param elapsedNanos the duration of the call in nanoseconds
+   */
+  public void logFailure(final AdapterRequest request, final HttpStatusCode status, final String reason, final long elapsedNanos) {
+    if (log.isErrorEnabled()) {
+      log.error("An error occurred while HTTP call to url={} with method={} and body={}: status={} durationMs={} reason={}",
+        request.uri(), request.method(), truncate(request.body()), isNull(status) ? null : status.value(),
+        toMillis(elapsedNanos), reason);
+    }
+  }
+
+  /**
+   * Returns the given headers with the values of sensitive headers replaced by {@link AdapterLoggingProperties#REDACTED}.
+   *
+   * @param headers the headers to redact
+   * @return the redacted headers
+   */
+  public HttpHeaders redact(final HttpHeaders headers) {
+    final HttpHeaders redacted = new HttpHeaders();
+    headers.forEach((name, values) -> {
+      if (properties.redactedHeaders().contains(name)) {
+        redacted.add(name, AdapterLoggingProperties.REDACTED);
+      } else {
+        redacted.addAll(name, values);
+      }
+    });
+    return redacted;
+  }
+
+  /**
+   * Decodes at most {@link AdapterLoggingProperties#maxBodyBytes()} bytes of a body, noting the total size when the
+   * body is cut.
+   *
+   * @param body the serialized body
+   * @return the body to log
+   */
+  public String truncate(final byte[] body) {
+    if (isNull(body) || body.length == 0) {
+      return "";
+    }
+    if (body.length <= properties.maxBodyBytes()) {
+      return new String(body, UTF_8);
+    }
+    return new String(body, 0, properties.maxBodyBytes(), UTF_8) + "...(" + body.length + " bytes)";
+  }
+
+  private boolean isEnabled() {
+    return switch (properties.level()) {
+      case ERROR -> log.isErrorEnabled();
+      case WARN -> log.isWarnEnabled();
+      case INFO -> log.isInfoEnabled();
+      case DEBUG -> log.isDebugEnabled();
+      case TRACE -> log.isTraceEnabled();
+    };
+  }
+
+  private void write(final String format, final Object... arguments) {
+    switch (properties.level()) {
+      case ERROR -> log.error(format, arguments);
+      case WARN -> log.warn(format, arguments);
+      case INFO -> log.info(format, arguments);
+      case DEBUG -> log.debug(format, arguments);
+      case TRACE -> log.trace(format, arguments);
+    }
+  }
+
+  private static long toMillis(final long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+}
@@ -0,0 +1,53 @@
+package com.fleencorp.base.adapter.logging;
+
+import org.slf4j.event.Level;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Settings of the request and response logging of adapters.
+ *
+ * @param level           the level at which requests and responses are logged; failures are always logged as errors
+ * @param maxBodyBytes    the maximum number of body bytes written to the log, {@code 0} to leave bodies out
+ * @param logHeaders      whether request headers are logged
+ * @param redactedHeaders the names of the headers whose values are replaced by {@link #REDACTED}, ignoring case
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record AdapterLoggingProperties(
+    Level level,
+    int maxBodyBytes,
+    boolean logHeaders,
+    Set<String> redactedHeaders) {
+
+  public static final String REDACTED = "[REDACTED]";
+  public static final int DEFAULT_MAX_BODY_BYTES = 2048;
+  public static final Set<String> DEFAULT_REDACTED_HEADERS = Set.of(
+    HttpHeaders.AUTHORIZATION,
+    HttpHeaders.PROXY_AUTHORIZATION,
+    HttpHeaders.COOKIE,
+    HttpHeaders.SET_COOKIE,
+    "X-Api-Key");
+
+  public AdapterLoggingProperties {
+    maxBodyBytes = Math.max(0, maxBodyBytes);
+    final Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    headers.addAll(redactedHeaders);
+    redactedHeaders = headers;
+  }
+
+  /**
+   * Returns the default logging settings.
+   *
+   * @return the default settings
+   */
+  public static AdapterLoggingProperties defaults() {
+    return new AdapterLoggingProperties(
+      Level.INFO,
+      DEFAULT_MAX_BODY_BYTES,
+      false,
+      DEFAULT_REDACTED_HEADERS);
+  }
+}
@@ -0,0 +1,27 @@
+package com.fleencorp.base.adapter.metrics;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * A completed call of an adapter to an external system.
+ *
+ * @param adapter       the name of the adapter
+ * @param route         the route of the call, its scheme, host, port and path without variable values
+ * @param method        the HTTP method of the call
+ * @param status        the status of the response, or {@code 0} if no response was received
+ * @param outcome       the outcome of the call
+ * @param requestBytes  the size of the request body in bytes
+ * @param responseBytes the number of response body bytes received, or {@code -1} if unknown
+ * @param elapsedNanos  the duration of the call in nanoseconds
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record AdapterCall(
+    String adapter,
+    String route,
+    HttpMethod method,
+    int status,
+    CallOutcome outcome,
+    long requestBytes,
+    long responseBytes,
+    long elapsedNanos) {}
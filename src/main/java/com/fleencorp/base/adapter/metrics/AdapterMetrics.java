@@ -0,0 +1,40 @@
+package com.fleencorp.base.adapter.metrics;
+
+/**
+ * Receives the measurements of adapter calls.
+ *
+ * <p>Implementations bridge to a metrics backend, or keep the measurements in memory like
+ * {@link InMemoryAdapterMetrics}. Methods are called on the calling thread of every attempt sent to an external
+ * system, so they must be fast and thread-safe.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public interface AdapterMetrics {
+
+  /**
+   * Metrics that discard every measurement.
+   */
+  AdapterMetrics NOOP = new AdapterMetrics() {
+    @Override
+    public void callStarted(final String adapter, final String route) {}
+
+    @Override
+    public void callCompleted(final AdapterCall call) {}
+  };
+
+  /**
+   * Records that a call was sent.
+   *
+   * @param adapter the name of the adapter
+   * @param route   the route of the call, its scheme, host, port and path without variable values
+   */
+  void callStarted(String adapter, String route);
+
+  /**
+   * Records a completed call. Every call recorded by {@link #callStarted(String, String)} is completed exactly once.
+   *
+   * @param call the completed call
+   */
+  void callCompleted(AdapterCall call);
+}
@@ -0,0 +1,33 @@
+package com.fleencorp.base.adapter.metrics;
+
+/**
+ * The outcome of an adapter call, as recorded by {@link AdapterMetrics}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public enum CallOutcome {
+
+  /**
+   * The external system answered with a successful or redirect status.
+   */
+  SUCCESS,
+
+  /**
+   * The external system answered with an error status, reported by the client as an
+   * {@link org.springframework.web.client.HttpStatusCodeException}.
+   */
+  HTTP_STATUS_ERROR,
+
+  /**
+   * No usable response was received, for example because of a connection error or timeout, reported by the client as
+   * a {@link org.springframework.web.client.ResourceAccessException}.
+   */
+  RESOURCE_ACCESS_ERROR,
+
+  /**
+   * The call failed on the client for another reason, for example because the response body could not be read as
+   * the expected type.
+   */
+  OTHER_ERROR
+}
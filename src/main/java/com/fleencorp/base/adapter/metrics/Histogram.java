@@ -0,0 +1,143 @@
+package com.fleencorp.base.adapter.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values with a bounded relative error, in the style of HdrHistogram.
+ *
+ * <p>Values are counted in log-linear buckets: each power-of-two range is split into {@value #SUB_BUCKET_COUNT}
+ * equal buckets, so a recorded value is known to within about 3% whatever its magnitude, and the histogram has a
+ * fixed size of a few kilobytes however many values it records. Values above {@link #MAX_VALUE} are counted in the
+ * last bucket.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /**
+   * The largest value tracked with full precision, about 18 minutes when recording nanoseconds.
+   */
+  public static final long MAX_VALUE = (1L << 40) - 1;
+
+  private static final int BUCKET_COUNT = getIndex(MAX_VALUE) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a value. Negative values are ignored.
+   *
+   * @param value the value
+   */
+  public void record(final long value) {
+    if (value < 0) {
+      return;
+    }
+    counts.incrementAndGet(getIndex(Math.min(value, MAX_VALUE)));
+    count.increment();
+    sum.add(value);
+    min.accumulate(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Returns the number of recorded values.
+   *
+   * @return the number of values
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the value below which the given percentage of the recorded values fall, to within the precision of the
+   * histogram.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the value at the percentile, or {@code 0} if no value was recorded
+   */
+  public long getValueAtPercentile(final double percentile) {
+    final long total = count.sum();
+    if (total == 0) {
+      return 0;
+    }
+
+    final long target = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts.get(i);
+      if (seen >= target) {
+        return Math.min(getHighestValue(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Returns a snapshot of the histogram with its usual percentiles.
+   *
+   * @return the snapshot
+   */
+  public HistogramSnapshot snapshot() {
+    final long total = count.sum();
+    if (total == 0) {
+      return new HistogramSnapshot(0, 0, 0, 0, 0, 0, 0, 0);
+    }
+    return new HistogramSnapshot(
+      total,
+      min.get(),
+      max.get(),
+      sum.sum() / total,
+      getValueAtPercentile(50),
+      getValueAtPercentile(90),
+      getValueAtPercentile(99),
+      getValueAtPercentile(99.9));
+  }
+
+  /**
+   * Returns the bucket of a value: values below {@link #SUB_BUCKET_COUNT} have their own bucket, and each following
+   * power-of-two range is split into {@link #SUB_BUCKET_COUNT} buckets.
+   */
+  private static int getIndex(final long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+  }
+
+  /**
+   * Returns the highest value counted in a bucket.
+   */
+  private static long getHighestValue(final int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+    final long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * A point-in-time summary of a histogram.
+   *
+   * @param count the number of recorded values
+   * @param min   the smallest recorded value
+   * @param max   the largest recorded value
+   * @param mean  the average of the recorded values
+   * @param p50   the median
+   * @param p90   the 90th percentile
+   * @param p99   the 99th percentile
+   * @param p999  the 99.9th percentile
+   */
+  public record HistogramSnapshot(long count, long min, long max, long mean, long p50, long p90, long p99, long p999) {}
+}
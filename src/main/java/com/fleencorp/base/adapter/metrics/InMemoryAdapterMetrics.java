@@ -0,0 +1,161 @@
+package com.fleencorp.base.adapter.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fleencorp.base.adapter.metrics.Histogram.HistogramSnapshot;
+
+/**
+ * Keeps the measurements of adapter calls in memory, without any metrics backend.
+ *
+ * <p>Latencies are recorded in a {@link Histogram} per adapter, route, status and outcome, and request and response
+ * body sizes in histograms per adapter and route. The number of calls in flight is tracked per adapter. The
+ * measurements can be read as {@link CallMetrics} or dumped as a plain text {@link #report()}, for example from an
+ * administration endpoint or at shutdown, to find slow integrations and derive latency objectives.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class InMemoryAdapterMetrics implements AdapterMetrics {
+
+  private final Map<CallKey, Histogram> latencies = new ConcurrentHashMap<>();
+  private final Map<RouteKey, Histogram> requestSizes = new ConcurrentHashMap<>();
+  private final Map<RouteKey, Histogram> responseSizes = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+  @Override
+  public void callStarted(final String adapter, final String route) {
+    inFlight.computeIfAbsent(adapter, key -> new AtomicInteger()).incrementAndGet();
+  }
+
+  @Override
+  public void callCompleted(final AdapterCall call) {
+    inFlight.computeIfAbsent(call.adapter(), key -> new AtomicInteger()).decrementAndGet();
+
+    final CallKey callKey = new CallKey(call.adapter(), call.route(), call.status(), call.outcome());
+    latencies.computeIfAbsent(callKey, key -> new Histogram()).record(call.elapsedNanos());
+
+    final RouteKey routeKey = new RouteKey(call.adapter(), call.route());
+    requestSizes.computeIfAbsent(routeKey, key -> new Histogram()).record(call.requestBytes());
+    if (call.responseBytes() >= 0) {
+      responseSizes.computeIfAbsent(routeKey, key -> new Histogram()).record(call.responseBytes());
+    }
+  }
+
+  /**
+   * Returns the number of calls of an adapter currently in flight.
+   *
+   * @param adapter the name of the adapter
+   * @return the number of calls in flight
+   */
+  public int getInFlight(final String adapter) {
+    final AtomicInteger count = inFlight.get(adapter);
+    return count == null ? 0 : count.get();
+  }
+
+  /**
+   * Returns a snapshot of the latencies, sorted by adapter, route, status and outcome.
+   *
+   * @return the call metrics
+   */
+  public List<CallMetrics> getCallMetrics() {
+    final List<CallMetrics> metrics = new ArrayList<>();
+    latencies.forEach((key, histogram) ->
+      metrics.add(new CallMetrics(key.adapter(), key.route(), key.status(), key.outcome(), histogram.snapshot())));
+    metrics.sort(Comparator.comparing(CallMetrics::adapter)
+      .thenComparing(CallMetrics::route)
+      .thenComparingInt(CallMetrics::status)
+      .thenComparing(CallMetrics::outcome));
+    return metrics;
+  }
+
+  /**
+   * Returns a snapshot of the request body sizes of a route of an adapter.
+   *
+   * @param adapter the name of the adapter
+   * @param route   the route
+   * @return the request body sizes in bytes
+   */
+  public HistogramSnapshot getRequestSizes(final String adapter, final String route) {
+    return snapshot(requestSizes.get(new RouteKey(adapter, route)));
+  }
+
+  /**
+   * Returns a snapshot of the response body sizes of a route of an adapter, for responses of known size.
+   *
+   * @param adapter the name of the adapter
+   * @param route   the route
+   * @return the response body sizes in bytes
+   */
+  public HistogramSnapshot getResponseSizes(final String adapter, final String route) {
+    return snapshot(responseSizes.get(new RouteKey(adapter, route)));
+  }
+
+  /**
+   * Dumps all measurements as a plain text table, latencies in milliseconds and sizes in bytes.
+   *
+   * @return the report
+   */
+  public String report() {
+    final StringBuilder report = new StringBuilder(1024);
+    report.append(String.format("%-40s %-40s %6s %-22s %8s %9s %9s %9s %9s %9s%n",
+      "adapter", "route", "status", "outcome", "count", "mean", "p50", "p90", "p99", "max"));
+    for (final CallMetrics metrics : getCallMetrics()) {
+      final HistogramSnapshot latency = metrics.latency();
+      report.append(String.format("%-40s %-40s %6d %-22s %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+        metrics.adapter(), metrics.route(), metrics.status(), metrics.outcome(), latency.count(),
+        toMillis(latency.mean()), toMillis(latency.p50()), toMillis(latency.p90()), toMillis(latency.p99()),
+        toMillis(latency.max())));
+    }
+
+    report.append(String.format("%n%-40s %-40s %9s %12s %12s %12s %12s%n",
+      "adapter", "route", "in-flight", "req p50", "req max", "resp p50", "resp max"));
+    requestSizes.keySet().stream()
+      .sorted(Comparator.comparing(RouteKey::adapter).thenComparing(RouteKey::route))
+      .forEach(key -> {
+        final HistogramSnapshot request = getRequestSizes(key.adapter(), key.route());
+        final HistogramSnapshot response = getResponseSizes(key.adapter(), key.route());
+        report.append(String.format("%-40s %-40s %9d %12d %12d %12d %12d%n",
+          key.adapter(), key.route(), getInFlight(key.adapter()),
+          request.p50(), request.max(), response.p50(), response.max()));
+      });
+    return report.toString();
+  }
+
+  /**
+   * Discards all measurements, except the number of calls in flight.
+   */
+  public void reset() {
+    latencies.clear();
+    requestSizes.clear();
+    responseSizes.clear();
+  }
+
+  private static HistogramSnapshot snapshot(final Histogram histogram) {
+    return histogram == null ? new Histogram().snapshot() : histogram.snapshot();
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * The latencies of the calls of an adapter to a route that ended with the same status and outcome.
+   *
+   * @param adapter the name of the adapter
+   * @param route   the route, its scheme, host, port and path without variable values
+   * @param status  the status of the responses, or {@code 0} if no response was received
+   * @param outcome the outcome of the calls
+   * @param latency the latencies in nanoseconds
+   */
+  public record CallMetrics(String adapter, String route, int status, CallOutcome outcome, HistogramSnapshot latency) {}
+
+  private record CallKey(String adapter, String route, int status, CallOutcome outcome) {}
+
+  private record RouteKey(String adapter, String route) {}
+}
@@ -0,0 +1,94 @@
+package com.fleencorp.base.adapter.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of concurrent calls to an external system, so that a slow system cannot hold on to an unbounded
+ * number of threads.
+ *
+ * <p>A call takes a slot with {@link #tryAcquire()}, waiting at most the configured time for one to free up, and
+ * gives it back with {@link #release()} once it completes.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class Bulkhead {
+
+  private final String name;
+  private final int maxConcurrentCalls;
+  private final long maxWaitNanos;
+  private final Semaphore slots;
+  private final LongAdder rejectedCalls = new LongAdder();
+
+  /**
+   * Creates a new bulkhead.
+   *
+   * @param name               the name of the bulkhead, used in logs and statistics
+   * @param maxConcurrentCalls the maximum number of concurrent calls
+   * @param maxWait            the maximum time a call waits for a free slot
+   */
+  public Bulkhead(final String name, final int maxConcurrentCalls, final Duration maxWait) {
+    this.name = name;
+    this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+    this.maxWaitNanos = maxWait.toNanos();
+    this.slots = new Semaphore(this.maxConcurrentCalls);
+  }
+
+  /**
+   * Takes a slot for a call, waiting at most the configured time.
+   *
+   * @return {@code true} if a slot was taken, {@code false} if the call must fail fast
+   */
+  public boolean tryAcquire() {
+    try {
+      final boolean acquired = maxWaitNanos <= 0
+        ? slots.tryAcquire()
+        : slots.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+      if (!acquired) {
+        rejectedCalls.increment();
+      }
+      return acquired;
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      rejectedCalls.increment();
+      return false;
+    }
+  }
+
+  /**
+   * Gives back a slot taken by {@link #tryAcquire()}.
+   */
+  public void release() {
+    slots.release();
+  }
+
+  /**
+   * Returns the number of calls currently holding a slot.
+   *
+   * @return the number of calls in flight
+   */
+  public int getInFlight() {
+    return maxConcurrentCalls - slots.availablePermits();
+  }
+
+  /**
+   * Returns the number of calls rejected because no slot freed up in time.
+   *
+   * @return the number of rejected calls
+   */
+  public long getRejectedCalls() {
+    return rejectedCalls.sum();
+  }
+
+  /**
+   * Returns the name of the bulkhead.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,174 @@
+package com.fleencorp.base.adapter.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-process circuit breaker that stops calls to an external system once too many of them fail.
+ *
+ * <p>While {@link CircuitState#CLOSED}, the outcomes of the most recent calls are kept in a count-based sliding
+ * window. When the window holds at least {@link ResilienceProperties#minimumCalls()} outcomes and the share of
+ * failures reaches {@link ResilienceProperties#failureRateThreshold()}, the circuit opens and calls are rejected
+ * without reaching the external system. After {@link ResilienceProperties#openDuration()} the circuit turns
+ * half-open and lets {@link ResilienceProperties#halfOpenCalls()} trial calls through: the circuit closes again if all
+ * of them succeed and reopens as soon as one fails.</p>
+ *
+ * <p>Callers ask for a permission with {@link #tryAcquirePermission()} and report the outcome of every permitted
+ * call with {@link #onSuccess()} or {@link #onFailure()}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class CircuitBreaker {
+
+  private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+  private final String name;
+  private final ResilienceProperties properties;
+  private final boolean[] window;
+  private int windowIndex;
+  private int windowCount;
+  private int windowFailures;
+
+  private CircuitState state = CircuitState.CLOSED;
+  private long openedAt;
+  private int halfOpenPermits;
+  private int halfOpenSuccesses;
+
+  private long openedCount;
+  private long halfOpenedCount;
+  private long closedCount;
+  private long rejectedCalls;
+
+  /**
+   * Creates a new circuit breaker.
+   *
+   * @param name       the name of the circuit breaker, used in logs and statistics
+   * @param properties the settings of the circuit breaker
+   */
+  public CircuitBreaker(final String name, final ResilienceProperties properties) {
+    this.name = name;
+    this.properties = properties;
+    this.window = new boolean[properties.slidingWindowSize()];
+  }
+
+  /**
+   * Asks whether a call may be made. Every permitted call must be followed by {@link #onSuccess()} or
+   * {@link #onFailure()}.
+   *
+   * @return {@code true} if the call may proceed, {@code false} if it must fail fast
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == CircuitState.OPEN && System.nanoTime() - openedAt >= properties.openDuration().toNanos()) {
+      transitionTo(CircuitState.HALF_OPEN);
+    }
+
+    if (state == CircuitState.CLOSED) {
+      return true;
+    }
+    if (state == CircuitState.HALF_OPEN && halfOpenPermits > 0) {
+      halfOpenPermits--;
+      return true;
+    }
+
+    rejectedCalls++;
+    return false;
+  }
+
+  /**
+   * Records a successful call.
+   */
+  public synchronized void onSuccess() {
+    if (state == CircuitState.HALF_OPEN) {
+      if (++halfOpenSuccesses >= properties.halfOpenCalls()) {
+        transitionTo(CircuitState.CLOSED);
+      }
+    } else if (state == CircuitState.CLOSED) {
+      record(false);
+    }
+  }
+
+  /**
+   * Records a failed call.
+   */
+  public synchronized void onFailure() {
+    if (state == CircuitState.HALF_OPEN) {
+      transitionTo(CircuitState.OPEN);
+    } else if (state == CircuitState.CLOSED) {
+      record(true);
+      if (windowCount >= properties.minimumCalls()
+          && windowFailures * 100 >= properties.failureRateThreshold() * windowCount) {
+        transitionTo(CircuitState.OPEN);
+      }
+    }
+  }
+
+  /**
+   * Returns the current state of the circuit.
+   *
+   * @return the current state
+   */
+  public synchronized CircuitState getState() {
+    return state;
+  }
+
+  /**
+   * Returns a snapshot of the state and transition counts of the circuit breaker.
+   *
+   * @return the statistics of the circuit breaker
+   */
+  public synchronized CircuitBreakerStats stats() {
+    final float failureRate = windowCount < properties.minimumCalls() ? -1 : windowFailures * 100f / windowCount;
+    return new CircuitBreakerStats(name, state, failureRate, openedCount, halfOpenedCount, closedCount, rejectedCalls);
+  }
+
+  /**
+   * Returns the name of the circuit breaker.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Adds an outcome to the sliding window, overwriting the oldest one once the window is full.
+   */
+  private void record(final boolean failure) {
+    if (windowCount == window.length) {
+      if (window[windowIndex]) {
+        windowFailures--;
+      }
+    } else {
+      windowCount++;
+    }
+
+    window[windowIndex] = failure;
+    if (failure) {
+      windowFailures++;
+    }
+    windowIndex = (windowIndex + 1) % window.length;
+  }
+
+  private void transitionTo(final CircuitState newState) {
+    log.warn("Circuit breaker {} changed from {} to {}", name, state, newState);
+    state = newState;
+    switch (newState) {
+      case OPEN -> {
+        openedAt = System.nanoTime();
+        openedCount++;
+      }
+      case HALF_OPEN -> {
+        halfOpenPermits = properties.halfOpenCalls();
+        halfOpenSuccesses = 0;
+        halfOpenedCount++;
+      }
+      case CLOSED -> {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        closedCount++;
+      }
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.fleencorp.base.adapter.resilience;
+
+/**
+ * A point-in-time snapshot of the state and transitions of a {@link CircuitBreaker}.
+ *
+ * @param name            the name of the circuit breaker
+ * @param state           the current state
+ * @param failureRate     the percentage of failed calls in the current window, or {@code -1} if the window holds too
+ *                        few calls to be evaluated
+ * @param openedCount     the number of transitions to {@link CircuitState#OPEN}
+ * @param halfOpenedCount the number of transitions to {@link CircuitState#HALF_OPEN}
+ * @param closedCount     the number of transitions back to {@link CircuitState#CLOSED}
+ * @param rejectedCalls   the number of calls rejected while the circuit was not closed
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record CircuitBreakerStats(
+    String name,
+    CircuitState state,
+    float failureRate,
+    long openedCount,
+    long halfOpenedCount,
+    long closedCount,
+    long rejectedCalls) {}
@@ -0,0 +1,25 @@
+package com.fleencorp.base.adapter.resilience;
+
+/**
+ * The states of a {@link CircuitBreaker}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public enum CircuitState {
+
+  /**
+   * Calls are let through and their outcomes recorded.
+   */
+  CLOSED,
+
+  /**
+   * Calls are rejected without reaching the external system.
+   */
+  OPEN,
+
+  /**
+   * A limited number of trial calls are let through to find out whether the external system recovered.
+   */
+  HALF_OPEN
+}
@@ -0,0 +1,67 @@
+package com.fleencorp.base.adapter.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the durations of the most recent calls to an external system and estimates a high percentile of them,
+ * which is used as the delay before a hedged request.
+ *
+ * <p>The percentile is recomputed from a sorted copy of the window every {@link #RECOMPUTE_INTERVAL} recorded calls
+ * rather than on every read.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class LatencyWindow {
+
+  private static final int WINDOW_SIZE = 256;
+  private static final int MIN_SAMPLES = 20;
+  private static final int RECOMPUTE_INTERVAL = 16;
+
+  private final long[] samples = new long[WINDOW_SIZE];
+  private final int percentile;
+  private int index;
+  private int count;
+  private int recordedSinceComputed;
+  private long cachedPercentile = -1;
+
+  /**
+   * Creates a new window.
+   *
+   * @param percentile the percentile to estimate, between 1 and 100
+   */
+  LatencyWindow(final int percentile) {
+    this.percentile = percentile;
+  }
+
+  /**
+   * Records the duration of a call.
+   *
+   * @param nanos the duration in nanoseconds
+   */
+  synchronized void record(final long nanos) {
+    samples[index] = nanos;
+    index = (index + 1) % WINDOW_SIZE;
+    count = Math.min(WINDOW_SIZE, count + 1);
+    recordedSinceComputed++;
+  }
+
+  /**
+   * Returns the estimated percentile of the recorded durations.
+   *
+   * @return the percentile in nanoseconds, or {@code -1} if too few calls were recorded
+   */
+  synchronized long getPercentileNanos() {
+    if (count < MIN_SAMPLES) {
+      return -1;
+    }
+
+    if (cachedPercentile < 0 || recordedSinceComputed >= RECOMPUTE_INTERVAL) {
+      final long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      cachedPercentile = sorted[Math.min(count - 1, (int) Math.ceil(count * percentile / 100.0) - 1)];
+      recordedSinceComputed = 0;
+    }
+    return cachedPercentile;
+  }
+}
@@ -0,0 +1,20 @@
+package com.fleencorp.base.adapter.resilience;
+
+/**
+ * What a {@link RateLimiter} does with a call that exceeds the rate.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public enum RateLimitPolicy {
+
+  /**
+   * The call waits for its turn, within the maximum queue wait and depth, and is rejected beyond them.
+   */
+  QUEUE,
+
+  /**
+   * The call is rejected straight away.
+   */
+  REJECT
+}
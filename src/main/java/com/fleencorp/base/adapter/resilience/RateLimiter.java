@@ -0,0 +1,231 @@
+package com.fleencorp.base.adapter.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Paces the calls of adapters to stay within the quotas of external systems, with one token bucket per adapter and
+ * route, a route being a scheme, host and port.
+ *
+ * <p>Calls over the configured rate either wait for their turn or are rejected, depending on the
+ * {@link RateLimitPolicy}. The limiter also adapts to what the external system reports: a {@code Retry-After} header
+ * on a {@code 429 Too Many Requests} or {@code 503 Service Unavailable} response holds the calls of the route until
+ * the given time, and the {@code RateLimit-Remaining}/{@code RateLimit-Reset} headers, or their {@code X-RateLimit-}
+ * variants, lower the available tokens and hold the calls once the quota is used up.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class RateLimiter {
+
+  private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+  private static final String[] REMAINING_HEADERS = {"RateLimit-Remaining", "X-RateLimit-Remaining"};
+  private static final String[] RESET_HEADERS = {"RateLimit-Reset", "X-RateLimit-Reset"};
+  private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVICE_UNAVAILABLE = 503;
+
+  private final RateLimiterProperties properties;
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final LongAdder permitted = new LongAdder();
+  private final LongAdder queued = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Creates a new rate limiter.
+   *
+   * @param properties the rate limiter settings
+   */
+  public RateLimiter(final RateLimiterProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Waits for the turn of a call, or rejects it.
+   *
+   * @param name the name of the adapter
+   * @param uri  the URI of the call
+   * @return {@code true} if the call may proceed, {@code false} if it was rejected
+   * @throws IllegalStateException if the thread is interrupted while waiting, in which case its turn is given back
+   */
+  public boolean acquire(final String name, final URI uri) {
+    final TokenBucket bucket = getBucket(name, uri);
+    final long maxWait = properties.policy() == RateLimitPolicy.REJECT ? 0 : properties.maxQueueWait().toNanos();
+    final long waitNanos = bucket.tryReserve(System.nanoTime(), maxWait);
+    if (waitNanos < 0) {
+      return reject(name, uri);
+    }
+
+    if (waitNanos > 0) {
+      final AtomicInteger waiting = bucket.getWaiting();
+      if (waiting.incrementAndGet() > properties.maxQueueDepth()) {
+        waiting.decrementAndGet();
+        bucket.release();
+        return reject(name, uri);
+      }
+
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (final InterruptedException ex) {
+        // The call is abandoned rather than rejected, so its turn goes back to the bucket
+        bucket.release();
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(String.format("Interrupted while waiting to call %s", uri.getHost()), ex);
+      } finally {
+        waiting.decrementAndGet();
+      }
+      queued.increment();
+      totalWaitNanos.add(waitNanos);
+      maxWaitNanos.accumulate(waitNanos);
+    }
+
+    permitted.increment();
+    return true;
+  }
+
+  /**
+   * Adjusts the limiter of a route to the quota information of a response.
+   *
+   * @param name    the name of the adapter
+   * @param uri     the URI of the call
+   * @param status  the status of the response
+   * @param headers the headers of the response
+   */
+  public void onResponse(final String name, final URI uri, final HttpStatusCode status, final HttpHeaders headers) {
+    if (isNull(headers)) {
+      return;
+    }
+
+    final TokenBucket bucket = getBucket(name, uri);
+    final long now = System.nanoTime();
+    if (status.value() == TOO_MANY_REQUESTS || status.value() == SERVICE_UNAVAILABLE) {
+      final long retryAfterNanos = parseRetryAfterNanos(headers.getFirst(HttpHeaders.RETRY_AFTER));
+      if (retryAfterNanos > 0) {
+        log.warn("{} asked to slow down calls to {} for {} ms", name, uri.getHost(), TimeUnit.NANOSECONDS.toMillis(retryAfterNanos));
+        bucket.pauseUntil(now + retryAfterNanos);
+      }
+    }
+
+    final long remaining = parseLong(getFirst(headers, REMAINING_HEADERS));
+    if (remaining >= 0) {
+      bucket.limitTo(remaining);
+      if (remaining == 0) {
+        final long resetNanos = parseResetNanos(getFirst(headers, RESET_HEADERS));
+        if (resetNanos > 0) {
+          bucket.pauseUntil(now + resetNanos);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a snapshot of the rate limiter statistics.
+   *
+   * @return the rate limiter statistics
+   */
+  public RateLimiterStats stats() {
+    int queueDepth = 0;
+    for (final TokenBucket bucket : buckets.values()) {
+      queueDepth += bucket.getWaiting().get();
+    }
+    return new RateLimiterStats(queueDepth, permitted.sum(), queued.sum(), rejected.sum(), totalWaitNanos.sum(), maxWaitNanos.get());
+  }
+
+  /**
+   * Returns the rate limiter settings.
+   *
+   * @return the rate limiter settings
+   */
+  public RateLimiterProperties getProperties() {
+    return properties;
+  }
+
+  private TokenBucket getBucket(final String name, final URI uri) {
+    final String key = name + "|" + uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    return buckets.computeIfAbsent(key, k -> new TokenBucket(properties.permitsPerSecond(), properties.burst()));
+  }
+
+  private boolean reject(final String name, final URI uri) {
+    rejected.increment();
+    log.warn("Rate limit of {} exceeded, rejecting call to {}", name, uri.getHost());
+    return false;
+  }
+
+  /**
+   * Parses a {@code Retry-After} value, either a number of seconds or an HTTP date.
+   *
+   * @return the delay in nanoseconds, or {@code -1} if the value is missing or invalid
+   */
+  private static long parseRetryAfterNanos(final String value) {
+    if (isNull(value)) {
+      return -1;
+    }
+
+    final long seconds = parseLong(value);
+    if (seconds >= 0) {
+      return TimeUnit.SECONDS.toNanos(seconds);
+    }
+    try {
+      final ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+      return Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt).toNanos();
+    } catch (final DateTimeParseException ex) {
+      return -1;
+    }
+  }
+
+  /**
+   * Parses a rate limit reset value, either a number of seconds or, for large values, an epoch second.
+   *
+   * @return the delay in nanoseconds, or {@code -1} if the value is missing or invalid
+   */
+  private static long parseResetNanos(final String value) {
+    long seconds = parseLong(value);
+    if (seconds < 0) {
+      return -1;
+    }
+    if (seconds > EPOCH_SECONDS_THRESHOLD) {
+      seconds -= System.currentTimeMillis() / 1000;
+    }
+    return TimeUnit.SECONDS.toNanos(seconds);
+  }
+
+  private static String getFirst(final HttpHeaders headers, final String[] names) {
+    for (final String name : names) {
+      final String value = headers.getFirst(name);
+      if (value != null) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  private static long parseLong(final String value) {
+    if (isNull(value)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (final NumberFormatException ex) {
+      return -1;
+    }
+  }
+}
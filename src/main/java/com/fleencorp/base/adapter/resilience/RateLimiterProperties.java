@@ -0,0 +1,47 @@
+package com.fleencorp.base.adapter.resilience;
+
+import java.time.Duration;
+
+/**
+ * Settings of the client-side rate limiter of adapters.
+ *
+ * @param permitsPerSecond the sustained number of calls per second allowed to each route
+ * @param burst            the number of calls that can be made at once after a quiet period
+ * @param policy           what to do with calls that exceed the rate
+ * @param maxQueueWait     the maximum time a queued call waits for its turn
+ * @param maxQueueDepth    the maximum number of calls waiting for their turn on a route
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record RateLimiterProperties(
+    double permitsPerSecond,
+    int burst,
+    RateLimitPolicy policy,
+    Duration maxQueueWait,
+    int maxQueueDepth) {
+
+  public static final double DEFAULT_PERMITS_PER_SECOND = 50;
+  public static final int DEFAULT_BURST = 50;
+  public static final Duration DEFAULT_MAX_QUEUE_WAIT = Duration.ofSeconds(5);
+  public static final int DEFAULT_MAX_QUEUE_DEPTH = 100;
+
+  public RateLimiterProperties {
+    permitsPerSecond = Math.max(0.001, permitsPerSecond);
+    burst = Math.max(1, burst);
+    maxQueueDepth = Math.max(0, maxQueueDepth);
+  }
+
+  /**
+   * Returns the default rate limiter settings.
+   *
+   * @return the default settings
+   */
+  public static RateLimiterProperties defaults() {
+    return new RateLimiterProperties(
+      DEFAULT_PERMITS_PER_SECOND,
+      DEFAULT_BURST,
+      RateLimitPolicy.QUEUE,
+      DEFAULT_MAX_QUEUE_WAIT,
+      DEFAULT_MAX_QUEUE_DEPTH);
+  }
+}
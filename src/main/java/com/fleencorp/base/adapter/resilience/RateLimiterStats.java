@@ -0,0 +1,31 @@
+package com.fleencorp.base.adapter.resilience;
+
+/**
+ * A point-in-time snapshot of the statistics of a {@link RateLimiter}.
+ *
+ * @param queueDepth     the number of calls currently waiting for their turn
+ * @param permitted      the number of calls let through
+ * @param queued         the number of calls that had to wait before being let through
+ * @param rejected       the number of calls rejected
+ * @param totalWaitNanos the total time calls waited, in nanoseconds
+ * @param maxWaitNanos   the longest time a call waited, in nanoseconds
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record RateLimiterStats(
+    int queueDepth,
+    long permitted,
+    long queued,
+    long rejected,
+    long totalWaitNanos,
+    long maxWaitNanos) {
+
+  /**
+   * Returns the average time the queued calls waited.
+   *
+   * @return the average wait in nanoseconds, or {@code 0} if no call waited
+   */
+  public long averageWaitNanos() {
+    return queued == 0 ? 0 : totalWaitNanos / queued;
+  }
+}
@@ -0,0 +1,62 @@
+package com.fleencorp.base.adapter.resilience;
+
+import java.time.Duration;
+
+/**
+ * Settings of the circuit breaker and bulkhead guarding the calls of an adapter.
+ *
+ * @param failureRateThreshold the percentage of failed calls in the window at which the circuit opens
+ * @param slidingWindowSize    the number of most recent calls whose outcomes are considered
+ * @param minimumCalls         the number of calls the window must hold before the failure rate is evaluated
+ * @param slowCallThreshold    the duration above which a successful call is counted as a failure
+ * @param openDuration         the time the circuit stays open before letting trial calls through
+ * @param halfOpenCalls        the number of trial calls let through while half-open
+ * @param maxConcurrentCalls   the maximum number of concurrent calls to the external system
+ * @param maxWait              the maximum time a call waits for a free slot of the bulkhead
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record ResilienceProperties(
+    int failureRateThreshold,
+    int slidingWindowSize,
+    int minimumCalls,
+    Duration slowCallThreshold,
+    Duration openDuration,
+    int halfOpenCalls,
+    int maxConcurrentCalls,
+    Duration maxWait) {
+
+  public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+  public static final int DEFAULT_SLIDING_WINDOW_SIZE = 50;
+  public static final int DEFAULT_MINIMUM_CALLS = 10;
+  public static final Duration DEFAULT_SLOW_CALL_THRESHOLD = Duration.ofSeconds(10);
+  public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+  public static final int DEFAULT_HALF_OPEN_CALLS = 3;
+  public static final int DEFAULT_MAX_CONCURRENT_CALLS = 25;
+  public static final Duration DEFAULT_MAX_WAIT = Duration.ZERO;
+
+  public ResilienceProperties {
+    failureRateThreshold = Math.min(100, Math.max(1, failureRateThreshold));
+    slidingWindowSize = Math.max(1, slidingWindowSize);
+    minimumCalls = Math.min(slidingWindowSize, Math.max(1, minimumCalls));
+    halfOpenCalls = Math.max(1, halfOpenCalls);
+    maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+  }
+
+  /**
+   * Returns the default resilience settings.
+   *
+   * @return the default settings
+   */
+  public static ResilienceProperties defaults() {
+    return new ResilienceProperties(
+      DEFAULT_FAILURE_RATE_THRESHOLD,
+      DEFAULT_SLIDING_WINDOW_SIZE,
+      DEFAULT_MINIMUM_CALLS,
+      DEFAULT_SLOW_CALL_THRESHOLD,
+      DEFAULT_OPEN_DURATION,
+      DEFAULT_HALF_OPEN_CALLS,
+      DEFAULT_MAX_CONCURRENT_CALLS,
+      DEFAULT_MAX_WAIT);
+  }
+}
@@ -0,0 +1,81 @@
+package com.fleencorp.base.adapter.resilience;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the circuit breakers and bulkheads of adapters, one of each per adapter and base URL, so that every instance
+ * of an adapter calling the same system shares them.
+ *
+ * <p>Adapters are only guarded once a registry is placed in the {@code AdapterContext} of the adapter or set on
+ * the adapter itself; without one, calls go straight to the transport as before.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class ResilienceRegistry {
+
+  private final ResilienceProperties properties;
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+  private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new registry.
+   *
+   * @param properties the settings of the circuit breakers and bulkheads it creates
+   */
+  public ResilienceRegistry(final ResilienceProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Returns the circuit breaker of the given name, creating it on first use.
+   *
+   * @param name the name, usually identifying an adapter and its base URL
+   * @return the circuit breaker
+   */
+  public CircuitBreaker circuitBreaker(final String name) {
+    return circuitBreakers.computeIfAbsent(name, key -> new CircuitBreaker(key, properties));
+  }
+
+  /**
+   * Returns the bulkhead of the given name, creating it on first use.
+   *
+   * @param name the name, usually identifying an adapter and its base URL
+   * @return the bulkhead
+   */
+  public Bulkhead bulkhead(final String name) {
+    return bulkheads.computeIfAbsent(name, key -> new Bulkhead(key, properties.maxConcurrentCalls(), properties.maxWait()));
+  }
+
+  /**
+   * Returns a snapshot of the statistics of every circuit breaker.
+   *
+   * @return the statistics of the circuit breakers
+   */
+  public List<CircuitBreakerStats> getCircuitBreakerStats() {
+    return circuitBreakers.values().stream()
+      .map(CircuitBreaker::stats)
+      .toList();
+  }
+
+  /**
+   * Returns the bulkheads created so far.
+   *
+   * @return the bulkheads
+   */
+  public Collection<Bulkhead> getBulkheads() {
+    return List.copyOf(bulkheads.values());
+  }
+
+  /**
+   * Returns the settings of the circuit breakers and bulkheads.
+   *
+   * @return the settings
+   */
+  public ResilienceProperties getProperties() {
+    return properties;
+  }
+}
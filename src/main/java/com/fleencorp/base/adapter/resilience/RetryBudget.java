@@ -0,0 +1,56 @@
+package com.fleencorp.base.adapter.resilience;
+
+/**
+ * The retry budget of one external system: every call earns a share of a retry and every retry or hedge spends one,
+ * up to a maximum number of saved retries.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class RetryBudget {
+
+  private final double ratio;
+  private final int maxTokens;
+  private double tokens;
+
+  /**
+   * Creates a full budget.
+   *
+   * @param ratio     the share of a retry earned by every call
+   * @param maxTokens the maximum number of retries saved in the budget
+   */
+  RetryBudget(final double ratio, final int maxTokens) {
+    this.ratio = ratio;
+    this.maxTokens = maxTokens;
+    this.tokens = maxTokens;
+  }
+
+  /**
+   * Adds the share of a retry earned by a call.
+   */
+  synchronized void deposit() {
+    tokens = Math.min(maxTokens, tokens + ratio);
+  }
+
+  /**
+   * Spends one retry if the budget has one.
+   *
+   * @return {@code true} if a retry was spent, {@code false} if the budget is exhausted
+   */
+  synchronized boolean tryWithdraw() {
+    if (tokens >= 1) {
+      tokens -= 1;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the number of retries currently available.
+   *
+   * @return the available retries
+   */
+  synchronized double getTokens() {
+    return tokens;
+  }
+}
@@ -0,0 +1,248 @@
+package com.fleencorp.base.adapter.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Retries idempotent adapter calls that failed with a transient error, and optionally hedges slow ones.
+ *
+ * <p>Only calls with an idempotent {@link HttpMethod} are retried, and only when they end with a
+ * {@link #RETRYABLE_STATUSES retryable status}, which includes the {@code 500} adapters report for connection
+ * errors. The delay before each retry is drawn at random between zero and an exponentially growing bound ("full
+ * jitter"), so that clients failing together do not retry together.</p>
+ *
+ * <p>Retries are limited by a budget kept for each external system, the way {@link ResilienceRegistry} keeps a circuit
+ * breaker for each: every call earns {@link RetryProperties#retryBudgetRatio()} of a retry and every retry or hedge
+ * spends one, so that during an outage the retries add at most that share of extra traffic instead of multiplying it,
+ * and an outage of one system does not use up the retries of the others.</p>
+ *
+ * <p>With hedging enabled, an attempt that takes longer than the 95th percentile of the recent calls to the same
+ * system is raced against a second attempt, and the first response to arrive without a retryable status is used. The
+ * slower attempt is not interrupted: interrupting it would surface as a connection error, counted as a failure by the
+ * circuit breaker and the metrics. It completes in the background and its response is discarded.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class RetryPolicy {
+
+  private static final Logger log = LoggerFactory.getLogger(RetryPolicy.class);
+
+  /**
+   * The methods that can be sent more than once without changing the outcome.
+   */
+  public static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+    HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.TRACE, HttpMethod.PUT, HttpMethod.DELETE);
+
+  /**
+   * The response statuses considered transient.
+   */
+  public static final Set<Integer> RETRYABLE_STATUSES = Set.of(500, 502, 503, 504);
+
+  private static final int HEDGE_PERCENTILE = 95;
+
+  private final RetryProperties properties;
+  private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+  private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+  private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder hedges = new LongAdder();
+  private final LongAdder budgetExhausted = new LongAdder();
+
+  /**
+   * Creates a new retry policy.
+   *
+   * @param properties the retry settings
+   */
+  public RetryPolicy(final RetryProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Runs a call, retrying or hedging it if its method is idempotent.
+   *
+   * @param name   the name of the external system, used to track its latency and retry budget
+   * @param method the HTTP method of the call
+   * @param call   sends one attempt of the call
+   * @param <T>    the type of the response body
+   * @return the response of the last attempt
+   */
+  public <T> ResponseEntity<T> execute(final String name, final HttpMethod method, final Supplier<ResponseEntity<T>> call) {
+    if (!IDEMPOTENT_METHODS.contains(method)) {
+      return call.get();
+    }
+
+    final RetryBudget budget = getBudget(name);
+    budget.deposit();
+    final LatencyWindow latencyWindow = latencies.computeIfAbsent(name, key -> new LatencyWindow(HEDGE_PERCENTILE));
+    int attempt = 1;
+    while (true) {
+      final ResponseEntity<T> response = properties.hedgingEnabled()
+        ? executeHedged(name, latencyWindow, budget, call)
+        : executeTimed(latencyWindow, call);
+
+      if (!isRetryable(response) || attempt >= properties.maxAttempts()) {
+        return response;
+      }
+      if (!tryWithdraw(budget)) {
+        log.warn("Retry budget exhausted, not retrying call to {}", name);
+        return response;
+      }
+
+      final long backoffNanos = getBackoffNanos(attempt);
+      log.info("Retrying call to {} after status {} in {} ms, attempt {} of {}", name, response.getStatusCode().value(),
+        TimeUnit.NANOSECONDS.toMillis(backoffNanos), attempt + 1, properties.maxAttempts());
+      try {
+        TimeUnit.NANOSECONDS.sleep(backoffNanos);
+      } catch (final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return response;
+      }
+      retries.increment();
+      attempt++;
+    }
+  }
+
+  /**
+   * Returns a snapshot of the retry statistics, with the retries available in the budgets of all external systems.
+   *
+   * @return the retry statistics
+   */
+  public RetryStats stats() {
+    final double tokens = budgets.values().stream()
+      .mapToDouble(RetryBudget::getTokens)
+      .sum();
+    return new RetryStats(retries.sum(), hedges.sum(), budgetExhausted.sum(), tokens);
+  }
+
+  /**
+   * Returns the number of retries available in the budget of an external system.
+   *
+   * @param name the name of the external system
+   * @return the available retries, which is the maximum for a system not called yet
+   */
+  public double getBudgetTokens(final String name) {
+    final RetryBudget budget = budgets.get(name);
+    return budget != null ? budget.getTokens() : properties.retryBudgetMaxTokens();
+  }
+
+  /**
+   * Returns the retry settings.
+   *
+   * @return the retry settings
+   */
+  public RetryProperties getProperties() {
+    return properties;
+  }
+
+  /**
+   * Runs one attempt on the calling thread and records its duration.
+   */
+  private <T> ResponseEntity<T> executeTimed(final LatencyWindow latencyWindow, final Supplier<ResponseEntity<T>> call) {
+    final long startedAt = System.nanoTime();
+    final ResponseEntity<T> response = call.get();
+    latencyWindow.record(System.nanoTime() - startedAt);
+    return response;
+  }
+
+  /**
+   * Runs one attempt and, if it is still running after the hedge delay, a second one, returning the first response
+   * to arrive without a retryable status, or else the last response. Attempts run on virtual threads; the one that
+   * loses the race is left to complete without being interrupted.
+   */
+  private <T> ResponseEntity<T> executeHedged(final String name, final LatencyWindow latencyWindow,
+                                              final RetryBudget budget, final Supplier<ResponseEntity<T>> call) {
+    final long percentileNanos = latencyWindow.getPercentileNanos();
+    if (percentileNanos < 0) {
+      return executeTimed(latencyWindow, call);
+    }
+
+    final long hedgeDelayNanos = Math.max(percentileNanos, properties.hedgeMinDelay().toNanos());
+    final CompletionService<ResponseEntity<T>> completionService = new ExecutorCompletionService<>(hedgeExecutor);
+    final List<Future<ResponseEntity<T>>> attempts = new ArrayList<>(2);
+    attempts.add(completionService.submit(() -> executeTimed(latencyWindow, call)));
+
+    try {
+      Future<ResponseEntity<T>> completed = completionService.poll(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+      if (completed == null && tryWithdraw(budget)) {
+        log.debug("Hedging call to {} after {} ms", name, TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+        attempts.add(completionService.submit(() -> executeTimed(latencyWindow, call)));
+        hedges.increment();
+      }
+
+      ResponseEntity<T> retryableResponse = null;
+      RuntimeException failure = null;
+      for (int pending = attempts.size(); pending > 0; pending--) {
+        if (completed == null) {
+          completed = completionService.take();
+        }
+        try {
+          final ResponseEntity<T> response = completed.get();
+          if (!isRetryable(response)) {
+            return response;
+          }
+          // Wait for the other attempt, which may still succeed
+          retryableResponse = response;
+        } catch (final ExecutionException ex) {
+          failure = ex.getCause() instanceof final RuntimeException cause ? cause : new IllegalStateException(ex.getCause());
+        }
+        completed = null;
+      }
+      if (retryableResponse != null) {
+        return retryableResponse;
+      }
+      throw failure;
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(String.format("Interrupted while calling %s", name), ex);
+    } finally {
+      // Interrupting the losing attempt would turn it into a connection error reported as a failed call
+      attempts.forEach(attempt -> attempt.cancel(false));
+    }
+  }
+
+  private static boolean isRetryable(final ResponseEntity<?> response) {
+    return RETRYABLE_STATUSES.contains(response.getStatusCode().value());
+  }
+
+  /**
+   * Returns a random delay between zero and the exponentially growing bound of the given retry.
+   */
+  private long getBackoffNanos(final int attempt) {
+    final double bound = Math.min(
+      properties.maxBackoff().toNanos(),
+      properties.initialBackoff().toNanos() * Math.pow(properties.backoffMultiplier(), attempt - 1));
+    return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong((long) bound + 1);
+  }
+
+  private RetryBudget getBudget(final String name) {
+    return budgets.computeIfAbsent(name, key ->
+      new RetryBudget(properties.retryBudgetRatio(), properties.retryBudgetMaxTokens()));
+  }
+
+  private boolean tryWithdraw(final RetryBudget budget) {
+    if (budget.tryWithdraw()) {
+      return true;
+    }
+    budgetExhausted.increment();
+    return false;
+  }
+}
@@ -0,0 +1,61 @@
+package com.fleencorp.base.adapter.resilience;
+
+import java.time.Duration;
+
+/**
+ * Settings of the retries and hedged requests of idempotent adapter calls.
+ *
+ * @param maxAttempts          the maximum number of attempts of a call, including the first one
+ * @param initialBackoff       the upper bound of the delay before the first retry
+ * @param maxBackoff           the upper bound of the delay before any retry
+ * @param backoffMultiplier    the factor by which the upper bound of the delay grows after each retry
+ * @param retryBudgetRatio     the number of retries earned by each call, so that retries stay a bounded share of
+ *                             the traffic
+ * @param retryBudgetMaxTokens the maximum number of retries that can be saved up, which is also the initial budget
+ * @param hedgingEnabled       whether a second attempt is sent when the first one is slower than usual
+ * @param hedgeMinDelay        the minimum time to wait for the first attempt before sending a hedged one
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record RetryProperties(
+    int maxAttempts,
+    Duration initialBackoff,
+    Duration maxBackoff,
+    double backoffMultiplier,
+    double retryBudgetRatio,
+    int retryBudgetMaxTokens,
+    boolean hedgingEnabled,
+    Duration hedgeMinDelay) {
+
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+  public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+  public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(2);
+  public static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+  public static final double DEFAULT_RETRY_BUDGET_RATIO = 0.2;
+  public static final int DEFAULT_RETRY_BUDGET_MAX_TOKENS = 10;
+  public static final Duration DEFAULT_HEDGE_MIN_DELAY = Duration.ofMillis(50);
+
+  public RetryProperties {
+    maxAttempts = Math.max(1, maxAttempts);
+    backoffMultiplier = Math.max(1.0, backoffMultiplier);
+    retryBudgetRatio = Math.max(0.0, retryBudgetRatio);
+    retryBudgetMaxTokens = Math.max(0, retryBudgetMaxTokens);
+  }
+
+  /**
+   * Returns the default retry settings, with hedging disabled.
+   *
+   * @return the default settings
+   */
+  public static RetryProperties defaults() {
+    return new RetryProperties(
+      DEFAULT_MAX_ATTEMPTS,
+      DEFAULT_INITIAL_BACKOFF,
+      DEFAULT_MAX_BACKOFF,
+      DEFAULT_BACKOFF_MULTIPLIER,
+      DEFAULT_RETRY_BUDGET_RATIO,
+      DEFAULT_RETRY_BUDGET_MAX_TOKENS,
+      false,
+      DEFAULT_HEDGE_MIN_DELAY);
+  }
+}
@@ -0,0 +1,13 @@
+package com.fleencorp.base.adapter.resilience;
+
+/**
+ * A point-in-time snapshot of the statistics of a {@link RetryPolicy}.
+ *
+ * @param retries         the number of retries sent
+ * @param hedges          the number of hedged attempts sent
+ * @param budgetExhausted the number of retries or hedges not sent because the retry budget was exhausted
+ * @param budgetTokens    the number of retries currently available, summed over the budgets of all external systems
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record RetryStats(long retries, long hedges, long budgetExhausted, double budgetTokens) {}
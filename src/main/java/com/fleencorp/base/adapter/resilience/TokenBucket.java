@@ -0,0 +1,108 @@
+package com.fleencorp.base.adapter.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A token bucket that also honours pauses requested by the external system.
+ *
+ * <p>Tokens are refilled continuously at the configured rate up to the burst size. A call that finds the bucket empty
+ * reserves a future token, which tells it how long to wait; reservations make callers wait in arrival order without
+ * a separate queue. A pause, set from a {@code Retry-After} or rate limit reset header, holds every call until it
+ * ends.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class TokenBucket {
+
+  private final double permitsPerNano;
+  private final double burst;
+  private final AtomicInteger waiting = new AtomicInteger();
+  private double tokens;
+  private long refilledAt;
+  private long pausedUntil;
+
+  TokenBucket(final double permitsPerSecond, final int burst) {
+    this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.burst = burst;
+    this.tokens = burst;
+    this.refilledAt = System.nanoTime();
+    this.pausedUntil = refilledAt;
+  }
+
+  /**
+   * Returns how long a call would wait for a token, without taking one.
+   *
+   * @param now the current {@link System#nanoTime()} value
+   * @return the wait in nanoseconds, {@code 0} if a token is available
+   */
+  synchronized long getWaitNanos(final long now) {
+    refill(now);
+    return Math.max(getPauseNanos(now), tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / permitsPerNano));
+  }
+
+  /**
+   * Takes a token, reserving a future one if the bucket is empty, unless the wait would exceed the given maximum.
+   *
+   * @param now          the current {@link System#nanoTime()} value
+   * @param maxWaitNanos the maximum acceptable wait in nanoseconds
+   * @return the time to wait before using the token in nanoseconds, or {@code -1} if no token was taken
+   */
+  synchronized long tryReserve(final long now, final long maxWaitNanos) {
+    final long waitNanos = getWaitNanos(now);
+    if (waitNanos > maxWaitNanos) {
+      return -1;
+    }
+    tokens -= 1;
+    return waitNanos;
+  }
+
+  /**
+   * Gives back a token taken by {@link #tryReserve(long, long)} for a call that was not made.
+   */
+  synchronized void release() {
+    tokens = Math.min(burst, tokens + 1);
+  }
+
+  /**
+   * Holds all calls until the given time.
+   *
+   * @param until the {@link System#nanoTime()} value until which calls are held
+   */
+  synchronized void pauseUntil(final long until) {
+    if (until - pausedUntil > 0) {
+      pausedUntil = until;
+    }
+  }
+
+  /**
+   * Lowers the available tokens to the number of calls the external system reports as remaining.
+   *
+   * @param remaining the number of remaining calls reported by the external system
+   */
+  synchronized void limitTo(final long remaining) {
+    refill(System.nanoTime());
+    tokens = Math.min(tokens, remaining);
+  }
+
+  /**
+   * Returns the number of calls waiting for their reserved token, which the rate limiter keeps up to date.
+   *
+   * @return the counter of waiting calls
+   */
+  AtomicInteger getWaiting() {
+    return waiting;
+  }
+
+  private long getPauseNanos(final long now) {
+    return Math.max(0, pausedUntil - now);
+  }
+
+  private void refill(final long now) {
+    if (now - refilledAt > 0) {
+      tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+      refilledAt = now;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.fleencorp.base.adapter.transport;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Creates the HTTP transport used by adapters, built on the JDK {@link HttpClient}.
+ *
+ * <p>All clients created by a factory share a single {@link HttpClient}, and therefore a single connection pool:
+ * connections and TLS sessions opened by one adapter are reused by the others instead of being negotiated again on
+ * every call. The client negotiates HTTP/2 when enabled, which multiplexes concurrent requests to a host over one
+ * connection, and falls back to HTTP/1.1 otherwise. Requests run on virtual threads, and the number of concurrent
+ * requests per route is capped by a {@link RouteConcurrencyInterceptor}. When enabled, responses are compressed and
+ * decoded as they are read by a {@link CompressionInterceptor}. The bytes of response bodies are counted by a
+ * {@link ResponseSizeInterceptor}.</p>
+ *
+ * <p>The JDK client only reads its keep-alive setting from the {@code jdk.httpclient.keepalive.timeout} system
+ * property, once per JVM, when its connection pool is first used. That property is global, so the factory never sets
+ * it: the application applies {@link AdapterTransportProperties#keepAlive()} once at startup with
+ * {@link #applyKeepAlive(Duration)}, before any JDK HTTP client is used.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class AdapterTransportFactory {
+
+  private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
+  private final AdapterTransportProperties properties;
+  private final HttpClient httpClient;
+  private final RouteConcurrencyInterceptor routeConcurrencyInterceptor;
+  private final CompressionInterceptor compressionInterceptor;
+  private final ResponseSizeInterceptor responseSizeInterceptor = new ResponseSizeInterceptor();
+
+  /**
+   * Creates a new factory and its shared {@link HttpClient}.
+   *
+   * @param properties the transport settings
+   */
+  public AdapterTransportFactory(final AdapterTransportProperties properties) {
+    this.properties = properties;
+    this.httpClient = HttpClient.newBuilder()
+      .version(properties.http2Enabled() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+      .connectTimeout(properties.connectTimeout())
+      .followRedirects(HttpClient.Redirect.NORMAL)
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+    this.routeConcurrencyInterceptor = new RouteConcurrencyInterceptor(properties.maxConnectionsPerRoute(), properties.connectTimeout());
+    this.compressionInterceptor = properties.compressionEnabled()
+      ? new CompressionInterceptor(properties.requestCompressionMinBytes())
+      : null;
+  }
+
+  /**
+   * Sets the keep-alive time of the connections of every JDK {@link HttpClient} in the JVM, unless the
+   * {@code jdk.httpclient.keepalive.timeout} system property was already set, for example on the command line. Meant
+   * to be called once at startup; it has no effect once a JDK HTTP client has opened a connection.
+   *
+   * @param keepAlive the time an idle connection is kept open for reuse
+   */
+  public static void applyKeepAlive(final Duration keepAlive) {
+    if (isNull(System.getProperty(KEEP_ALIVE_PROPERTY))) {
+      System.setProperty(KEEP_ALIVE_PROPERTY, String.valueOf(keepAlive.toSeconds()));
+    }
+  }
+
+  /**
+   * Creates a request factory backed by the shared {@link HttpClient}, applying the read timeout.
+   *
+   * @return a new request factory
+   */
+  public ClientHttpRequestFactory createRequestFactory() {
+    final JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(properties.readTimeout());
+    return requestFactory;
+  }
+
+  /**
+   * Creates a {@link RestClient} using the shared transport.
+   *
+   * @return a new REST client
+   */
+  public RestClient createRestClient() {
+    return RestClient.builder()
+      .requestFactory(createRequestFactory())
+      .requestInterceptors(interceptors -> interceptors.addAll(getInterceptors()))
+      .build();
+  }
+
+  /**
+   * Creates a {@link RestTemplate} using the shared transport.
+   *
+   * @return a new REST template
+   */
+  public RestTemplate createRestTemplate() {
+    final RestTemplate restTemplate = new RestTemplate(createRequestFactory());
+    restTemplate.getInterceptors().addAll(getInterceptors());
+    return restTemplate;
+  }
+
+  /**
+   * Returns the interceptors applied to every client: the route concurrency limit, then compression when enabled,
+   * then the counting of response bytes, closest to the network.
+   *
+   * @return the interceptors
+   */
+  private List<ClientHttpRequestInterceptor> getInterceptors() {
+    return nonNull(compressionInterceptor)
+      ? List.of(routeConcurrencyInterceptor, compressionInterceptor, responseSizeInterceptor)
+      : List.of(routeConcurrencyInterceptor, responseSizeInterceptor);
+  }
+
+  /**
+   * Returns the {@link HttpClient} shared by every client created by this factory.
+   *
+   * @return the shared HTTP client
+   */
+  public HttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  /**
+   * Returns the interceptor limiting concurrent requests per route, which also reports the requests in flight.
+   *
+   * @return the route concurrency interceptor
+   */
+  public RouteConcurrencyInterceptor getRouteConcurrencyInterceptor() {
+    return routeConcurrencyInterceptor;
+  }
+
+  /**
+   * Returns the transport settings.
+   *
+   * @return the transport settings
+   */
+  public AdapterTransportProperties getProperties() {
+    return properties;
+  }
+}
@@ -0,0 +1,50 @@
+package com.fleencorp.base.adapter.transport;
+
+import java.time.Duration;
+
+/**
+ * Settings of the HTTP transport shared by adapters.
+ *
+ * @param connectTimeout             the maximum time to establish a connection
+ * @param readTimeout                the maximum time to wait for a response
+ * @param maxConnectionsPerRoute     the maximum number of concurrent requests to a single host and port, which bounds
+ *                                   the number of HTTP/1.1 connections opened to it
+ * @param keepAlive                  the time an idle connection is kept open for reuse
+ * @param http2Enabled               whether HTTP/2 is negotiated, multiplexing requests to a host over one connection
+ * @param compressionEnabled         whether compressed responses are negotiated with {@code Accept-Encoding} and
+ *                                   decoded as they are read
+ * @param requestCompressionMinBytes the size from which request bodies are sent gzip-compressed, or {@code 0} to
+ *                                   never compress request bodies; only applies when compression is enabled
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record AdapterTransportProperties(
+    Duration connectTimeout,
+    Duration readTimeout,
+    int maxConnectionsPerRoute,
+    Duration keepAlive,
+    boolean http2Enabled,
+    boolean compressionEnabled,
+    int requestCompressionMinBytes) {
+
+  public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+  public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+  public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+  public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(30);
+
+  /**
+   * Returns the default transport settings.
+   *
+   * @return the default settings
+   */
+  public static AdapterTransportProperties defaults() {
+    return new AdapterTransportProperties(
+      DEFAULT_CONNECT_TIMEOUT,
+      DEFAULT_READ_TIMEOUT,
+      DEFAULT_MAX_CONNECTIONS_PER_ROUTE,
+      DEFAULT_KEEP_ALIVE,
+      true,
+      true,
+      0);
+  }
+}
@@ -0,0 +1,157 @@
+package com.fleencorp.base.adapter.transport;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Negotiates compressed responses and optionally compresses large request bodies.
+ *
+ * <p>The JDK {@link java.net.http.HttpClient} neither asks for nor decodes compressed responses. This interceptor
+ * sends {@code Accept-Encoding: gzip, deflate} unless the request already names an encoding, and decodes a
+ * {@code gzip} or {@code deflate} response body as it is read, so a large response is never held in memory in either
+ * form. The decoded response no longer carries the {@code Content-Encoding} and {@code Content-Length} headers.</p>
+ *
+ * <p>Request bodies of at least the configured size are sent gzip-compressed with a {@code Content-Encoding} header.
+ * Only enable this for external systems known to accept compressed requests. Bodies are already serialized once into
+ * a byte array by the adapters, so compression works on that array.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class CompressionInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final String GZIP = "gzip";
+  private static final String DEFLATE = "deflate";
+  private static final String ACCEPTED_ENCODINGS = GZIP + ", " + DEFLATE;
+  private static final int BUFFER_SIZE = 8192;
+
+  private final int requestCompressionMinBytes;
+
+  /**
+   * Creates a new interceptor.
+   *
+   * @param requestCompressionMinBytes the size from which request bodies are compressed, or {@code 0} or less to never
+   *                                   compress request bodies
+   */
+  public CompressionInterceptor(final int requestCompressionMinBytes) {
+    this.requestCompressionMinBytes = requestCompressionMinBytes;
+  }
+
+  @Override
+  @NonNull
+  public ClientHttpResponse intercept(@NonNull final HttpRequest request, @NonNull final byte[] body,
+                                      @NonNull final ClientHttpRequestExecution execution) throws IOException {
+    final HttpHeaders headers = request.getHeaders();
+    if (isNull(headers.getFirst(HttpHeaders.ACCEPT_ENCODING))) {
+      headers.set(HttpHeaders.ACCEPT_ENCODING, ACCEPTED_ENCODINGS);
+    }
+
+    byte[] sentBody = body;
+    if (requestCompressionMinBytes > 0 && body.length >= requestCompressionMinBytes
+        && isNull(headers.getFirst(HttpHeaders.CONTENT_ENCODING))) {
+      sentBody = gzip(body);
+      headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+      headers.setContentLength(sentBody.length);
+    }
+
+    final ClientHttpResponse response = execution.execute(request, sentBody);
+    final String encoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    if (GZIP.equalsIgnoreCase(encoding) || DEFLATE.equalsIgnoreCase(encoding)) {
+      return new DecompressingResponse(response, GZIP.equalsIgnoreCase(encoding));
+    }
+    return response;
+  }
+
+  private static byte[] gzip(final byte[] body) throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, BUFFER_SIZE)) {
+      gzip.write(body);
+    }
+    return compressed.toByteArray();
+  }
+
+  /**
+   * A response whose body is decoded as it is read.
+   */
+  private static final class DecompressingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final boolean gzip;
+    private final HttpHeaders headers;
+    private InputStream body;
+
+    private DecompressingResponse(final ClientHttpResponse delegate, final boolean gzip) {
+      this.delegate = delegate;
+      this.gzip = gzip;
+      this.headers = new HttpHeaders();
+      this.headers.addAll(delegate.getHeaders());
+      this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+      this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+    }
+
+    @Override
+    @NonNull
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    @NonNull
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    /**
+     * Returns the decoded body. An empty body, as sent with some {@code 204} or {@code 304} responses that still
+     * declare an encoding, is returned as is since it has no compression header to read.
+     */
+    @Override
+    @NonNull
+    public synchronized InputStream getBody() throws IOException {
+      if (isNull(body)) {
+        final PushbackInputStream raw = new PushbackInputStream(delegate.getBody(), 1);
+        final int first = raw.read();
+        if (first < 0) {
+          body = raw;
+        } else {
+          raw.unread(first);
+          body = gzip ? new GZIPInputStream(raw, BUFFER_SIZE) : new InflaterInputStream(raw);
+        }
+      }
+      return body;
+    }
+
+    @Override
+    @NonNull
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public void close() {
+      try {
+        if (body != null) {
+          body.close();
+        }
+      } catch (final IOException ignored) {
+      } finally {
+        delegate.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.fleencorp.base.adapter.transport;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Counts the bytes of response bodies as they are read, for requests that ask for it.
+ *
+ * <p>The {@code Content-Length} header is missing from chunked responses and from responses decoded by the
+ * {@link CompressionInterceptor}, so it cannot tell the size of a response. A request carrying an {@link AtomicLong}
+ * under the {@link #BYTES_READ_ATTRIBUTE} attribute instead has it reset to {@code 0} when its response arrives, and
+ * increased by every byte read from the response body. The interceptor runs closest to the network, so compressed
+ * bodies are counted as received. A counter left at a negative value means the response size is unknown, for example
+ * because the client does not use this interceptor.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class ResponseSizeInterceptor implements ClientHttpRequestInterceptor {
+
+  /**
+   * The name of the request attribute holding the {@link AtomicLong} that counts the bytes of the response body.
+   */
+  public static final String BYTES_READ_ATTRIBUTE = ResponseSizeInterceptor.class.getName() + ".bytesRead";
+
+  @Override
+  @NonNull
+  public ClientHttpResponse intercept(@NonNull final HttpRequest request, @NonNull final byte[] body,
+                                      @NonNull final ClientHttpRequestExecution execution) throws IOException {
+    final ClientHttpResponse response = execution.execute(request, body);
+    if (request.getAttributes().get(BYTES_READ_ATTRIBUTE) instanceof final AtomicLong bytesRead) {
+      bytesRead.set(0);
+      return new CountingResponse(response, bytesRead);
+    }
+    return response;
+  }
+
+  /**
+   * A response counting the bytes read from its body.
+   */
+  private static final class CountingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final AtomicLong bytesRead;
+    private InputStream body;
+
+    private CountingResponse(final ClientHttpResponse delegate, final AtomicLong bytesRead) {
+      this.delegate = delegate;
+      this.bytesRead = bytesRead;
+    }
+
+    @Override
+    @NonNull
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    @NonNull
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    @NonNull
+    public synchronized InputStream getBody() throws IOException {
+      if (isNull(body)) {
+        body = new CountingInputStream(delegate.getBody(), bytesRead);
+      }
+      return body;
+    }
+
+    @Override
+    @NonNull
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+  }
+
+  /**
+   * A stream adding the bytes read from it to a counter.
+   */
+  private static final class CountingInputStream extends FilterInputStream {
+
+    private final AtomicLong bytesRead;
+
+    private CountingInputStream(final InputStream in, final AtomicLong bytesRead) {
+      super(in);
+      this.bytesRead = bytesRead;
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int read = super.read();
+      if (read >= 0) {
+        bytesRead.incrementAndGet();
+      }
+      return read;
+    }
+
+    @Override
+    public int read(@NonNull final byte[] buffer, final int offset, final int length) throws IOException {
+      final int read = super.read(buffer, offset, length);
+      if (read > 0) {
+        bytesRead.addAndGet(read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(final long count) throws IOException {
+      final long skipped = super.skip(count);
+      bytesRead.addAndGet(Math.max(0, skipped));
+      return skipped;
+    }
+  }
+}
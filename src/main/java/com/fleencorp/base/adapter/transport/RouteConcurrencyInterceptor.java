@@ -0,0 +1,138 @@
+package com.fleencorp.base.adapter.transport;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of concurrent requests sent to each route, a route being a scheme, host and port.
+ *
+ * <p>The JDK {@link java.net.http.HttpClient} opens as many HTTP/1.1 connections to a host as there are concurrent
+ * requests, and offers no per-host limit. This interceptor adds one: a request waits for a permit of its route before
+ * being sent and gives it back once its response is closed. A request that cannot get a permit within the wait
+ * timeout fails with an {@link IOException}, which the REST clients report as a
+ * {@link org.springframework.web.client.ResourceAccessException}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class RouteConcurrencyInterceptor implements ClientHttpRequestInterceptor {
+
+  private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+  private final int maxConcurrentRequests;
+  private final long waitTimeoutNanos;
+
+  /**
+   * Creates a new interceptor.
+   *
+   * @param maxConcurrentRequests the maximum number of concurrent requests per route
+   * @param waitTimeout           the maximum time a request waits for a permit
+   */
+  public RouteConcurrencyInterceptor(final int maxConcurrentRequests, final Duration waitTimeout) {
+    this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+    this.waitTimeoutNanos = waitTimeout.toNanos();
+  }
+
+  @Override
+  @NonNull
+  public ClientHttpResponse intercept(@NonNull final HttpRequest request, @NonNull final byte[] body,
+                                      @NonNull final ClientHttpRequestExecution execution) throws IOException {
+    final String route = getRoute(request.getURI());
+    final Semaphore semaphore = permits.computeIfAbsent(route, key -> new Semaphore(maxConcurrentRequests));
+
+    try {
+      if (!semaphore.tryAcquire(waitTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new IOException(String.format("Too many concurrent requests to %s", route));
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException(String.format("Interrupted while waiting for a connection to %s", route), ex);
+    }
+
+    try {
+      return new PermitReleasingResponse(execution.execute(request, body), semaphore);
+    } catch (final IOException | RuntimeException ex) {
+      semaphore.release();
+      throw ex;
+    }
+  }
+
+  /**
+   * Returns the number of requests currently in flight to the route of the given URI.
+   *
+   * @param uri a URI of the route
+   * @return the number of requests in flight
+   */
+  public int getInFlight(final URI uri) {
+    final Semaphore semaphore = permits.get(getRoute(uri));
+    return semaphore == null ? 0 : maxConcurrentRequests - semaphore.availablePermits();
+  }
+
+  private static String getRoute(final URI uri) {
+    return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+  }
+
+  /**
+   * A response that releases the permit of its route once closed.
+   */
+  private static final class PermitReleasingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final Semaphore semaphore;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private PermitReleasingResponse(final ClientHttpResponse delegate, final Semaphore semaphore) {
+      this.delegate = delegate;
+      this.semaphore = semaphore;
+    }
+
+    @Override
+    @NonNull
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    @NonNull
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    @NonNull
+    public InputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    @NonNull
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        if (released.compareAndSet(false, true)) {
+          semaphore.release();
+        }
+      }
+    }
+  }
+}
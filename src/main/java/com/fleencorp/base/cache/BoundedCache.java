@@ -0,0 +1,237 @@
+package com.fleencorp.base.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * An in-memory cache bounded by number of entries, total weight and time to live, evicting the least recently
+ * used entries first.
+ *
+ * <p>Entries are held in an access-ordered {@link LinkedHashMap} guarded by the cache monitor, which keeps the
+ * implementation small and predictable for the modest sizes this library needs. Every removed entry, whether it
+ * expired, was evicted, replaced or removed explicitly, is passed to the removal listener, which lets callers wipe
+ * sensitive values or release resources.</p>
+ *
+ * <p>Loading is deliberately done outside of the lock: callers look a value up with {@link #get(Object)} and store
+ * it with {@link #put(Object, Object)} once computed, so a slow computation never blocks other readers.</p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class BoundedCache<K, V> {
+
+  private final LinkedHashMap<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final int maxEntries;
+  private final long maxWeight;
+  private final long ttlNanos;
+  private final ToLongFunction<? super V> weigher;
+  private final Consumer<? super V> removalListener;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private long totalWeight;
+
+  /**
+   * Creates a cache bounded by number of entries and time to live only.
+   *
+   * @param maxEntries the maximum number of entries
+   * @param ttl        the time an entry stays valid after it is stored
+   */
+  public BoundedCache(final int maxEntries, final Duration ttl) {
+    this(maxEntries, Long.MAX_VALUE, ttl, value -> 1, value -> {});
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param maxEntries      the maximum number of entries
+   * @param maxWeight       the maximum total weight of the entries
+   * @param ttl             the time an entry stays valid after it is stored
+   * @param weigher         computes the weight of a value, for example its size in bytes
+   * @param removalListener receives every value removed from the cache
+   */
+  public BoundedCache(final int maxEntries, final long maxWeight, final Duration ttl,
+                      final ToLongFunction<? super V> weigher, final Consumer<? super V> removalListener) {
+    this.maxEntries = Math.max(1, maxEntries);
+    this.maxWeight = Math.max(1, maxWeight);
+    this.ttlNanos = ttl.toNanos();
+    this.weigher = weigher;
+    this.removalListener = removalListener;
+  }
+
+  /**
+   * Returns the value associated with the key, or {@code null} if there is no live entry.
+   *
+   * @param key the key to look up
+   * @return the cached value or {@code null}
+   */
+  public V get(final K key) {
+    return get(key, Function.identity());
+  }
+
+  /**
+   * Looks up a value and maps it while the cache lock is held.
+   *
+   * <p>This is meant for values that the removal listener mutates, such as buffers that are wiped on eviction:
+   * the mapper can copy the value before a concurrent eviction gets the chance to wipe it.</p>
+   *
+   * @param key    the key to look up
+   * @param reader maps the cached value to the returned result
+   * @param <R>    the type of the result
+   * @return the mapped value or {@code null} if there is no live entry
+   */
+  public synchronized <R> R get(final K key, final Function<? super V, ? extends R> reader) {
+    final CacheEntry<V> entry = entries.get(key);
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+
+    if (entry.isExpired(System.nanoTime())) {
+      entries.remove(key);
+      release(entry);
+      evictions.increment();
+      misses.increment();
+      return null;
+    }
+
+    hits.increment();
+    return reader.apply(entry.value());
+  }
+
+  /**
+   * Stores a value, replacing any previous value for the key, then evicts the least recently used entries until
+   * the cache is back within its bounds. A value heavier than the maximum weight is not stored.
+   *
+   * @param key   the key
+   * @param value the value, ignored when {@code null}
+   */
+  public synchronized void put(final K key, final V value) {
+    if (value == null) {
+      return;
+    }
+
+    final long weight = weigher.applyAsLong(value);
+    if (weight > maxWeight) {
+      removalListener.accept(value);
+      return;
+    }
+
+    final CacheEntry<V> previous = entries.put(key, new CacheEntry<>(value, weight, System.nanoTime() + ttlNanos));
+    if (nonNull(previous)) {
+      totalWeight -= previous.weight();
+      if (previous.value() != value) {
+        removalListener.accept(previous.value());
+      }
+    }
+    totalWeight += weight;
+    evict();
+  }
+
+  /**
+   * Removes the entry of the key, if any.
+   *
+   * @param key the key to remove
+   */
+  public synchronized void remove(final K key) {
+    final CacheEntry<V> entry = entries.remove(key);
+    if (nonNull(entry)) {
+      release(entry);
+    }
+  }
+
+  /**
+   * Removes the entries whose key matches the predicate.
+   *
+   * @param predicate the predicate selecting the keys to remove
+   */
+  public synchronized void removeIf(final Predicate<? super K> predicate) {
+    final Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+      if (predicate.test(entry.getKey())) {
+        iterator.remove();
+        release(entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Removes all entries.
+   */
+  public synchronized void clear() {
+    entries.values().forEach(this::release);
+    entries.clear();
+  }
+
+  /**
+   * Returns the number of entries, including entries that expired but were not looked up since.
+   *
+   * @return the number of entries
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns a snapshot of the cache statistics.
+   *
+   * @return the statistics of the cache
+   */
+  public synchronized CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), totalWeight);
+  }
+
+  /**
+   * Evicts entries from the least recently used end until the cache is within its bounds, also dropping any
+   * expired entries found at that end. Other expired entries are dropped when they are looked up or reach the
+   * least recently used end. Must be called while holding the cache lock.
+   */
+  private void evict() {
+    final long now = System.nanoTime();
+    final Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final boolean overBounds = entries.size() > maxEntries || totalWeight > maxWeight;
+      final CacheEntry<V> entry = iterator.next().getValue();
+      if (!overBounds && !entry.isExpired(now)) {
+        break;
+      }
+      iterator.remove();
+      release(entry);
+      evictions.increment();
+    }
+  }
+
+  /**
+   * Accounts for a removed entry and passes its value to the removal listener.
+   */
+  private void release(final CacheEntry<V> entry) {
+    totalWeight -= entry.weight();
+    removalListener.accept(entry.value());
+  }
+
+  /**
+   * An entry of the cache.
+   *
+   * @param value     the cached value
+   * @param weight    the weight of the value
+   * @param expiresAt the {@link System#nanoTime()} value at which the entry expires
+   */
+  private record CacheEntry<V>(V value, long weight, long expiresAt) {
+
+    boolean isExpired(final long now) {
+      return now - expiresAt >= 0;
+    }
+  }
+}
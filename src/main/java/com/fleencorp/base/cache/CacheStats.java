@@ -0,0 +1,43 @@
+package com.fleencorp.base.cache;
+
+/**
+ * A point-in-time snapshot of the statistics of a {@link BoundedCache}.
+ *
+ * @param hits      the number of lookups that found a live entry
+ * @param misses    the number of lookups that found no entry or an expired one
+ * @param evictions the number of entries removed because of the size, weight or time bounds
+ * @param size      the number of entries currently held
+ * @param weight    the total weight of the entries currently held
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public record CacheStats(long hits, long misses, long evictions, int size, long weight) {
+
+  /**
+   * Returns statistics for a cache that holds nothing and was never used.
+   *
+   * @return empty statistics
+   */
+  public static CacheStats empty() {
+    return new CacheStats(0, 0, 0, 0, 0);
+  }
+
+  /**
+   * Returns the total number of lookups.
+   *
+   * @return the sum of hits and misses
+   */
+  public long requests() {
+    return hits + misses;
+  }
+
+  /**
+   * Returns the ratio of lookups that were hits.
+   *
+   * @return the hit ratio between {@code 0.0} and {@code 1.0}, or {@code 0.0} if the cache was never queried
+   */
+  public double hitRatio() {
+    final long requests = requests();
+    return requests == 0 ? 0.0 : (double) hits / requests;
+  }
+}
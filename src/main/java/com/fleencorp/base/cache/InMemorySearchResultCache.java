@@ -0,0 +1,108 @@
+package com.fleencorp.base.cache;
+
+import com.fleencorp.base.model.request.search.SearchRequest;
+import com.fleencorp.base.model.view.search.SearchResult;
+import com.fleencorp.base.pagination.SearchSignature;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * A {@link SearchResultCache} held in memory by a {@link BoundedCache}.
+ *
+ * <p>The cache is bounded by number of results, by total number of values across the results, and by time to live.
+ * Requests are keyed by their {@linkplain SearchSignature#ofQuery(SearchRequest) signature}, which ignores parameters
+ * left at their default values, so requests that only differ by such parameters share a result. Concurrent misses of
+ * the same key each run the search.</p>
+ *
+ * <p>Every entity type has a generation, increased when its results are invalidated. A search that was running while
+ * its entity type was invalidated may have read the data from before the change, so its result is returned to the
+ * caller but not kept in the cache.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class InMemorySearchResultCache implements SearchResultCache {
+
+  private final BoundedCache<CacheKey, SearchResult<?>> results;
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+  private final AtomicLong globalGeneration = new AtomicLong();
+
+  /**
+   * Creates a new cache.
+   *
+   * @param maxEntries the maximum number of cached results
+   * @param maxValues  the maximum total number of values across the cached results
+   * @param ttl        the time a result stays cached
+   */
+  public InMemorySearchResultCache(final int maxEntries, final long maxValues, final Duration ttl) {
+    this.results = new BoundedCache<>(maxEntries, maxValues, ttl, InMemorySearchResultCache::weigh, result -> {});
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <V> SearchResult<V> getOrLoad(final String entityType, final String scope, final SearchRequest request,
+                                       final Supplier<SearchResult<V>> loader) {
+    final CacheKey key = new CacheKey(entityType, scope, SearchSignature.ofQuery(request));
+    final SearchResult<V> cached = (SearchResult<V>) results.get(key);
+    if (nonNull(cached)) {
+      return cached;
+    }
+
+    final long generation = getGeneration(entityType);
+    final SearchResult<V> result = loader.get();
+    if (getGeneration(entityType) == generation) {
+      results.put(key, result);
+      // An invalidation that bumped the generation before its removal ran may have missed the result just put
+      if (getGeneration(entityType) != generation) {
+        results.remove(key);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void invalidate(final String entityType) {
+    generations.computeIfAbsent(entityType, key -> new AtomicLong()).incrementAndGet();
+    results.removeIf(key -> key.entityType().equals(entityType));
+  }
+
+  @Override
+  public void invalidateAll() {
+    globalGeneration.incrementAndGet();
+    results.clear();
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return results.stats();
+  }
+
+  /**
+   * Returns the generation of an entity type, which changes whenever its results or all results are invalidated.
+   */
+  private long getGeneration(final String entityType) {
+    return generations.computeIfAbsent(entityType, key -> new AtomicLong()).get() + globalGeneration.get();
+  }
+
+  /**
+   * Weighs a result by its number of values, plus one for the result itself.
+   */
+  private static long weigh(final SearchResult<?> result) {
+    return nonNull(result.getValues()) ? result.getValues().size() + 1L : 1L;
+  }
+
+  /**
+   * The key of a cached result.
+   *
+   * @param entityType the type of the entities searched
+   * @param scope      the scope of the search, or {@code null}
+   * @param signature  the signature of the search request
+   */
+  private record CacheKey(String entityType, String scope, String signature) {}
+}
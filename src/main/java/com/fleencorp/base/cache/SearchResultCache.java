@@ -0,0 +1,91 @@
+package com.fleencorp.base.cache;
+
+import com.fleencorp.base.model.request.search.SearchRequest;
+import com.fleencorp.base.model.view.search.SearchResult;
+
+import java.util.function.Supplier;
+
+/**
+ * Caches the results of search requests, in front of the handlers running the searches.
+ *
+ * <p>Results are cached per entity type, scope and canonical signature of the request, so identical searches sent
+ * repeatedly, for example by dashboards and polling clients, only run once per time to live. The entity type doubles
+ * as a tag: when entities of a type change, {@link #invalidate(String)} drops every cached result of that type.
+ * Implementations keep the results in memory like {@link InMemorySearchResultCache}, or bridge to a shared cache.</p>
+ *
+ * <p>Cached results are shared by every caller that gets them and must not be modified.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public interface SearchResultCache {
+
+  /**
+   * A cache that caches nothing, always running the search.
+   */
+  SearchResultCache NOOP = new SearchResultCache() {
+    @Override
+    public <V> SearchResult<V> getOrLoad(final String entityType, final String scope, final SearchRequest request,
+                                         final Supplier<SearchResult<V>> loader) {
+      return loader.get();
+    }
+
+    @Override
+    public void invalidate(final String entityType) {}
+
+    @Override
+    public void invalidateAll() {}
+
+    @Override
+    public CacheStats getStats() {
+      return CacheStats.empty();
+    }
+  };
+
+  /**
+   * Returns the cached result of a search that does not depend on who sends it, running and caching the search on a
+   * miss.
+   *
+   * @param entityType the type of the entities searched, which tags the result
+   * @param request    the search request
+   * @param loader     runs the search
+   * @param <V>        the type of the values of the result
+   * @return the result of the search
+   */
+  default <V> SearchResult<V> getOrLoad(final String entityType, final SearchRequest request,
+                                        final Supplier<SearchResult<V>> loader) {
+    return getOrLoad(entityType, null, request, loader);
+  }
+
+  /**
+   * Returns the cached result of a search, running and caching the search on a miss.
+   *
+   * @param entityType the type of the entities searched, which tags the result
+   * @param scope      whatever else the result depends on, such as the identifier of the member searching, or
+   *                   {@code null} if it only depends on the request
+   * @param request    the search request
+   * @param loader     runs the search
+   * @param <V>        the type of the values of the result
+   * @return the result of the search
+   */
+  <V> SearchResult<V> getOrLoad(String entityType, String scope, SearchRequest request, Supplier<SearchResult<V>> loader);
+
+  /**
+   * Removes the cached results of an entity type.
+   *
+   * @param entityType the entity type whose results are removed
+   */
+  void invalidate(String entityType);
+
+  /**
+   * Removes every cached result.
+   */
+  void invalidateAll();
+
+  /**
+   * Returns the statistics of the cache, including its hit ratio.
+   *
+   * @return the statistics of the cache
+   */
+  CacheStats getStats();
+}
@@ -1,19 +1,51 @@
 package com.fleencorp.base.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fleencorp.base.adapter.base.AdapterContext;
+import com.fleencorp.base.adapter.cache.ResponseCache;
+import com.fleencorp.base.adapter.cache.ResponseCacheProperties;
+import com.fleencorp.base.adapter.cache.SingleFlight;
+import com.fleencorp.base.adapter.logging.AdapterLoggingProperties;
+import com.fleencorp.base.adapter.metrics.InMemoryAdapterMetrics;
+import com.fleencorp.base.adapter.resilience.RateLimitPolicy;
+import com.fleencorp.base.adapter.resilience.RateLimiter;
+import com.fleencorp.base.adapter.resilience.RateLimiterProperties;
+import com.fleencorp.base.adapter.resilience.ResilienceProperties;
+import com.fleencorp.base.adapter.resilience.ResilienceRegistry;
+import com.fleencorp.base.adapter.resilience.RetryPolicy;
+import com.fleencorp.base.adapter.resilience.RetryProperties;
+import com.fleencorp.base.adapter.transport.AdapterTransportFactory;
+import com.fleencorp.base.adapter.transport.AdapterTransportProperties;
+import com.fleencorp.base.cache.InMemorySearchResultCache;
+import com.fleencorp.base.cache.SearchResultCache;
+import com.fleencorp.base.converter.impl.security.BlindIndexConverter;
+import com.fleencorp.base.converter.impl.security.DecryptedValueCache;
 import com.fleencorp.base.converter.impl.security.StringCryptoConverter;
+import com.fleencorp.base.pagination.CountProvider;
+import com.fleencorp.base.pagination.KeysetPaginator;
+import com.fleencorp.base.pagination.PageTokenCodec;
+import com.fleencorp.base.pagination.SearchCounter;
 import com.fleencorp.base.resolver.impl.SearchParamArgResolver;
 import com.fleencorp.base.service.BasicCountryService;
 import com.fleencorp.base.service.EmailService;
 import com.fleencorp.base.service.PhoneService;
 import com.fleencorp.base.util.JsonUtil;
+import com.fleencorp.base.util.security.BlindIndexUtils;
 import com.fleencorp.base.util.security.EncryptionUtils;
+import com.fleencorp.base.util.security.StaticKeyRing;
 import com.fleencorp.base.validator.impl.CountryExistValidator;
 import com.fleencorp.base.validator.impl.EmailAddressAlreadyExistValidator;
 import com.fleencorp.base.validator.impl.PhoneNumberAlreadyExistValidator;
+import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
@@ -40,17 +72,217 @@ public class FleenBaseConfiguration {
   }
 
   @Bean
-  public SearchParamArgResolver searchParamArgResolver(final ObjectMapper objectMapper) {
-    return new SearchParamArgResolver(objectMapper);
+  public SearchParamArgResolver searchParamArgResolver(final ObjectMapper objectMapper, final KeysetPaginator keysetPaginator) {
+    return new SearchParamArgResolver(objectMapper, keysetPaginator);
+  }
+
+  @Bean
+  public KeysetPaginator keysetPaginator(
+      @Value("${search.page-token.key:}") final String pageTokenKey,
+      @Value("${entity.field.encryption.key}") final String encryptionKey) {
+    return new KeysetPaginator(pageTokenKey.isBlank()
+      ? PageTokenCodec.fromEncryptionKey(encryptionKey)
+      : new PageTokenCodec(pageTokenKey));
+  }
+
+  @Bean
+  public SearchCounter searchCounter(
+      final Optional<CountProvider> countProvider,
+      @Value("${search.count-cache.max-entries:10000}") final int maxEntries,
+      @Value("${search.count-cache.ttl-seconds:60}") final long ttlSeconds) {
+    return new SearchCounter(countProvider.orElse(CountProvider.NONE), maxEntries, Duration.ofSeconds(ttlSeconds));
+  }
+
+  @Bean
+  public SearchResultCache searchResultCache(
+      @Value("${search.result-cache.enabled:false}") final boolean enabled,
+      @Value("${search.result-cache.max-entries:1000}") final int maxEntries,
+      @Value("${search.result-cache.max-values:100000}") final long maxValues,
+      @Value("${search.result-cache.ttl-seconds:30}") final long ttlSeconds) {
+    return enabled
+      ? new InMemorySearchResultCache(maxEntries, maxValues, Duration.ofSeconds(ttlSeconds))
+      : SearchResultCache.NOOP;
+  }
+
+  @Bean
+  public EncryptionUtils encryptionUtils(
+      @Value("${entity.field.encryption.key}") final String encryptionKey,
+      @Value("${entity.field.encryption.keyring:}") final String keyRing,
+      @Value("${entity.field.encryption.active-key-id:}") final String activeKeyId) {
+    return keyRing.isBlank()
+      ? new EncryptionUtils(encryptionKey)
+      : new EncryptionUtils(encryptionKey, StaticKeyRing.of(keyRing, activeKeyId));
+  }
+
+  @Bean
+  public StringCryptoConverter stringCryptoConverter(
+      final EncryptionUtils encryptionUtils,
+      @Value("${entity.field.encryption.cache.enabled:false}") final boolean cacheEnabled,
+      @Value("${entity.field.encryption.cache.max-entries:10000}") final int cacheMaxEntries,
+      @Value("${entity.field.encryption.cache.max-bytes:16777216}") final long cacheMaxBytes,
+      @Value("${entity.field.encryption.cache.ttl-seconds:300}") final long cacheTtlSeconds) {
+    final DecryptedValueCache decryptedValueCache = cacheEnabled
+      ? new DecryptedValueCache(cacheMaxEntries, cacheMaxBytes, Duration.ofSeconds(cacheTtlSeconds))
+      : null;
+    return new StringCryptoConverter(encryptionUtils, decryptedValueCache);
+  }
+
+  @Bean
+  public BlindIndexUtils blindIndexUtils(
+      @Value("${entity.field.blind-index.key:}") final String blindIndexKey,
+      @Value("${entity.field.encryption.key}") final String encryptionKey) {
+    return blindIndexKey.isBlank()
+      ? BlindIndexUtils.fromEncryptionKey(encryptionKey)
+      : new BlindIndexUtils(blindIndexKey);
+  }
+
+  @Bean
+  public BlindIndexConverter blindIndexConverter() {
+    return new BlindIndexConverter();
+  }
+
+  @Bean
+  public AdapterTransportFactory adapterTransportFactory(
+      @Value("${adapter.transport.connect-timeout-ms:5000}") final long connectTimeoutMs,
+      @Value("${adapter.transport.read-timeout-ms:30000}") final long readTimeoutMs,
+      @Value("${adapter.transport.max-connections-per-route:50}") final int maxConnectionsPerRoute,
+      @Value("${adapter.transport.keep-alive-seconds:30}") final long keepAliveSeconds,
+      @Value("${adapter.transport.http2-enabled:true}") final boolean http2Enabled,
+      @Value("${adapter.transport.compression-enabled:true}") final boolean compressionEnabled,
+      @Value("${adapter.transport.request-compression-min-bytes:0}") final int requestCompressionMinBytes) {
+    // The keep-alive of JDK HTTP clients is a JVM-wide system property, applied once here at startup
+    AdapterTransportFactory.applyKeepAlive(Duration.ofSeconds(keepAliveSeconds));
+    return new AdapterTransportFactory(new AdapterTransportProperties(
+      Duration.ofMillis(connectTimeoutMs),
+      Duration.ofMillis(readTimeoutMs),
+      maxConnectionsPerRoute,
+      Duration.ofSeconds(keepAliveSeconds),
+      http2Enabled,
+      compressionEnabled,
+      requestCompressionMinBytes));
+  }
+
+  @Bean
+  public AdapterLoggingProperties adapterLoggingProperties(
+      @Value("${adapter.logging.level:INFO}") final Level level,
+      @Value("${adapter.logging.max-body-bytes:2048}") final int maxBodyBytes,
+      @Value("${adapter.logging.log-headers:false}") final boolean logHeaders,
+      @Value("${adapter.logging.redacted-headers:Authorization,Proxy-Authorization,Cookie,Set-Cookie,X-Api-Key}") final Set<String> redactedHeaders) {
+    return new AdapterLoggingProperties(level, maxBodyBytes, logHeaders, redactedHeaders);
+  }
+
+  @Bean
+  public ResilienceRegistry resilienceRegistry(
+      @Value("${adapter.resilience.failure-rate-threshold:50}") final int failureRateThreshold,
+      @Value("${adapter.resilience.sliding-window-size:50}") final int slidingWindowSize,
+      @Value("${adapter.resilience.minimum-calls:10}") final int minimumCalls,
+      @Value("${adapter.resilience.slow-call-threshold-ms:10000}") final long slowCallThresholdMs,
+      @Value("${adapter.resilience.open-duration-seconds:30}") final long openDurationSeconds,
+      @Value("${adapter.resilience.half-open-calls:3}") final int halfOpenCalls,
+      @Value("${adapter.resilience.max-concurrent-calls:25}") final int maxConcurrentCalls,
+      @Value("${adapter.resilience.max-wait-ms:0}") final long maxWaitMs) {
+    return new ResilienceRegistry(new ResilienceProperties(
+      failureRateThreshold,
+      slidingWindowSize,
+      minimumCalls,
+      Duration.ofMillis(slowCallThresholdMs),
+      Duration.ofSeconds(openDurationSeconds),
+      halfOpenCalls,
+      maxConcurrentCalls,
+      Duration.ofMillis(maxWaitMs)));
+  }
+
+  @Bean
+  public RetryPolicy retryPolicy(
+      @Value("${adapter.retry.max-attempts:3}") final int maxAttempts,
+      @Value("${adapter.retry.initial-backoff-ms:100}") final long initialBackoffMs,
+      @Value("${adapter.retry.max-backoff-ms:2000}") final long maxBackoffMs,
+      @Value("${adapter.retry.backoff-multiplier:2.0}") final double backoffMultiplier,
+      @Value("${adapter.retry.budget-ratio:0.2}") final double retryBudgetRatio,
+      @Value("${adapter.retry.budget-max-tokens:10}") final int retryBudgetMaxTokens,
+      @Value("${adapter.retry.hedging-enabled:false}") final boolean hedgingEnabled,
+      @Value("${adapter.retry.hedge-min-delay-ms:50}") final long hedgeMinDelayMs) {
+    return new RetryPolicy(new RetryProperties(
+      maxAttempts,
+      Duration.ofMillis(initialBackoffMs),
+      Duration.ofMillis(maxBackoffMs),
+      backoffMultiplier,
+      retryBudgetRatio,
+      retryBudgetMaxTokens,
+      hedgingEnabled,
+      Duration.ofMillis(hedgeMinDelayMs)));
+  }
+
+  @Bean
+  public ResponseCache responseCache(
+      @Value("${adapter.response-cache.max-entries:1000}") final int maxEntries,
+      @Value("${adapter.response-cache.max-retention-seconds:1800}") final long maxRetentionSeconds,
+      @Value("${adapter.response-cache.credential-headers:Authorization,Proxy-Authorization,Cookie,X-Api-Key}") final Set<String> credentialHeaders) {
+    return new ResponseCache(new ResponseCacheProperties(maxEntries, Duration.ofSeconds(maxRetentionSeconds),
+      credentialHeaders));
+  }
+
+  @Bean
+  public SingleFlight singleFlight(
+      @Value("${adapter.single-flight.methods:GET,HEAD}") final Set<String> methods,
+      @Value("${adapter.single-flight.credential-headers:Authorization,Proxy-Authorization,Cookie,X-Api-Key}") final Set<String> credentialHeaders,
+      @Value("${adapter.single-flight.max-wait-ms:${adapter.transport.read-timeout-ms:30000}}") final long maxWaitMs) {
+    final Set<HttpMethod> coalescedMethods = methods.stream()
+      .map(String::trim)
+      .map(HttpMethod::valueOf)
+      .collect(Collectors.toSet());
+    return new SingleFlight(coalescedMethods, credentialHeaders, Duration.ofMillis(maxWaitMs));
+  }
+
+  @Bean
+  public RateLimiter rateLimiter(
+      @Value("${adapter.rate-limit.permits-per-second:50}") final double permitsPerSecond,
+      @Value("${adapter.rate-limit.burst:50}") final int burst,
+      @Value("${adapter.rate-limit.policy:QUEUE}") final RateLimitPolicy policy,
+      @Value("${adapter.rate-limit.max-queue-wait-ms:5000}") final long maxQueueWaitMs,
+      @Value("${adapter.rate-limit.max-queue-depth:100}") final int maxQueueDepth) {
+    return new RateLimiter(new RateLimiterProperties(
+      permitsPerSecond,
+      burst,
+      policy,
+      Duration.ofMillis(maxQueueWaitMs),
+      maxQueueDepth));
   }
 
   @Bean
-  public EncryptionUtils encryptionUtils(@Value("${entity.field.encryption.key}") final String encryptionKey) {
-    return new EncryptionUtils(encryptionKey);
+  public InMemoryAdapterMetrics inMemoryAdapterMetrics() {
+    return new InMemoryAdapterMetrics();
   }
 
   @Bean
-  public StringCryptoConverter stringCryptoConverter(final EncryptionUtils encryptionUtils) {
-    return new StringCryptoConverter(encryptionUtils);
+  public AdapterContext adapterContext(
+      final AdapterTransportFactory adapterTransportFactory,
+      final ObjectMapper objectMapper,
+      final AdapterLoggingProperties adapterLoggingProperties,
+      final ResilienceRegistry resilienceRegistry,
+      final RetryPolicy retryPolicy,
+      final ResponseCache responseCache,
+      final SingleFlight singleFlight,
+      final RateLimiter rateLimiter,
+      final InMemoryAdapterMetrics inMemoryAdapterMetrics,
+      @Value("${adapter.resilience.enabled:false}") final boolean resilienceEnabled,
+      @Value("${adapter.retry.enabled:false}") final boolean retryEnabled,
+      @Value("${adapter.response-cache.enabled:false}") final boolean responseCacheEnabled,
+      @Value("${adapter.single-flight.enabled:false}") final boolean singleFlightEnabled,
+      @Value("${adapter.rate-limit.enabled:false}") final boolean rateLimitEnabled,
+      @Value("${adapter.metrics.enabled:false}") final boolean metricsEnabled) {
+    final AdapterContext adapterContext = new AdapterContext(
+      adapterTransportFactory,
+      objectMapper,
+      adapterLoggingProperties,
+      resilienceEnabled ? resilienceRegistry : null,
+      retryEnabled ? retryPolicy : null,
+      responseCacheEnabled ? responseCache : null,
+      singleFlightEnabled ? singleFlight : null,
+      rateLimitEnabled ? rateLimiter : null,
+      metricsEnabled ? inMemoryAdapterMetrics : null);
+    // Adapters constructed without a context resolve this one
+    AdapterContext.setConfigured(adapterContext);
+    return adapterContext;
   }
 }
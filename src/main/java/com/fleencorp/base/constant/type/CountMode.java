@@ -0,0 +1,35 @@
+package com.fleencorp.base.constant.type;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Locale;
+
+/**
+ * How the total number of results of a search is computed.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public enum CountMode {
+
+  /** The results are counted on every request. */
+  EXACT,
+
+  /** A cached or estimated count is used when available, and the results are counted otherwise. */
+  ESTIMATED,
+
+  /** The results are not counted, and only whether a next page exists is reported. */
+  NONE;
+
+  /**
+   * Returns the count mode of the given name, ignoring case.
+   *
+   * @param value the name of the count mode
+   * @return the count mode
+   * @throws IllegalArgumentException if no count mode has the given name
+   */
+  @JsonCreator
+  public static CountMode of(final String value) {
+    return valueOf(value.trim().toUpperCase(Locale.ROOT));
+  }
+}
@@ -0,0 +1,64 @@
+package com.fleencorp.base.converter.impl.security;
+
+import com.fleencorp.base.util.security.BlindIndexUtils;
+import jakarta.persistence.AttributeConverter;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Attribute converter of a column holding the blind index of an encrypted field.
+ *
+ * <p>This converter is meant for a companion column of a field encrypted with {@link StringCryptoConverter}. The
+ * entity, or the service populating it, computes the digest explicitly with {@link BlindIndexUtils#compute(String)}
+ * and stores it on the index field, which is then written as is. For example:</p>
+ *
+ * <pre>{@code
+ * @Convert(converter = StringCryptoConverter.class)
+ * private String emailAddress;
+ *
+ * @Convert(converter = BlindIndexConverter.class)
+ * @Column(name = "email_address_index", unique = true)
+ * private String emailAddressIndex;
+ *
+ * public void setEmailAddress(final String emailAddress, final BlindIndexUtils blindIndexUtils) {
+ *   this.emailAddress = emailAddress;
+ *   this.emailAddressIndex = blindIndexUtils.compute(emailAddress);
+ * }
+ * }</pre>
+ *
+ * <p>An implementation of {@code EmailService.isEmailAddressExist} can then query {@code emailAddressIndex} with
+ * {@link BlindIndexUtils#compute(String)} and hit the index instead of decrypting every row. Since the converter never
+ * hashes, a loaded entity is saved again with its stored digest unchanged. It only rejects values that are not blind
+ * indexes, so a plaintext mistakenly set on the index field is never written to the database.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class BlindIndexConverter implements AttributeConverter<String, String> {
+
+  /**
+   * Returns the blind index unchanged for storage.
+   *
+   * @param attribute The blind index computed with {@link BlindIndexUtils#compute(String)}.
+   * @return The blind index.
+   * @throws IllegalArgumentException If the attribute is not a blind index.
+   */
+  @Override
+  public String convertToDatabaseColumn(final String attribute) {
+    if (isNull(attribute) || BlindIndexUtils.isBlindIndex(attribute)) {
+      return attribute;
+    }
+    throw new IllegalArgumentException("Blind index columns must be set with the value of BlindIndexUtils.compute");
+  }
+
+  /**
+   * Returns the stored blind index, since a blind index cannot be reversed.
+   *
+   * @param attribute The blind index from the database.
+   * @return The blind index.
+   */
+  @Override
+  public String convertToEntityAttribute(final String attribute) {
+    return attribute;
+  }
+}
@@ -0,0 +1,96 @@
+package com.fleencorp.base.converter.impl.security;
+
+import com.fleencorp.base.cache.BoundedCache;
+import com.fleencorp.base.cache.CacheStats;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A bounded cache of decrypted column values, keyed on their ciphertext.
+ *
+ * <p>Read-mostly encrypted columns, such as the email address of the user loaded on every authenticated request,
+ * are decrypted again each time their entity is loaded. This cache lets {@link StringCryptoConverter} skip the
+ * decryption when the same ciphertext was seen recently.</p>
+ *
+ * <p>The cache is bounded by number of entries, by the total size in bytes of the cached ciphertexts and
+ * plaintexts, and by a time to live. Plaintexts are held as UTF-8 byte arrays rather than Strings so the copy owned
+ * by the cache can be zeroed as soon as it is evicted, expires or is replaced.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class DecryptedValueCache {
+
+  private final BoundedCache<String, CachedPlaintext> cache;
+
+  /**
+   * Creates a new cache.
+   *
+   * @param maxEntries the maximum number of cached values
+   * @param maxBytes   the maximum total size in bytes of the cached ciphertexts and plaintexts
+   * @param ttl        the time a decrypted value stays cached
+   */
+  public DecryptedValueCache(final int maxEntries, final long maxBytes, final Duration ttl) {
+    this.cache = new BoundedCache<>(maxEntries, maxBytes, ttl, CachedPlaintext::weight, CachedPlaintext::wipe);
+  }
+
+  /**
+   * Returns the decrypted value of the ciphertext if it is cached.
+   *
+   * @param encryptedValue the ciphertext read from the database
+   * @return the decrypted value, or {@code null} if it is not cached
+   */
+  public String get(final String encryptedValue) {
+    return cache.get(encryptedValue, CachedPlaintext::asString);
+  }
+
+  /**
+   * Caches the decrypted value of a ciphertext.
+   *
+   * @param encryptedValue the ciphertext
+   * @param decryptedValue the decrypted value
+   */
+  public void put(final String encryptedValue, final String decryptedValue) {
+    cache.put(encryptedValue, new CachedPlaintext(encryptedValue.length(), decryptedValue.getBytes(UTF_8)));
+  }
+
+  /**
+   * Removes and wipes all cached values.
+   */
+  public void clear() {
+    cache.clear();
+  }
+
+  /**
+   * Returns the hit, miss and eviction counters of the cache.
+   *
+   * @return the cache statistics
+   */
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  /**
+   * A cached plaintext along with the size of its ciphertext key.
+   *
+   * @param keyLength the length of the ciphertext used as key
+   * @param plaintext the UTF-8 bytes of the decrypted value
+   */
+  private record CachedPlaintext(int keyLength, byte[] plaintext) {
+
+    long weight() {
+      return (long) keyLength + plaintext.length;
+    }
+
+    String asString() {
+      return new String(plaintext, UTF_8);
+    }
+
+    void wipe() {
+      Arrays.fill(plaintext, (byte) 0);
+    }
+  }
+}
@@ -1,8 +1,13 @@
 package com.fleencorp.base.converter.impl.security;
 
+import com.fleencorp.base.cache.CacheStats;
 import com.fleencorp.base.util.security.EncryptionUtils;
 import jakarta.persistence.AttributeConverter;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 /**
@@ -12,12 +17,16 @@ import static java.util.Objects.nonNull;
  * It implements {@link AttributeConverter} interface to provide methods for converting strings to encrypted form
  * (for storage) and from encrypted form back to plain text (for retrieval).</p>
  *
+ * <p>An optional {@link DecryptedValueCache} can be supplied to avoid decrypting the same ciphertext again every
+ * time an entity is loaded. Without a cache, every value is decrypted.</p>
+ *
  * @author Yusuf Alamu Musa
  * @version 1.0
  */
 public class StringCryptoConverter implements AttributeConverter<String, String> {
 
   private final EncryptionUtils encryptionUtils;
+  private final DecryptedValueCache decryptedValueCache;
 
   /**
    * Constructor to initialize the converter with an instance of {@link EncryptionUtils}.
@@ -25,7 +34,19 @@ public class StringCryptoConverter implements AttributeConverter<String, String>
    * @param encryptionUtils The utility class used for encryption and decryption.
    */
   public StringCryptoConverter(final EncryptionUtils encryptionUtils) {
+    this(encryptionUtils, null);
+  }
+
+  /**
+   * Constructor to initialize the converter with an instance of {@link EncryptionUtils} and a cache of
+   * decrypted values.
+   *
+   * @param encryptionUtils The utility class used for encryption and decryption.
+   * @param decryptedValueCache The cache of decrypted values, or {@code null} to disable caching.
+   */
+  public StringCryptoConverter(final EncryptionUtils encryptionUtils, final DecryptedValueCache decryptedValueCache) {
     this.encryptionUtils = encryptionUtils;
+    this.decryptedValueCache = decryptedValueCache;
   }
 
   /**
@@ -37,13 +58,18 @@ public class StringCryptoConverter implements AttributeConverter<String, String>
   @Override
   public String convertToDatabaseColumn(final String attribute) {
     if (nonNull(attribute)) {
-      return encryptionUtils.encrypt(attribute);
+      final String encryptedValue = encryptionUtils.encrypt(attribute);
+      if (nonNull(decryptedValueCache)) {
+        decryptedValueCache.put(encryptedValue, attribute);
+      }
+      return encryptedValue;
     }
     return null;
   }
 
   /**
    * Converts the encrypted string attribute back into its decrypted form for entity attribute.
+   * When a cache is configured, a recently decrypted value is returned from the cache instead.
    *
    * @param attribute The encrypted string from the database.
    * @return The decrypted string.
@@ -51,8 +77,91 @@ public class StringCryptoConverter implements AttributeConverter<String, String>
   @Override
   public String convertToEntityAttribute(final String attribute) {
     if (nonNull(attribute)) {
-      return encryptionUtils.decrypt(attribute);
+      if (nonNull(decryptedValueCache)) {
+        final String cachedValue = decryptedValueCache.get(attribute);
+        if (nonNull(cachedValue)) {
+          return cachedValue;
+        }
+      }
+
+      final String decryptedValue = encryptionUtils.decrypt(attribute);
+      if (nonNull(decryptedValueCache)) {
+        decryptedValueCache.put(attribute, decryptedValue);
+      }
+      return decryptedValue;
     }
     return null;
   }
+
+  /**
+   * Converts a list of string attributes into their encrypted form in bulk.
+   *
+   * <p>JPA invokes {@link #convertToDatabaseColumn(String)} once per value. Bulk paths such as imports
+   * can use this method instead to encrypt many values in parallel through {@link EncryptionUtils#encryptAll(List)}.
+   * As with single values, a configured cache is then primed with every encrypted value.</p>
+   *
+   * @param attributes The string attributes to be encrypted.
+   * @return The encrypted strings, in the same order as the input.
+   */
+  public List<String> convertToDatabaseColumns(final List<String> attributes) {
+    final List<String> encryptedValues = encryptionUtils.encryptAll(attributes);
+    if (nonNull(decryptedValueCache)) {
+      for (int i = 0; i < encryptedValues.size(); i++) {
+        final String encryptedValue = encryptedValues.get(i);
+        if (nonNull(encryptedValue)) {
+          decryptedValueCache.put(encryptedValue, attributes.get(i));
+        }
+      }
+    }
+    return encryptedValues;
+  }
+
+  /**
+   * Converts a list of encrypted strings back into their decrypted form in bulk.
+   *
+   * <p>JPA invokes {@link #convertToEntityAttribute(String)} once per value. Bulk paths such as reporting
+   * exports that read the raw encrypted columns can use this method instead to decrypt many values in
+   * parallel through {@link EncryptionUtils#decryptAll(List)}. When a cache is configured, only the values missing
+   * from it are decrypted, and they are cached afterward.</p>
+   *
+   * @param attributes The encrypted strings from the database.
+   * @return The decrypted strings, in the same order as the input.
+   */
+  public List<String> convertToEntityAttributes(final List<String> attributes) {
+    if (isNull(decryptedValueCache) || isNull(attributes)) {
+      return encryptionUtils.decryptAll(attributes);
+    }
+
+    final List<String> decryptedValues = new ArrayList<>(attributes);
+    final List<Integer> missedPositions = new ArrayList<>();
+    final List<String> missedValues = new ArrayList<>();
+    for (int i = 0; i < decryptedValues.size(); i++) {
+      final String attribute = decryptedValues.get(i);
+      if (nonNull(attribute)) {
+        final String cachedValue = decryptedValueCache.get(attribute);
+        decryptedValues.set(i, cachedValue);
+        if (isNull(cachedValue)) {
+          missedPositions.add(i);
+          missedValues.add(attribute);
+        }
+      }
+    }
+
+    final List<String> missedDecryptedValues = encryptionUtils.decryptAll(missedValues);
+    for (int i = 0; i < missedPositions.size(); i++) {
+      final String decryptedValue = missedDecryptedValues.get(i);
+      decryptedValues.set(missedPositions.get(i), decryptedValue);
+      decryptedValueCache.put(missedValues.get(i), decryptedValue);
+    }
+    return decryptedValues;
+  }
+
+  /**
+   * Returns the statistics of the decrypted value cache.
+   *
+   * @return The cache statistics, or empty statistics when no cache is configured.
+   */
+  public CacheStats getCacheStats() {
+    return nonNull(decryptedValueCache) ? decryptedValueCache.getStats() : CacheStats.empty();
+  }
 }
@@ -3,23 +3,29 @@ package com.fleencorp.base.model.request.search;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fleencorp.base.constant.type.CountMode;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 import static com.fasterxml.jackson.annotation.JsonFormat.Shape.STRING;
 import static com.fleencorp.base.constant.base.PagingConstant.*;
 import static com.fleencorp.base.util.FleenUtil.areNotEmpty;
 import static com.fleencorp.base.util.FleenUtil.createPageable;
+import static com.fleencorp.base.util.FleenUtil.createSort;
 import static com.fleencorp.base.util.datetime.DateFormatUtil.DATE;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 /**
@@ -56,6 +62,9 @@ public class SearchRequest {
   @JsonProperty("sortBy")
   protected String sortBy = DEFAULT_SORT_BY;
 
+  @JsonProperty("countMode")
+  protected CountMode countMode = CountMode.EXACT;
+
   @JsonFormat(shape = STRING, pattern = DATE)
   @JsonProperty("startDate")
   protected LocalDate startDate;
@@ -75,6 +84,9 @@ public class SearchRequest {
   @JsonIgnore
   private Pageable page;
 
+  @JsonIgnore
+  private KeysetScrollPosition scrollPosition;
+
   @DecimalMin(value = "-90.0", message = "{user.location.latitude.DecimalMin}")
   @DecimalMax(value = "90.0", message = "{user.location.latitude.DecimalMax}")
   @JsonProperty("latitude")
@@ -117,6 +129,58 @@ public class SearchRequest {
     toPageable();
   }
 
+  /**
+   * Returns the page token of the request, the next page token taking precedence over the previous page token.
+   *
+   * @return the page token, or {@code null} if the request has none
+   */
+  public String getPageToken() {
+    if (nonNull(nextPageToken) && !nextPageToken.isBlank()) {
+      return nextPageToken;
+    }
+    return nonNull(previousPageToken) && !previousPageToken.isBlank() ? previousPageToken : null;
+  }
+
+  /**
+   * Returns the properties a keyset query may be sorted by. The sort property comes from the client and becomes part of
+   * the seek predicate, so only the properties listed here are accepted. Requests of searches that can be sorted by
+   * other properties override this method; the properties should be indexed and must not expose values the client may
+   * not see, since the order of the results reveals them.
+   *
+   * @return the sortable properties, the default sort property only unless overridden
+   */
+  @JsonIgnore
+  public Set<String> getSortableProperties() {
+    return Set.of(DEFAULT_SORT_BY);
+  }
+
+  /**
+   * Returns the sort of keyset queries: the requested sort, followed by the default sort property as a unique
+   * tiebreaker in the same direction when another property is requested.
+   *
+   * @return the keyset sort
+   * @throws IllegalArgumentException if the requested sort property is not one of the
+   *                                  {@link #getSortableProperties() sortable properties}
+   */
+  public Sort getKeysetSort() {
+    if (isNull(sortBy) || !getSortableProperties().contains(sortBy)) {
+      throw new IllegalArgumentException(String.format("Sorting by %s is not allowed", sortBy));
+    }
+
+    final Sort sort = createSort(sortBy, sortDir);
+    return DEFAULT_SORT_BY.equals(sortBy)
+      ? sort
+      : sort.and(createSort(DEFAULT_SORT_BY, sortDir));
+  }
+
+  public KeysetScrollPosition getScrollPosition() {
+    return scrollPosition;
+  }
+
+  public void setScrollPosition(KeysetScrollPosition scrollPosition) {
+    this.scrollPosition = scrollPosition;
+  }
+
   public boolean areAllDatesSet() {
     return areNotEmpty(startDate, endDate);
   }
@@ -201,6 +265,14 @@ public class SearchRequest {
     this.sortBy = sortBy;
   }
 
+  public CountMode getCountMode() {
+    return nonNull(countMode) ? countMode : CountMode.EXACT;
+  }
+
+  public void setCountMode(CountMode countMode) {
+    this.countMode = countMode;
+  }
+
   public LocalDate getStartDate() {
     return startDate;
   }
@@ -26,6 +26,9 @@ public class SearchResult<T> {
   @JsonProperty("total_entries")
   private Long totalEntries;
 
+  @JsonProperty("is_total_exact")
+  private Boolean totalExact;
+
   @JsonProperty("total_pages")
   private Integer totalPages;
 
@@ -85,6 +88,20 @@ public class SearchResult<T> {
     this.totalEntries = totalEntries;
   }
 
+  /**
+   * Sets the total number of entries and the number of pages it makes.
+   *
+   * @param totalEntries the total number of entries
+   * @param exact        whether the total was counted, rather than estimated or cached
+   */
+  public void setTotal(long totalEntries, boolean exact) {
+    this.totalEntries = totalEntries;
+    this.totalExact = exact;
+    if (pageSize != null && pageSize > 0) {
+      this.totalPages = (int) Math.ceil((double) totalEntries / pageSize);
+    }
+  }
+
   public void setTotalPages(Integer totalPages) {
     this.totalPages = totalPages;
   }
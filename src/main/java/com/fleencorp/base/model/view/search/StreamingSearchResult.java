@@ -0,0 +1,193 @@
+package com.fleencorp.base.model.view.search;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static java.util.Objects.nonNull;
+
+/**
+ * A search result whose values are streamed while it is written, for large pages and export endpoints.
+ *
+ * <p>A {@link SearchResult} holds its values in memory and is written in one go. This variant is backed by a
+ * {@link Stream} or an {@link Iterator}: it writes the page metadata first, with the same property names as
+ * {@link SearchResult}, then writes each value as it is pulled from the source and flushes the output every
+ * {@link #getFlushInterval()} values. Only the value being written is held in memory, and clients start receiving
+ * values before the last one is read. The source is closed once written, which releases the cursor of a database
+ * stream.</p>
+ *
+ * <p>The result is written either by Jackson, for example when returned from a controller, or with
+ * {@link #writeTo(OutputStream, ObjectMapper)}, which suits streaming response bodies. A result can only be written
+ * once.</p>
+ *
+ * @param <T> the type of the values
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@Getter
+@Setter
+public class StreamingSearchResult<T> implements JsonSerializable {
+
+  public static final int DEFAULT_FLUSH_INTERVAL = 100;
+
+  private Integer pageNo;
+  private Integer pageSize;
+  private Long totalEntries;
+  private Boolean totalExact;
+  private Integer totalPages;
+  private boolean last;
+  private boolean first;
+  private String nextPageToken;
+  private String prevPageToken;
+  private boolean hasNext;
+  private int flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+  @Getter(AccessLevel.NONE)
+  private final Iterator<? extends T> values;
+
+  @Getter(AccessLevel.NONE)
+  private final AutoCloseable source;
+
+  /**
+   * Creates a result streaming the values of a stream, which is closed once written.
+   *
+   * @param values the values
+   */
+  public StreamingSearchResult(final Stream<? extends T> values) {
+    this.values = values.iterator();
+    this.source = values;
+  }
+
+  /**
+   * Creates a result streaming the values of an iterator, which is closed once written if it is
+   * {@link AutoCloseable}.
+   *
+   * @param values the values
+   */
+  public StreamingSearchResult(final Iterator<? extends T> values) {
+    this.values = values;
+    this.source = values instanceof final AutoCloseable closeable ? closeable : null;
+  }
+
+  /**
+   * Creates a result streaming the given values with the page metadata of a search result, such as one built from a
+   * page by {@code FleenUtil.toSearchResult} or by the keyset paginator.
+   *
+   * @param page   the search result whose metadata is copied, its values being ignored
+   * @param values the values
+   * @param <T>    the type of the values
+   * @return the streaming result
+   */
+  public static <T> StreamingSearchResult<T> of(final SearchResult<?> page, final Stream<? extends T> values) {
+    final StreamingSearchResult<T> result = new StreamingSearchResult<>(values);
+    result.setPageNo(page.getPageNo());
+    result.setPageSize(page.getPageSize());
+    result.setTotalEntries(page.getTotalEntries());
+    result.setTotalExact(page.getTotalExact());
+    result.setTotalPages(page.getTotalPages());
+    result.setLast(page.isLast());
+    result.setFirst(page.isFirst());
+    result.setNextPageToken(page.getNextPageToken());
+    result.setPrevPageToken(page.getPrevPageToken());
+    result.setHasNext(page.isHasNext());
+    return result;
+  }
+
+  /**
+   * Writes the result as JSON to an output stream, which is flushed but left open.
+   *
+   * @param output the output stream
+   * @param mapper the mapper serializing the values
+   * @throws IOException if the result cannot be written
+   */
+  public void writeTo(final OutputStream output, final ObjectMapper mapper) throws IOException {
+    try (JsonGenerator generator = mapper.getFactory().createGenerator(output)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      mapper.writeValue(generator, this);
+    }
+  }
+
+  @Override
+  public void serialize(final JsonGenerator generator, final SerializerProvider serializers) throws IOException {
+    generator.writeStartObject(this);
+    writeFields(generator, serializers);
+    generator.writeEndObject();
+  }
+
+  @Override
+  public void serializeWithType(final JsonGenerator generator, final SerializerProvider serializers,
+                                final TypeSerializer typeSerializer) throws IOException {
+    final WritableTypeId typeId = typeSerializer.writeTypePrefix(generator, typeSerializer.typeId(this, START_OBJECT));
+    writeFields(generator, serializers);
+    typeSerializer.writeTypeSuffix(generator, typeId);
+  }
+
+  /**
+   * Writes the page metadata, leaving out unset properties as {@link SearchResult} does, then streams the values.
+   */
+  private void writeFields(final JsonGenerator generator, final SerializerProvider serializers) throws IOException {
+    try {
+      writeNumberField(generator, "page_no", pageNo);
+      writeNumberField(generator, "page_size", pageSize);
+      if (nonNull(totalEntries)) {
+        generator.writeNumberField("total_entries", totalEntries);
+      }
+      if (nonNull(totalExact)) {
+        generator.writeBooleanField("is_total_exact", totalExact);
+      }
+      writeNumberField(generator, "total_pages", totalPages);
+      generator.writeBooleanField("is_last", last);
+      generator.writeBooleanField("is_first", first);
+      if (nonNull(nextPageToken)) {
+        generator.writeStringField("next_page_token", nextPageToken);
+      }
+      if (nonNull(prevPageToken)) {
+        generator.writeStringField("prev_page_token", prevPageToken);
+      }
+      generator.writeBooleanField("has_next", hasNext);
+      generator.writeBooleanField("has_value", values.hasNext());
+
+      generator.writeArrayFieldStart("values");
+      int written = 0;
+      while (values.hasNext()) {
+        serializers.defaultSerializeValue(values.next(), generator);
+        if (++written % Math.max(1, flushInterval) == 0) {
+          generator.flush();
+        }
+      }
+      generator.writeEndArray();
+    } finally {
+      closeSource();
+    }
+  }
+
+  private static void writeNumberField(final JsonGenerator generator, final String name, final Integer value) throws IOException {
+    if (nonNull(value)) {
+      generator.writeNumberField(name, value);
+    }
+  }
+
+  private void closeSource() throws IOException {
+    if (nonNull(source)) {
+      try {
+        source.close();
+      } catch (final IOException | RuntimeException ex) {
+        throw ex;
+      } catch (final Exception ex) {
+        throw new IOException(ex);
+      }
+    }
+  }
+}
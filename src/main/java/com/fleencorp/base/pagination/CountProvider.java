@@ -0,0 +1,28 @@
+package com.fleencorp.base.pagination;
+
+import com.fleencorp.base.model.request.search.SearchRequest;
+
+/**
+ * Provides approximate result counts of searches, such as the row estimates of the database planner or statistics
+ * tables, which are much cheaper than counting the matching rows.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CountProvider {
+
+  /**
+   * A provider that never has an estimate, so estimated counts are counted once and then served from the cache.
+   */
+  CountProvider NONE = (scope, request) -> null;
+
+  /**
+   * Estimates the number of results of a search.
+   *
+   * @param scope   the scope of the search, typically the name of the entity searched
+   * @param request the search request
+   * @return the estimated number of results, or {@code null} if no estimate is available
+   */
+  Long estimateCount(String scope, SearchRequest request);
+}
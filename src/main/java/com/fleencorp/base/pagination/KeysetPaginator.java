@@ -0,0 +1,180 @@
+package com.fleencorp.base.pagination;
+
+import com.fleencorp.base.model.request.search.SearchRequest;
+import com.fleencorp.base.model.view.search.SearchResult;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.fleencorp.base.constant.base.PagingConstant.DEFAULT_PAGE_SIZE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Paginates search requests by keyset instead of offset, so the cost of a page does not grow with its depth.
+ *
+ * <p>The page tokens of a {@link SearchRequest} are decoded into its scroll position when the request is resolved.
+ * A query then selects its rows with {@link #seek(CriteriaBuilder, Path, SearchRequest)}, orders them with
+ * {@link #orderBy(CriteriaBuilder, Path, SearchRequest)} and fetches at most {@link #getFetchSize(SearchRequest)} rows,
+ * one more than the page size, which tells whether another page follows without counting rows.
+ * {@link #toSearchResult(SearchRequest, List, Function)} then builds the result with the tokens of the next and
+ * previous pages and its first and last flags.</p>
+ *
+ * <pre>{@code
+ * CriteriaQuery<Event> query = cb.createQuery(Event.class);
+ * Root<Event> root = query.from(Event.class);
+ * query.where(cb.and(filters, paginator.seek(cb, root, searchRequest)));
+ * query.orderBy(paginator.orderBy(cb, root, searchRequest));
+ * List<Event> rows = entityManager.createQuery(query)
+ *   .setMaxResults(paginator.getFetchSize(searchRequest))
+ *   .getResultList();
+ * return paginator.toSearchResult(searchRequest, rows, EventMapper::toResponse);
+ * }</pre>
+ *
+ * <p>The sort keys of a row are read through its bean properties and must not be {@code null}. A request may only be
+ * sorted by its {@link SearchRequest#getSortableProperties() sortable properties}; any other sort property is rejected
+ * with an {@link IllegalArgumentException} before it reaches a query or a page token.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class KeysetPaginator {
+
+  private final PageTokenCodec pageTokenCodec;
+
+  /**
+   * Creates a new paginator.
+   *
+   * @param pageTokenCodec the codec of the page tokens
+   */
+  public KeysetPaginator(final PageTokenCodec pageTokenCodec) {
+    this.pageTokenCodec = pageTokenCodec;
+  }
+
+  /**
+   * Decodes the page token of the request, if any, into its scroll position.
+   *
+   * @param request the search request
+   * @throws IllegalArgumentException if the page token is invalid or the request is sorted by a property that is not
+   *                                  sortable
+   */
+  public void applyPageToken(final SearchRequest request) {
+    final String pageToken = request.getPageToken();
+    if (nonNull(pageToken)) {
+      request.setScrollPosition(pageTokenCodec.decode(request.getKeysetSort(), pageToken));
+    }
+  }
+
+  /**
+   * Builds the predicate selecting the rows of the requested page.
+   *
+   * @param cb      the criteria builder
+   * @param root    the root of the query
+   * @param request the search request
+   * @return the seek predicate
+   */
+  public Predicate seek(final CriteriaBuilder cb, final Path<?> root, final SearchRequest request) {
+    return KeysetPredicates.seek(cb, root, request.getKeysetSort(), request.getScrollPosition());
+  }
+
+  /**
+   * Builds the order of the query of the requested page.
+   *
+   * @param cb      the criteria builder
+   * @param root    the root of the query
+   * @param request the search request
+   * @return the order of the query
+   */
+  public List<Order> orderBy(final CriteriaBuilder cb, final Path<?> root, final SearchRequest request) {
+    return KeysetPredicates.orderBy(cb, root, request.getKeysetSort(), request.getScrollPosition());
+  }
+
+  /**
+   * Returns the maximum number of rows to fetch: the page size plus one row telling whether another page follows.
+   *
+   * @param request the search request
+   * @return the number of rows to fetch
+   */
+  public int getFetchSize(final SearchRequest request) {
+    return getPageSize(request) + 1;
+  }
+
+  /**
+   * Builds the result of a page from the rows fetched in the order given by
+   * {@link #orderBy(CriteriaBuilder, Path, SearchRequest)}.
+   *
+   * @param request the search request
+   * @param rows    the rows fetched, at most {@link #getFetchSize(SearchRequest)}
+   * @param mapper  maps a row to the value returned
+   * @param <E>     the type of the rows
+   * @param <V>     the type of the values
+   * @return the result of the page, with its page tokens and first and last flags
+   */
+  public <E, V> SearchResult<V> toSearchResult(final SearchRequest request, final List<E> rows,
+                                               final Function<? super E, ? extends V> mapper) {
+    final int pageSize = getPageSize(request);
+    final KeysetScrollPosition position = request.getScrollPosition();
+    final boolean initial = isNull(position) || position.isInitial();
+    final boolean forward = isNull(position) || position.scrollsForward();
+    final boolean hasMore = rows.size() > pageSize;
+
+    final List<E> page = new ArrayList<>(rows.subList(0, Math.min(rows.size(), pageSize)));
+    if (!forward) {
+      // Backward queries fetch rows in reverse order
+      Collections.reverse(page);
+    }
+
+    final Sort sort = request.getKeysetSort();
+    String nextPageToken = null;
+    String prevPageToken = null;
+    if (!page.isEmpty()) {
+      final boolean hasNext = forward ? hasMore : !initial;
+      final boolean hasPrevious = forward ? !initial : hasMore;
+      if (hasNext) {
+        nextPageToken = pageTokenCodec.encode(sort, ScrollPosition.forward(getKeys(sort, page.getLast())));
+      }
+      if (hasPrevious) {
+        prevPageToken = pageTokenCodec.encode(sort, ScrollPosition.backward(getKeys(sort, page.getFirst())));
+      }
+    }
+
+    final SearchResult<V> searchResult = new SearchResult<>();
+    searchResult.setValues(page.stream().<V>map(mapper).toList());
+    searchResult.setPageSize(pageSize);
+    searchResult.setPageTokens(nextPageToken, prevPageToken);
+    searchResult.setFirst(isNull(prevPageToken));
+    searchResult.setLast(isNull(nextPageToken));
+    searchResult.setHasNext(nonNull(nextPageToken));
+    return searchResult;
+  }
+
+  /**
+   * Reads the values of the sort keys of a row.
+   */
+  private static Map<String, Object> getKeys(final Sort sort, final Object row) {
+    final BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+    final Map<String, Object> keys = new LinkedHashMap<>();
+    for (final Sort.Order order : sort) {
+      keys.put(order.getProperty(), beanWrapper.getPropertyValue(order.getProperty()));
+    }
+    return keys;
+  }
+
+  private static int getPageSize(final SearchRequest request) {
+    final Integer pageSize = request.getPageSize();
+    return nonNull(pageSize) && pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+  }
+}
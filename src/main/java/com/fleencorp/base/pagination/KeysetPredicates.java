@@ -0,0 +1,103 @@
+package com.fleencorp.base.pagination;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Builds the JPA criteria of keyset (seek) queries.
+ *
+ * <p>Instead of skipping an offset, a keyset query selects the rows that come after the position in the sort order,
+ * which an index on the sort keys answers in time proportional to the page size, however deep the page. For a sort on
+ * {@code (k1, k2)} and a position {@code (v1, v2)}, the seek predicate of a forward query is
+ * {@code k1 > v1 OR (k1 = v1 AND k2 > v2)}, with the comparisons flipped for descending keys. A backward query uses the
+ * reversed comparisons and the reversed order, and its rows are reversed back once fetched.</p>
+ *
+ * <p>The sort must end with a unique key, such as the identifier, for the order to be total. Property names may be
+ * nested paths such as {@code author.id}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public final class KeysetPredicates {
+
+  private KeysetPredicates() {}
+
+  /**
+   * Builds the predicate selecting the rows after the position, in its direction.
+   *
+   * @param cb       the criteria builder
+   * @param root     the root or path the sort properties are relative to
+   * @param sort     the sort of the query
+   * @param position the position to seek from, or {@code null} to start from the beginning
+   * @return the seek predicate, which is always true for an initial position
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static Predicate seek(final CriteriaBuilder cb, final Path<?> root, final Sort sort, final KeysetScrollPosition position) {
+    if (isNull(position) || position.isInitial()) {
+      return cb.conjunction();
+    }
+
+    final Map<String, ?> keys = position.getKeys();
+    final List<Sort.Order> orders = sort.toList();
+    final List<Predicate> alternatives = new ArrayList<>(orders.size());
+    final List<Predicate> equalities = new ArrayList<>(orders.size());
+
+    for (final Sort.Order order : orders) {
+      final Expression<Comparable> path = (Expression<Comparable>) getPath(root, order.getProperty());
+      final Comparable value = (Comparable) keys.get(order.getProperty());
+      if (isNull(value)) {
+        throw new IllegalArgumentException(String.format("Scroll position has no value for %s", order.getProperty()));
+      }
+
+      final boolean after = order.isAscending() == position.scrollsForward();
+      final Predicate comparison = after ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+
+      final List<Predicate> conjunction = new ArrayList<>(equalities);
+      conjunction.add(comparison);
+      alternatives.add(cb.and(conjunction.toArray(Predicate[]::new)));
+      equalities.add(cb.equal(path, value));
+    }
+    return cb.or(alternatives.toArray(Predicate[]::new));
+  }
+
+  /**
+   * Builds the order of the query, which is the sort for a forward query and the reversed sort for a backward one.
+   *
+   * @param cb       the criteria builder
+   * @param root     the root or path the sort properties are relative to
+   * @param sort     the sort of the query
+   * @param position the position to seek from, or {@code null} to start from the beginning
+   * @return the order of the query
+   */
+  public static List<Order> orderBy(final CriteriaBuilder cb, final Path<?> root, final Sort sort, final KeysetScrollPosition position) {
+    final boolean forward = isNull(position) || position.scrollsForward();
+    final List<Order> orders = new ArrayList<>();
+    for (final Sort.Order order : sort) {
+      final Expression<?> path = getPath(root, order.getProperty());
+      orders.add(order.isAscending() == forward ? cb.asc(path) : cb.desc(path));
+    }
+    return orders;
+  }
+
+  /**
+   * Resolves a possibly nested property against a path.
+   */
+  private static Path<?> getPath(final Path<?> root, final String property) {
+    Path<?> path = root;
+    for (final String segment : property.split("\\.")) {
+      path = path.get(segment);
+    }
+    return path;
+  }
+}
@@ -0,0 +1,285 @@
+package com.fleencorp.base.pagination;
+
+import com.fleencorp.base.util.security.CryptoPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * Encodes keyset scroll positions into opaque, signed page tokens and decodes them back.
+ *
+ * <p>A token holds the scroll direction, a fingerprint of the sort it was created for and the values of the sort keys
+ * of the row it points at, in sort order. Key names are not stored since they follow from the sort. The payload is
+ * written in a compact binary form, followed by a truncated HMAC-SHA256 of the payload, and the whole is encoded as
+ * URL-safe Base64 without padding. A token that was altered, created with another key or created for another sort is
+ * rejected with an {@link IllegalArgumentException}, so clients can neither forge positions nor reuse a token after
+ * changing the sort.</p>
+ *
+ * <p>Key values may be strings, numbers, booleans, {@link UUID}s, {@link Instant}s, {@link LocalDate}s and
+ * {@link LocalDateTime}s, and must not be {@code null}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class PageTokenCodec {
+
+  private static final Logger log = LoggerFactory.getLogger(PageTokenCodec.class);
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final String KEY_DERIVATION_CONTEXT = "fleen-page-token";
+  private static final int VERSION = 1;
+  private static final int SIGNATURE_LENGTH = 16;
+
+  private static final byte STRING = 1;
+  private static final byte LONG = 2;
+  private static final byte INTEGER = 3;
+  private static final byte INSTANT = 4;
+  private static final byte LOCAL_DATE = 5;
+  private static final byte LOCAL_DATE_TIME = 6;
+  private static final byte UUID_VALUE = 7;
+  private static final byte BOOLEAN = 8;
+  private static final byte DOUBLE = 9;
+  private static final byte BIG_DECIMAL = 10;
+
+  private final CryptoPool<Mac> macPool;
+
+  /**
+   * Creates a new codec.
+   *
+   * @param key the key signing the tokens
+   */
+  public PageTokenCodec(final String key) {
+    this(key.getBytes(UTF_8));
+  }
+
+  /**
+   * Creates a new codec.
+   *
+   * @param key the key signing the tokens
+   */
+  public PageTokenCodec(final byte[] key) {
+    final SecretKeySpec keySpec = new SecretKeySpec(key, ALGORITHM);
+    this.macPool = new CryptoPool<>(() -> newMac(keySpec), CryptoPool.defaultSize());
+  }
+
+  /**
+   * Creates a codec whose key is derived from the encryption key, for applications that have not configured a
+   * dedicated page token key. Rotating the encryption key then invalidates every issued token.
+   *
+   * @param encryptionKey the encryption key of the application
+   * @return a codec using the derived key
+   */
+  public static PageTokenCodec fromEncryptionKey(final String encryptionKey) {
+    final Mac mac = newMac(new SecretKeySpec(encryptionKey.getBytes(UTF_8), ALGORITHM));
+    return new PageTokenCodec(mac.doFinal(KEY_DERIVATION_CONTEXT.getBytes(UTF_8)));
+  }
+
+  /**
+   * Encodes a scroll position created for the given sort.
+   *
+   * @param sort     the sort of the query, whose properties name the keys of the position
+   * @param position the position to encode
+   * @return the page token
+   * @throws IllegalArgumentException if a key of the sort is missing, {@code null} or of an unsupported type
+   */
+  public String encode(final Sort sort, final KeysetScrollPosition position) {
+    final List<Sort.Order> orders = sort.toList();
+    final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+    try (DataOutputStream output = new DataOutputStream(buffer)) {
+      output.writeByte(VERSION);
+      output.writeBoolean(position.scrollsForward());
+      output.writeInt(fingerprint(sort));
+      output.writeByte(orders.size());
+      for (final Sort.Order order : orders) {
+        writeValue(output, order.getProperty(), position.getKeys().get(order.getProperty()));
+      }
+    } catch (final IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+
+    final byte[] payload = buffer.toByteArray();
+    final byte[] token = Arrays.copyOf(payload, payload.length + SIGNATURE_LENGTH);
+    System.arraycopy(sign(payload), 0, token, payload.length, SIGNATURE_LENGTH);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+  }
+
+  /**
+   * Decodes a page token created for the given sort.
+   *
+   * @param sort  the sort of the query
+   * @param token the page token
+   * @return the scroll position
+   * @throws IllegalArgumentException if the token is malformed, not signed with the key of this codec or was created
+   *                                  for another sort
+   */
+  public KeysetScrollPosition decode(final Sort sort, final String token) {
+    final byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(token);
+    } catch (final IllegalArgumentException ex) {
+      throw invalidToken();
+    }
+    if (bytes.length <= SIGNATURE_LENGTH) {
+      throw invalidToken();
+    }
+
+    final byte[] payload = Arrays.copyOf(bytes, bytes.length - SIGNATURE_LENGTH);
+    final byte[] signature = Arrays.copyOfRange(bytes, payload.length, bytes.length);
+    if (!MessageDigest.isEqual(signature, sign(payload))) {
+      throw invalidToken();
+    }
+
+    try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload))) {
+      final List<Sort.Order> orders = sort.toList();
+      if (input.readByte() != VERSION) {
+        throw invalidToken();
+      }
+      final boolean forward = input.readBoolean();
+      if (input.readInt() != fingerprint(sort) || input.readByte() != orders.size()) {
+        throw new IllegalArgumentException("Page token does not match the sort of the request");
+      }
+
+      final Map<String, Object> keys = new LinkedHashMap<>();
+      for (final Sort.Order order : orders) {
+        keys.put(order.getProperty(), readValue(input));
+      }
+      return forward ? ScrollPosition.forward(keys) : ScrollPosition.backward(keys);
+    } catch (final IOException ex) {
+      throw invalidToken();
+    }
+  }
+
+  private byte[] sign(final byte[] payload) {
+    final Mac mac = macPool.borrow();
+    final byte[] digest = mac.doFinal(payload);
+    macPool.release(mac);
+    return Arrays.copyOf(digest, SIGNATURE_LENGTH);
+  }
+
+  /**
+   * Computes a fingerprint of the properties and directions of a sort.
+   */
+  private static int fingerprint(final Sort sort) {
+    int hash = 1;
+    for (final Sort.Order order : sort) {
+      hash = 31 * hash + order.getProperty().hashCode();
+      hash = 31 * hash + (order.isAscending() ? 1 : 2);
+    }
+    return hash;
+  }
+
+  private static void writeValue(final DataOutputStream output, final String property, final Object value) throws IOException {
+    switch (value) {
+      case null -> throw new IllegalArgumentException(String.format("Sort key %s has no value", property));
+      case String string -> {
+        output.writeByte(STRING);
+        output.writeUTF(string);
+      }
+      case Long number -> {
+        output.writeByte(LONG);
+        output.writeLong(number);
+      }
+      case Integer number -> {
+        output.writeByte(INTEGER);
+        output.writeInt(number);
+      }
+      case Instant instant -> {
+        output.writeByte(INSTANT);
+        output.writeLong(instant.getEpochSecond());
+        output.writeInt(instant.getNano());
+      }
+      case LocalDate date -> {
+        output.writeByte(LOCAL_DATE);
+        output.writeLong(date.toEpochDay());
+      }
+      case LocalDateTime dateTime -> {
+        output.writeByte(LOCAL_DATE_TIME);
+        output.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        output.writeInt(dateTime.getNano());
+      }
+      case UUID uuid -> {
+        output.writeByte(UUID_VALUE);
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+      }
+      case Boolean bool -> {
+        output.writeByte(BOOLEAN);
+        output.writeBoolean(bool);
+      }
+      case Double number -> {
+        output.writeByte(DOUBLE);
+        output.writeDouble(number);
+      }
+      case BigDecimal number -> {
+        output.writeByte(BIG_DECIMAL);
+        output.writeUTF(number.toString());
+      }
+      default -> throw new IllegalArgumentException(String.format("Sort key %s has an unsupported type %s",
+        property, value.getClass().getName()));
+    }
+  }
+
+  private static Object readValue(final DataInputStream input) throws IOException {
+    return switch (input.readByte()) {
+      case STRING -> input.readUTF();
+      case LONG -> input.readLong();
+      case INTEGER -> input.readInt();
+      case INSTANT -> Instant.ofEpochSecond(input.readLong(), input.readInt());
+      case LOCAL_DATE -> LocalDate.ofEpochDay(input.readLong());
+      case LOCAL_DATE_TIME -> LocalDateTime.ofEpochSecond(input.readLong(), input.readInt(), ZoneOffset.UTC);
+      case UUID_VALUE -> new UUID(input.readLong(), input.readLong());
+      case BOOLEAN -> input.readBoolean();
+      case DOUBLE -> input.readDouble();
+      case BIG_DECIMAL -> new BigDecimal(input.readUTF());
+      default -> throw invalidToken();
+    };
+  }
+
+  private static IllegalArgumentException invalidToken() {
+    return new IllegalArgumentException("Invalid page token");
+  }
+
+  /**
+   * Creates a Mac initialized with the given key. This is the factory used by the Mac pool.
+   *
+   * @param keySpec the key
+   * @return an initialized Mac
+   * @throws IllegalStateException if the Mac cannot be created
+   */
+  private static Mac newMac(final SecretKeySpec keySpec) {
+    try {
+      final Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(keySpec);
+      return mac;
+    } catch (final GeneralSecurityException ex) {
+      log.error("An error occurred while creating the page token Mac. Reason: {}", ex.getMessage());
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.fleencorp.base.pagination;
+
+import com.fleencorp.base.cache.BoundedCache;
+import com.fleencorp.base.cache.CacheStats;
+import com.fleencorp.base.constant.type.CountMode;
+import com.fleencorp.base.model.request.search.SearchRequest;
+import com.fleencorp.base.model.view.search.SearchResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.LongSupplier;
+
+import static com.fleencorp.base.util.FleenUtil.toSearchResult;
+import static java.util.Objects.nonNull;
+
+/**
+ * Computes the total of search results according to the {@link CountMode} of the request.
+ *
+ * <p>Counting the rows matching a search often costs more than fetching the page itself. Searches can fetch a
+ * {@link Slice}, which only tells whether another page follows, and leave the count to this class:</p>
+ * <ul>
+ *   <li>{@link CountMode#EXACT} counts the results on every request and refreshes the cached count.</li>
+ *   <li>{@link CountMode#ESTIMATED} uses the cached count of the same filters, then the estimate of the
+ *   {@link CountProvider}, and only counts the results when neither is available. Counts are cached per scope and
+ *   {@linkplain SearchSignature#ofFilters(SearchRequest) filter signature}, so every page of a search shares them.</li>
+ *   <li>{@link CountMode#NONE} does not count the results.</li>
+ * </ul>
+ *
+ * <p>The result reports whether its total was counted or is estimated, cached counts being reported as estimated since
+ * they may be up to the time to live of the cache old. A {@link Page} already carries an exact count, which is used
+ * as is.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class SearchCounter {
+
+  private final CountProvider countProvider;
+  private final BoundedCache<String, Long> counts;
+
+  /**
+   * Creates a new counter.
+   *
+   * @param countProvider the provider of estimated counts
+   * @param maxEntries    the maximum number of cached counts
+   * @param ttl           the time a count stays cached
+   */
+  public SearchCounter(final CountProvider countProvider, final int maxEntries, final Duration ttl) {
+    this.countProvider = countProvider;
+    this.counts = new BoundedCache<>(maxEntries, ttl);
+  }
+
+  /**
+   * Builds the result of a page and sets its total according to the count mode of the request.
+   *
+   * @param scope      the scope of the search, typically the name of the entity searched
+   * @param request    the search request
+   * @param values     the values of the page
+   * @param slice      the page fetched
+   * @param exactCount counts the results of the search, only called when an exact count is needed
+   * @param <V>        the type of the values
+   * @param <T>        the type of the rows of the slice
+   * @return the result of the page
+   */
+  public <V, T> SearchResult<V> toCountedSearchResult(final String scope, final SearchRequest request, final Collection<V> values,
+                                                      final Slice<T> slice, final LongSupplier exactCount) {
+    if (slice instanceof final Page<T> page) {
+      return toSearchResult(values, page);
+    }
+
+    final SearchResult<V> searchResult = toSearchResult(values, slice);
+    switch (request.getCountMode()) {
+      case EXACT -> searchResult.setTotal(count(scope, request, exactCount), true);
+      case ESTIMATED -> setEstimatedTotal(searchResult, scope, request, exactCount);
+      case NONE -> { }
+    }
+    return searchResult;
+  }
+
+  /**
+   * Removes the cached counts of a scope, for example after entities of that scope were created or deleted.
+   *
+   * @param scope the scope whose counts are removed
+   */
+  public void invalidate(final String scope) {
+    counts.removeIf(key -> key.startsWith(scope + ":"));
+  }
+
+  /**
+   * Returns the statistics of the count cache.
+   *
+   * @return the statistics of the count cache
+   */
+  public CacheStats getStats() {
+    return counts.stats();
+  }
+
+  private void setEstimatedTotal(final SearchResult<?> searchResult, final String scope, final SearchRequest request,
+                                 final LongSupplier exactCount) {
+    final String key = getKey(scope, request);
+    Long total = counts.get(key);
+    if (nonNull(total)) {
+      searchResult.setTotal(total, false);
+      return;
+    }
+
+    total = countProvider.estimateCount(scope, request);
+    if (nonNull(total)) {
+      counts.put(key, total);
+      searchResult.setTotal(total, false);
+      return;
+    }
+
+    searchResult.setTotal(count(scope, request, exactCount), true);
+  }
+
+  private long count(final String scope, final SearchRequest request, final LongSupplier exactCount) {
+    final long total = exactCount.getAsLong();
+    counts.put(getKey(scope, request), total);
+    return total;
+  }
+
+  private static String getKey(final String scope, final SearchRequest request) {
+    return scope + ":" + SearchSignature.ofFilters(request);
+  }
+}
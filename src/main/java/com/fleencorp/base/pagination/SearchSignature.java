@@ -0,0 +1,83 @@
+package com.fleencorp.base.pagination;
+
+import com.fleencorp.base.model.request.search.SearchRequest;
+import com.fleencorp.base.resolver.impl.SearchRequestBinder;
+
+import java.net.URLEncoder;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Builds canonical signatures of search requests, used as cache keys.
+ *
+ * <p>A signature lists the bindable properties of a request, as returned by
+ * {@link SearchRequestBinder#getProperties(Class)}, sorted by name and skipping every property that still holds the
+ * value its class sets by default. Two requests that differ only by parameters left at their default values, or by the
+ * order their parameters were sent in, therefore share a signature. Values are percent-encoded, so a value can never
+ * be mistaken for a separator.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public final class SearchSignature {
+
+  /**
+   * The properties of a request selecting a page or the way it is counted rather than the results it matches.
+   */
+  public static final Set<String> PAGING_PROPERTIES = Set.of(
+    "pageNo", "pageSize", "sortBy", "sortDir", "nextPageToken", "previousPageToken", "countMode");
+
+  private SearchSignature() {}
+
+  /**
+   * Returns the signature of the filters of a request, which leaves out its paging properties so that every page of
+   * a search shares it.
+   *
+   * @param request the search request
+   * @return the signature of its filters
+   */
+  public static String ofFilters(final SearchRequest request) {
+    return of(request, PAGING_PROPERTIES);
+  }
+
+  /**
+   * Returns the signature of a request, including its paging properties.
+   *
+   * @param request the search request
+   * @return the signature of the request
+   */
+  public static String ofQuery(final SearchRequest request) {
+    return of(request, Set.of());
+  }
+
+  /**
+   * Returns the signature of a request, leaving out the given properties.
+   *
+   * @param request  the search request
+   * @param excluded the names of the properties to leave out
+   * @return the signature of the request
+   */
+  public static String of(final SearchRequest request, final Set<String> excluded) {
+    final StringBuilder signature = new StringBuilder(request.getClass().getName());
+    char separator = '?';
+    for (final SearchRequestBinder.Property property : SearchRequestBinder.getProperties(request.getClass())) {
+      if (excluded.contains(property.getName())) {
+        continue;
+      }
+
+      final Object value = property.get(request);
+      if (Objects.equals(value, property.getDefaultValue())) {
+        continue;
+      }
+
+      signature.append(separator)
+        .append(property.getName())
+        .append('=')
+        .append(Objects.isNull(value) ? "" : URLEncoder.encode(value.toString(), UTF_8));
+      separator = '&';
+    }
+    return signature.toString();
+  }
+}
@@ -2,6 +2,7 @@ package com.fleencorp.base.resolver.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fleencorp.base.model.request.search.SearchRequest;
+import com.fleencorp.base.pagination.KeysetPaginator;
 import com.fleencorp.base.resolver.SearchParam;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -12,7 +13,6 @@ import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -33,15 +33,36 @@ public class SearchParamArgResolver implements HandlerMethodArgumentResolver {
 
   private static final Logger log = LoggerFactory.getLogger(SearchParamArgResolver.class);
 
-  private final ObjectMapper mapper;
+  private final SearchRequestBinder binder;
+  private final KeysetPaginator keysetPaginator;
 
   /**
    * Constructs a new instance of SearchParamArgResolver.
    *
-   * @param mapper The ObjectMapper used for converting query parameters to the desired method parameter type.
+   * @param mapper The ObjectMapper used for converting query parameters of types the binder does not convert directly.
    */
   public SearchParamArgResolver(ObjectMapper mapper) {
-    this.mapper = mapper;
+    this(mapper, null);
+  }
+
+  /**
+   * Constructs a new instance of SearchParamArgResolver that also decodes the page tokens of search requests.
+   *
+   * @param mapper The ObjectMapper used for converting query parameters of types the binder does not convert directly.
+   * @param keysetPaginator The paginator decoding page tokens into scroll positions, or {@code null} to leave them undecoded.
+   */
+  public SearchParamArgResolver(ObjectMapper mapper, KeysetPaginator keysetPaginator) {
+    this.binder = new SearchRequestBinder(mapper);
+    this.keysetPaginator = keysetPaginator;
+  }
+
+  /**
+   * Returns the binder populating search requests from request parameters.
+   *
+   * @return the search request binder
+   */
+  public SearchRequestBinder getBinder() {
+    return binder;
   }
 
   /**
@@ -56,14 +77,14 @@ public class SearchParamArgResolver implements HandlerMethodArgumentResolver {
   }
 
   /**
-   * Resolves a method argument annotated with request parameters by parsing the request URL.
+   * Resolves a method argument annotated with request parameters by binding the decoded request parameters.
    *
    * @param parameter The method parameter to be resolved.
    * @param mavContainer The ModelAndViewContainer for the current request.
    * @param webRequest The NativeWebRequest representing the current request.
    * @param binderFactory The WebDataBinderFactory for creating data binders.
    * @return An object representing the resolved method argument.
-   * @throws IllegalArgumentException If the resolved value cannot be cast to the expected type.
+   * @throws IllegalArgumentException If the resolved value cannot be cast to the expected type or its page token is invalid.
    */
   @Override
   public Object resolveArgument(MethodParameter parameter,
@@ -73,19 +94,18 @@ public class SearchParamArgResolver implements HandlerMethodArgumentResolver {
     // Retrieve the HttpServletRequest from the NativeWebRequest
     final HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
 
-    // Build a UriComponentsBuilder from the full URL of the request
-    UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(getFullURL(request));
-
-    // Extract query parameters from the URL and convert them into a Map
-    Map<String, String> queryMap = toQueryMap(builder.build().getQueryParams());
-
     try {
-      // Convert the query parameter Map to the expected method parameter type using ObjectMapper
-      var value = mapper.convertValue(queryMap, parameter.getParameterType());
+      // Bind the already decoded request parameters to the expected method parameter type
+      var value = binder.bind(parameter.getParameterType(), request.getParameterMap());
 
       // Perform additional operations on the resolved value if necessary
       ((SearchRequest) value).toPageable();
 
+      // Decode the page token into the scroll position of keyset queries
+      if (nonNull(keysetPaginator)) {
+        keysetPaginator.applyPageToken((SearchRequest) value);
+      }
+
       // Return the resolved value
       return value;
     } catch (ClassCastException ex) {
@@ -95,30 +115,6 @@ public class SearchParamArgResolver implements HandlerMethodArgumentResolver {
     }
   }
 
-  /**
-   * Constructs the full URL (including query parameters) of the current request.
-   *
-   * @param request The HttpServletRequest object representing the current request.
-   * @return A String representing the full URL of the current request, including query parameters if present.
-   */
-  private String getFullURL(HttpServletRequest request) {
-    // Get the base URL of the current request
-    StringBuilder requestURL = new StringBuilder(request.getRequestURL().toString());
-
-    // Get the query string of the current request
-    String queryString = request.getQueryString();
-
-    // If there is no query string, return the base URL
-    if (queryString == null) {
-      return requestURL.toString();
-    }
-    // If there is a query string, append it to the base URL and return the full URL
-    else {
-      return requestURL.append('?').append(queryString).toString();
-    }
-  }
-
-
   /**
    * Converts a MultiValueMap of query parameters into a regular Map of decoded query parameters.
    *
@@ -0,0 +1,335 @@
+package com.fleencorp.base.resolver.impl;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Binds request parameters to search request objects through property metadata computed once per class.
+ *
+ * <p>The properties of a class are the non-static fields declared on it and its superclasses that are public,
+ * annotated with {@link JsonProperty} or have a public setter, excluding fields marked with {@link JsonIgnore}. A
+ * property is named after its {@link JsonProperty} annotation when present, and is set through its public setter when
+ * the class has one and through its field otherwise, matching how Jackson binds the same class. The metadata,
+ * including the date formatter of every {@link JsonFormat} pattern and the default value of every property, is built
+ * on the first use of a class and shared by all binders.</p>
+ *
+ * <p>Common value types, such as strings, numbers, booleans, enums, dates and instants, are converted directly. Any
+ * other type, or a value the direct conversion rejects, goes through the {@link ObjectMapper}, so a class binds the
+ * same values it would through Jackson. Unknown parameters are ignored, and a blank value leaves a non-string property
+ * {@code null}, or unchanged for a primitive property. A value that cannot be converted fails with an
+ * {@link IllegalArgumentException}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class SearchRequestBinder {
+
+  private static final ClassValue<BindingMetadata> BINDINGS = new ClassValue<>() {
+    @Override
+    protected BindingMetadata computeValue(final Class<?> type) {
+      return BindingMetadata.of(type);
+    }
+  };
+
+  private final ObjectMapper mapper;
+
+  /**
+   * Creates a new binder.
+   *
+   * @param mapper the mapper converting values of types the binder does not convert directly
+   */
+  public SearchRequestBinder(final ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * Creates an instance of the type and sets its properties from the parameters, using the first value of each.
+   *
+   * @param type       the type to create
+   * @param parameters the parameters by name, as returned by {@code ServletRequest#getParameterMap()}
+   * @param <T>        the type to create
+   * @return the bound instance
+   * @throws IllegalArgumentException if the type cannot be created or a value cannot be converted
+   */
+  public <T> T bind(final Class<T> type, final Map<String, String[]> parameters) {
+    final BindingMetadata binding = BINDINGS.get(type);
+    if (isNull(binding.constructor())) {
+      // Types without a no-argument constructor rely on Jackson creators
+      return mapper.convertValue(toFirstValues(parameters), type);
+    }
+
+    final T target = type.cast(binding.newInstance());
+    for (final Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+      final Property property = binding.properties().get(parameter.getKey());
+      final String[] values = parameter.getValue();
+      if (isNull(property) || isNull(values) || values.length == 0) {
+        continue;
+      }
+
+      final String value = values[0];
+      if (isNull(value) || (value.isBlank() && property.getType() != String.class)) {
+        if (!property.getType().isPrimitive()) {
+          property.set(target, null);
+        }
+        continue;
+      }
+      property.set(target, convert(property, value));
+    }
+    return target;
+  }
+
+  /**
+   * Returns the bindable properties of a type, sorted by name.
+   *
+   * @param type the type
+   * @return the properties of the type
+   */
+  public static List<Property> getProperties(final Class<?> type) {
+    return BINDINGS.get(type).sortedProperties();
+  }
+
+  /**
+   * Converts a parameter value to the type of a property.
+   */
+  private Object convert(final Property property, final String value) {
+    final Class<?> type = property.getType();
+    if (type == String.class) {
+      return value;
+    }
+
+    final String trimmed = value.trim();
+    try {
+      if (type == Integer.class || type == int.class) {
+        return Integer.valueOf(trimmed);
+      } else if (type == Long.class || type == long.class) {
+        return Long.valueOf(trimmed);
+      } else if (type == Double.class || type == double.class) {
+        return Double.valueOf(trimmed);
+      } else if (type == Float.class || type == float.class) {
+        return Float.valueOf(trimmed);
+      } else if ((type == Boolean.class || type == boolean.class) && isBooleanLiteral(trimmed)) {
+        return Boolean.valueOf(trimmed);
+      } else if (type == BigDecimal.class) {
+        return new BigDecimal(trimmed);
+      } else if (type == LocalDate.class) {
+        return nonNull(property.dateFormatter)
+          ? LocalDate.parse(trimmed, property.dateFormatter)
+          : LocalDate.parse(trimmed);
+      } else if (type == Instant.class) {
+        return Instant.parse(trimmed);
+      } else if (type.isEnum()) {
+        return toEnum(type, trimmed);
+      }
+    } catch (final RuntimeException ignored) {
+      // Leave values in formats Jackson also accepts, such as epoch milliseconds, to the mapper
+    }
+
+    return mapper.convertValue(value, mapper.constructType(property.field.getGenericType()));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object toEnum(final Class<?> type, final String value) {
+    return Enum.valueOf((Class<? extends Enum>) type, value);
+  }
+
+  private static boolean isBooleanLiteral(final String value) {
+    return "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value);
+  }
+
+  private static Map<String, String> toFirstValues(final Map<String, String[]> parameters) {
+    final Map<String, String> values = new HashMap<>();
+    parameters.forEach((name, value) -> values.put(name, nonNull(value) && value.length > 0 ? value[0] : null));
+    return values;
+  }
+
+  /**
+   * A bindable property of a class.
+   */
+  public static final class Property {
+
+    private final String name;
+    private final Field field;
+    private final Method setter;
+    private final DateTimeFormatter dateFormatter;
+    private Object defaultValue;
+
+    private Property(final String name, final Field field, final Method setter, final DateTimeFormatter dateFormatter) {
+      this.name = name;
+      this.field = field;
+      this.setter = setter;
+      this.dateFormatter = dateFormatter;
+    }
+
+    /**
+     * Returns the name of the property, as used in request parameters.
+     *
+     * @return the name of the property
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the declared type of the property.
+     *
+     * @return the type of the property
+     */
+    public Class<?> getType() {
+      return field.getType();
+    }
+
+    /**
+     * Returns the value of the property in a newly created instance of its class, or {@code null} if the class has
+     * no no-argument constructor.
+     *
+     * @return the default value of the property
+     */
+    public Object getDefaultValue() {
+      return defaultValue;
+    }
+
+    /**
+     * Returns the raw value of the property, read from its field so getters applying defaults are bypassed.
+     *
+     * @param target the object to read
+     * @return the value of the property
+     */
+    public Object get(final Object target) {
+      try {
+        return field.get(target);
+      } catch (final IllegalAccessException ex) {
+        throw new IllegalArgumentException(String.format("Cannot read property %s", name), ex);
+      }
+    }
+
+    /**
+     * Sets the value of the property, through its setter when it has one.
+     *
+     * @param target the object to update
+     * @param value  the value to set
+     */
+    void set(final Object target, final Object value) {
+      try {
+        if (nonNull(setter)) {
+          setter.invoke(target, value);
+        } else {
+          field.set(target, value);
+        }
+      } catch (final IllegalAccessException ex) {
+        throw new IllegalArgumentException(String.format("Cannot set property %s", name), ex);
+      } catch (final InvocationTargetException ex) {
+        throw new IllegalArgumentException(String.format("Cannot set property %s", name), ex.getCause());
+      }
+    }
+  }
+
+  /**
+   * The binding metadata of a class.
+   *
+   * @param constructor      the no-argument constructor, or {@code null} if the class has none
+   * @param properties       the properties by name
+   * @param sortedProperties the properties sorted by name
+   */
+  private record BindingMetadata(Constructor<?> constructor, Map<String, Property> properties,
+                                 List<Property> sortedProperties) {
+
+    Object newInstance() {
+      try {
+        return constructor.newInstance();
+      } catch (final ReflectiveOperationException ex) {
+        throw new IllegalArgumentException(String.format("Cannot create %s", constructor.getDeclaringClass().getName()), ex);
+      }
+    }
+
+    static BindingMetadata of(final Class<?> type) {
+      final Map<String, Property> properties = new LinkedHashMap<>();
+      for (Class<?> current = type; nonNull(current) && current != Object.class; current = current.getSuperclass()) {
+        for (final Field field : current.getDeclaredFields()) {
+          final int modifiers = field.getModifiers();
+          if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+              || field.isAnnotationPresent(JsonIgnore.class)) {
+            continue;
+          }
+
+          final String name = getPropertyName(field);
+          final Method setter = findSetter(type, field);
+          final boolean visible = Modifier.isPublic(modifiers) || field.isAnnotationPresent(JsonProperty.class)
+            || nonNull(setter);
+          // A field redeclared by a subclass hides the field of its superclass
+          if (visible && !properties.containsKey(name)) {
+            field.setAccessible(true);
+            properties.put(name, new Property(name, field, setter, getDateFormatter(field)));
+          }
+        }
+      }
+
+      final List<Property> sortedProperties = new ArrayList<>(properties.values());
+      sortedProperties.sort(Comparator.comparing(Property::getName));
+      final BindingMetadata binding = new BindingMetadata(findConstructor(type), Map.copyOf(properties),
+        Collections.unmodifiableList(sortedProperties));
+
+      // Capture the values set by the constructor, which callers compare values against
+      if (nonNull(binding.constructor()) && !Modifier.isAbstract(type.getModifiers())) {
+        final Object instance = binding.newInstance();
+        sortedProperties.forEach(property -> property.defaultValue = property.get(instance));
+      }
+      return binding;
+    }
+
+    private static String getPropertyName(final Field field) {
+      final JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+      return nonNull(jsonProperty) && !jsonProperty.value().isEmpty()
+        ? jsonProperty.value()
+        : field.getName();
+    }
+
+    private static Method findSetter(final Class<?> type, final Field field) {
+      final String fieldName = field.getName();
+      final String setterName = "set" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+      try {
+        return type.getMethod(setterName, field.getType());
+      } catch (final NoSuchMethodException ex) {
+        return null;
+      }
+    }
+
+    private static DateTimeFormatter getDateFormatter(final Field field) {
+      final JsonFormat format = field.getAnnotation(JsonFormat.class);
+      return nonNull(format) && !format.pattern().isEmpty()
+        ? DateTimeFormatter.ofPattern(format.pattern())
+        : null;
+    }
+
+    private static Constructor<?> findConstructor(final Class<?> type) {
+      try {
+        final Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor;
+      } catch (final NoSuchMethodException ex) {
+        return null;
+      }
+    }
+  }
+}
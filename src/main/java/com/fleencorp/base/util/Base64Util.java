@@ -0,0 +1,176 @@
+package com.fleencorp.base.util;
+
+import java.util.Arrays;
+
+/**
+ * Utility class for Base64 encoding and decoding directly between caller-supplied byte arrays.
+ *
+ * <p>The JDK and commons-codec encoders allocate a new array or String for every call. The methods in this
+ * class instead write into a buffer owned by the caller, which allows the same buffer to be reused across many
+ * values. They use the standard RFC 4648 alphabet with padding and without line separators, so their output is
+ * interchangeable with {@link java.util.Base64#getEncoder()}.</p>
+ *
+ * <p>Encoding and decoding are copy-safe within a single array: encoding walks the input backwards and can expand
+ * a value in place when {@code dstOffset >= srcOffset}, and decoding walks the input forwards and can shrink a value
+ * in place when {@code dstOffset <= srcOffset}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class Base64Util {
+
+  private static final byte[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes();
+  private static final byte PAD = '=';
+  private static final int[] DECODE_TABLE = new int[256];
+
+  static {
+    Arrays.fill(DECODE_TABLE, -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      DECODE_TABLE[ALPHABET[i]] = i;
+    }
+  }
+
+  private Base64Util() {}
+
+  /**
+   * Returns the number of bytes produced when encoding the given number of bytes.
+   *
+   * @param length the number of bytes to encode
+   * @return the length of the encoded output, including padding
+   */
+  public static int encodedLength(final int length) {
+    return 4 * ((length + 2) / 3);
+  }
+
+  /**
+   * Returns the number of bytes produced when decoding the given encoded bytes, taking padding into account.
+   *
+   * @param src    the buffer holding the encoded bytes
+   * @param offset the offset of the encoded bytes in the buffer
+   * @param length the number of encoded bytes
+   * @return the length of the decoded output
+   */
+  public static int decodedLength(final byte[] src, final int offset, final int length) {
+    if (length == 0) {
+      return 0;
+    }
+
+    int padding = 0;
+    if (src[offset + length - 1] == PAD) {
+      padding++;
+      if (length > 1 && src[offset + length - 2] == PAD) {
+        padding++;
+      }
+    }
+    return (length / 4) * 3 - padding;
+  }
+
+  /**
+   * Encodes bytes into the destination buffer.
+   *
+   * @param src       the buffer holding the bytes to encode
+   * @param srcOffset the offset of the bytes to encode
+   * @param length    the number of bytes to encode
+   * @param dst       the buffer receiving the encoded bytes
+   * @param dstOffset the offset at which the encoded bytes are written
+   * @return the number of bytes written to the destination buffer
+   * @throws IllegalArgumentException if the destination buffer is too small
+   */
+  public static int encode(final byte[] src, final int srcOffset, final int length, final byte[] dst, final int dstOffset) {
+    final int encodedLength = encodedLength(length);
+    if (dst.length - dstOffset < encodedLength) {
+      throw new IllegalArgumentException("Destination buffer is too small for the encoded output");
+    }
+
+    final int fullGroups = length / 3;
+    final int remainder = length % 3;
+
+    // Encode the trailing partial group first since the groups are written from the end
+    if (remainder > 0) {
+      final int s = srcOffset + fullGroups * 3;
+      final int d = dstOffset + fullGroups * 4;
+      final int b0 = src[s] & 0xff;
+      final int b1 = remainder == 2 ? src[s + 1] & 0xff : 0;
+      dst[d] = ALPHABET[b0 >>> 2];
+      dst[d + 1] = ALPHABET[((b0 & 0x03) << 4) | (b1 >>> 4)];
+      dst[d + 2] = remainder == 2 ? ALPHABET[(b1 & 0x0f) << 2] : PAD;
+      dst[d + 3] = PAD;
+    }
+
+    for (int group = fullGroups - 1; group >= 0; group--) {
+      final int s = srcOffset + group * 3;
+      final int d = dstOffset + group * 4;
+      final int bits = ((src[s] & 0xff) << 16) | ((src[s + 1] & 0xff) << 8) | (src[s + 2] & 0xff);
+      dst[d] = ALPHABET[(bits >>> 18) & 0x3f];
+      dst[d + 1] = ALPHABET[(bits >>> 12) & 0x3f];
+      dst[d + 2] = ALPHABET[(bits >>> 6) & 0x3f];
+      dst[d + 3] = ALPHABET[bits & 0x3f];
+    }
+    return encodedLength;
+  }
+
+  /**
+   * Decodes Base64 bytes into the destination buffer.
+   *
+   * @param src       the buffer holding the encoded bytes
+   * @param srcOffset the offset of the encoded bytes
+   * @param length    the number of encoded bytes, which must be a multiple of four
+   * @param dst       the buffer receiving the decoded bytes
+   * @param dstOffset the offset at which the decoded bytes are written
+   * @return the number of bytes written to the destination buffer
+   * @throws IllegalArgumentException if the input is not valid Base64, including padding outside the last group or
+   *                                  followed by a character other than padding, or the destination buffer is too small
+   */
+  public static int decode(final byte[] src, final int srcOffset, final int length, final byte[] dst, final int dstOffset) {
+    if (length % 4 != 0) {
+      throw new IllegalArgumentException("Base64 input length must be a multiple of 4");
+    }
+
+    final int decodedLength = decodedLength(src, srcOffset, length);
+    if (dst.length - dstOffset < decodedLength) {
+      throw new IllegalArgumentException("Destination buffer is too small for the decoded output");
+    }
+
+    final int end = srcOffset + length;
+    int d = dstOffset;
+    for (int s = srcOffset; s < end; s += 4) {
+      final int c0 = decodeChar(src[s]);
+      final int c1 = decodeChar(src[s + 1]);
+      final boolean pad2 = src[s + 2] == PAD;
+      final boolean pad3 = src[s + 3] == PAD;
+      if (pad2 && !pad3) {
+        throw new IllegalArgumentException("Base64 padding must not be followed by a non-padding character");
+      }
+      if (pad3 && s + 4 != end) {
+        throw new IllegalArgumentException("Base64 padding is only allowed in the last group");
+      }
+      final int c2 = pad2 ? 0 : decodeChar(src[s + 2]);
+      final int c3 = pad3 ? 0 : decodeChar(src[s + 3]);
+      final int bits = (c0 << 18) | (c1 << 12) | (c2 << 6) | c3;
+
+      dst[d++] = (byte) (bits >>> 16);
+      if (!pad2) {
+        dst[d++] = (byte) (bits >>> 8);
+      }
+      if (!pad3) {
+        dst[d++] = (byte) bits;
+      }
+    }
+    return d - dstOffset;
+  }
+
+  /**
+   * Maps a Base64 character to its six-bit value.
+   *
+   * @param value the encoded character
+   * @return the six-bit value
+   * @throws IllegalArgumentException if the character is not part of the Base64 alphabet
+   */
+  private static int decodeChar(final byte value) {
+    final int decoded = DECODE_TABLE[value & 0xff];
+    if (decoded < 0) {
+      throw new IllegalArgumentException("Illegal Base64 character: " + (char) (value & 0xff));
+    }
+    return decoded;
+  }
+}
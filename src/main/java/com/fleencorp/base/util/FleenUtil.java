@@ -107,11 +107,21 @@ public class FleenUtil {
    * @return A Pageable object configured for pagination and sorting.
    */
   public static Pageable createPageable(int pageNo, int pageSize, String sortBy, String sortDir) {
+    return PageRequest.of(pageNo, pageSize, createSort(sortBy, sortDir));
+  }
+
+  /**
+   * Creates a Sort on a single field.
+   *
+   * @param sortBy    A string representing the field to sort by.
+   * @param sortDir   A string representing the sort direction ("asc" for ascending, "desc" for descending).
+   * @return A Sort on the field in the given direction.
+   */
+  public static Sort createSort(String sortBy, String sortDir) {
     // Determine the sort direction based on the provided sort direction string
-    Sort sort = sortDir.equalsIgnoreCase(ASC.name())
+    return sortDir.equalsIgnoreCase(ASC.name())
       ? Sort.by(sortBy).ascending()
       : Sort.by(sortBy).descending();
-    return PageRequest.of(pageNo, pageSize, sort);
   }
 
   /**
@@ -172,6 +182,7 @@ public class FleenUtil {
       searchResult.setHasNext(page.hasNext());
       searchResult.setTotalPages(page.getTotalPages());
       searchResult.setTotalEntries(page.getTotalElements());
+      searchResult.setTotalExact(true);
       searchResult.setPageNo(page.getNumber());
       searchResult.setPageSize(page.getSize());
       searchResult.setValues(values);
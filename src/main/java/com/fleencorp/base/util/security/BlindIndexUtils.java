@@ -0,0 +1,141 @@
+package com.fleencorp.base.util.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * Utility class for computing blind indexes of sensitive values.
+ *
+ * <p>Values encrypted with {@link EncryptionUtils} cannot be searched through a database index. A blind index is a
+ * keyed HMAC-SHA256 digest of the normalized value, stored in its own column next to the ciphertext. Since the
+ * digest is deterministic, equality lookups such as email or phone number existence checks can be answered through a
+ * regular B-tree index on that column, without decrypting any row. Without the key, the digest reveals nothing about
+ * the value beyond equality.</p>
+ *
+ * <p>Values are normalized before hashing, by default by trimming them and converting them to lower case, so that
+ * lookups are not sensitive to case or surrounding whitespace. Digests are prefixed with {@link #PREFIX} so that a
+ * stored index can be recognized. {@link #compute(String)} nevertheless always hashes its input, and callers compute
+ * the index explicitly when setting the value it is derived from.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class BlindIndexUtils {
+
+  private static final Logger log = LoggerFactory.getLogger(BlindIndexUtils.class);
+
+  public static final String PREFIX = "bi1:";
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final String KEY_DERIVATION_CONTEXT = "fleen-blind-index";
+  private static final int DIGEST_LENGTH = 43;
+
+  private final CryptoPool<Mac> macPool;
+  private final UnaryOperator<String> normalizer;
+
+  /**
+   * Creates a new {@code BlindIndexUtils} that trims values and converts them to lower case before hashing.
+   *
+   * @param blindIndexKey the key of the HMAC, which should differ from the encryption key
+   */
+  public BlindIndexUtils(final String blindIndexKey) {
+    this(blindIndexKey.getBytes(UTF_8), BlindIndexUtils::normalize);
+  }
+
+  /**
+   * Creates a new {@code BlindIndexUtils}.
+   *
+   * @param blindIndexKey the key of the HMAC
+   * @param normalizer    the function applied to values before hashing
+   */
+  public BlindIndexUtils(final byte[] blindIndexKey, final UnaryOperator<String> normalizer) {
+    final SecretKeySpec keySpec = new SecretKeySpec(blindIndexKey, ALGORITHM);
+    this.macPool = new CryptoPool<>(() -> newMac(keySpec), CryptoPool.defaultSize());
+    this.normalizer = normalizer;
+  }
+
+  /**
+   * Creates a {@code BlindIndexUtils} whose key is derived from the encryption key. This is meant for applications
+   * that have not configured a dedicated blind index key: the derived key is unrelated to the encryption key, but
+   * rotating the encryption key will then change every blind index.
+   *
+   * @param encryptionKey the encryption key configured for {@link EncryptionUtils}
+   * @return a {@code BlindIndexUtils} using the derived key
+   */
+  public static BlindIndexUtils fromEncryptionKey(final String encryptionKey) {
+    try {
+      final Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(new SecretKeySpec(encryptionKey.getBytes(UTF_8), ALGORITHM));
+      return new BlindIndexUtils(mac.doFinal(KEY_DERIVATION_CONTEXT.getBytes(UTF_8)), BlindIndexUtils::normalize);
+    } catch (final GeneralSecurityException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * Computes the blind index of a value. The value is always hashed, even if it looks like a blind index, so that a
+   * user-supplied value can never be stored or looked up as the index of another value.
+   *
+   * @param value the plaintext value
+   * @return the blind index, or {@code null} if the value is {@code null}
+   */
+  public String compute(final String value) {
+    if (isNull(value)) {
+      return null;
+    }
+
+    final Mac mac = macPool.borrow();
+    final byte[] digest = mac.doFinal(normalizer.apply(value).getBytes(UTF_8));
+    macPool.release(mac);
+    return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+  }
+
+  /**
+   * Checks whether a value is a blind index computed by this class.
+   *
+   * @param value the value to check
+   * @return {@code true} if the value has the blind index prefix and length
+   */
+  public static boolean isBlindIndex(final String value) {
+    return value != null
+      && value.length() == PREFIX.length() + DIGEST_LENGTH
+      && value.startsWith(PREFIX);
+  }
+
+  /**
+   * The default normalization: trims the value and converts it to lower case.
+   *
+   * @param value the value to normalize
+   * @return the normalized value
+   */
+  private static String normalize(final String value) {
+    return value.strip().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Creates a Mac initialized with the blind index key. This is the factory used by the Mac pool.
+   *
+   * @param keySpec the blind index key
+   * @return an initialized Mac
+   * @throws IllegalStateException if the Mac cannot be created
+   */
+  private static Mac newMac(final SecretKeySpec keySpec) {
+    try {
+      final Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(keySpec);
+      return mac;
+    } catch (final GeneralSecurityException ex) {
+      log.error("An error occurred while creating the blind index Mac. Reason: {}", ex.getMessage());
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.fleencorp.base.util.security;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, lock-free pool of non thread-safe cryptographic engines such as {@link javax.crypto.Cipher}
+ * and {@link javax.crypto.Mac}.
+ *
+ * <p>JCA engines are expensive to look up and initialize but cannot be shared between threads. This pool
+ * lets callers borrow an already initialized engine, use it on the current thread and hand it back once
+ * done. The pool does not rely on {@link ThreadLocal}, so it behaves the same on platform threads and on
+ * virtual threads: an engine is only ever held by the thread that borrowed it, and the number of retained
+ * engines is capped by {@code maxIdle} no matter how many virtual threads are running.</p>
+ *
+ * <p>When the pool is empty a new engine is created through the supplied factory. When the pool is full,
+ * released engines are simply dropped and left to the garbage collector.</p>
+ *
+ * @param <T> the type of engine held by the pool
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class CryptoPool<T> {
+
+  private final ConcurrentLinkedQueue<T> idle = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger idleCount = new AtomicInteger();
+  private final Supplier<T> factory;
+  private final int maxIdle;
+
+  /**
+   * Creates a new pool.
+   *
+   * @param factory the factory used to create a fully initialized engine when none is idle
+   * @param maxIdle the maximum number of idle engines retained by the pool
+   */
+  public CryptoPool(final Supplier<T> factory, final int maxIdle) {
+    this.factory = factory;
+    this.maxIdle = Math.max(1, maxIdle);
+  }
+
+  /**
+   * Borrows an engine from the pool, creating a new one if none is idle.
+   *
+   * @return an engine that is exclusively owned by the caller until it is released
+   */
+  public T borrow() {
+    final T engine = idle.poll();
+    if (engine != null) {
+      idleCount.decrementAndGet();
+      return engine;
+    }
+    return factory.get();
+  }
+
+  /**
+   * Returns an engine to the pool. Engines in an unknown or failed state must not be released;
+   * they should be discarded instead.
+   *
+   * @param engine the engine to return
+   */
+  public void release(final T engine) {
+    if (engine == null) {
+      return;
+    }
+
+    if (idleCount.incrementAndGet() <= maxIdle) {
+      idle.offer(engine);
+    } else {
+      idleCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Returns the default pool size, which is the number of available processors.
+   *
+   * @return the default maximum number of idle engines
+   */
+  public static int defaultSize() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+}
@@ -0,0 +1,186 @@
+package com.fleencorp.base.util.security;
+
+import com.fleencorp.base.exception.security.DecryptionFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Provider;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.fleencorp.base.util.security.StreamSegments.*;
+
+/**
+ * An input stream that decrypts data produced by {@link EncryptingOutputStream}, one segment at a time.
+ *
+ * <p>Each segment is authenticated before any of its plaintext is returned, so a caller never sees data that
+ * has been tampered with. Memory use is bounded by the segment size, whatever the size of the payload. The
+ * stream reads one byte ahead of the current segment to find out whether it is the last one, which lets it
+ * detect truncated input.</p>
+ *
+ * <p>Instances are created through {@link EncryptionUtils#decryptingStream(InputStream)}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class DecryptingInputStream extends InputStream {
+
+  private static final Logger log = LoggerFactory.getLogger(DecryptingInputStream.class);
+
+  private final InputStream in;
+  private final SecretKeySpec masterKey;
+  private final Provider provider;
+  private Cipher cipher;
+  private SecretKeySpec segmentKey;
+  private byte[] noncePrefix;
+  private byte[] ciphertext;
+  private byte[] plaintext;
+  private int ciphertextLength;
+  private int plaintextPosition;
+  private int plaintextLength;
+  private int segmentIndex;
+  private boolean headerRead;
+  private boolean finished;
+
+  /**
+   * Creates the stream. The header is read lazily on the first read.
+   *
+   * @param source    the stream holding the encrypted segments
+   * @param masterKey the key configured on {@link EncryptionUtils}
+   * @param provider  the JCA provider of the AES-GCM transformation
+   */
+  DecryptingInputStream(final InputStream source, final SecretKeySpec masterKey, final Provider provider) {
+    this.in = source;
+    this.masterKey = masterKey;
+    this.provider = provider;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fill()) {
+      return -1;
+    }
+    return plaintext[plaintextPosition++] & 0xff;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+
+    final int count = Math.min(len, plaintextLength - plaintextPosition);
+    System.arraycopy(plaintext, plaintextPosition, b, off, count);
+    plaintextPosition += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return plaintextLength - plaintextPosition;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      in.close();
+    } finally {
+      if (plaintext != null) {
+        Arrays.fill(plaintext, (byte) 0);
+      }
+      plaintextPosition = plaintextLength = 0;
+      finished = true;
+    }
+  }
+
+  /**
+   * Makes sure decrypted plaintext is available, decrypting the next segment if needed.
+   *
+   * @return {@code true} if plaintext is available, {@code false} at the end of the stream
+   * @throws IOException if the underlying stream cannot be read
+   * @throws DecryptionFailedException if the header is invalid or a segment fails to authenticate
+   */
+  private boolean fill() throws IOException {
+    if (!headerRead) {
+      readHeader();
+    }
+    while (plaintextPosition == plaintextLength) {
+      if (finished) {
+        return false;
+      }
+      readSegment();
+    }
+    return true;
+  }
+
+  /**
+   * Reads and validates the stream header, then derives the key of the stream.
+   */
+  private void readHeader() throws IOException {
+    final byte[] header = in.readNBytes(HEADER_LENGTH);
+    if (header.length < HEADER_LENGTH || header[0] != VERSION) {
+      log.error("An error occurred while reading the encrypted stream header. Reason: missing or unsupported header");
+      throw new DecryptionFailedException();
+    }
+
+    final ByteBuffer buffer = ByteBuffer.wrap(header, 1, HEADER_LENGTH - 1);
+    final int segmentSize = buffer.getInt();
+    final byte[] salt = new byte[SALT_LENGTH];
+    buffer.get(salt);
+    noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+    buffer.get(noncePrefix);
+
+    try {
+      checkSegmentSize(segmentSize);
+      cipher = Cipher.getInstance(TRANSFORMATION, provider);
+      segmentKey = deriveKey(masterKey, salt);
+    } catch (final GeneralSecurityException | IllegalArgumentException ex) {
+      log.error("An error occurred while reading the encrypted stream header. Reason: {}", ex.getMessage());
+      throw new DecryptionFailedException();
+    }
+
+    // One extra byte holds the look-ahead that tells whether the current segment is the last one
+    ciphertext = new byte[segmentSize + TAG_LENGTH + 1];
+    plaintext = new byte[segmentSize];
+    headerRead = true;
+  }
+
+  /**
+   * Reads and decrypts the next segment.
+   */
+  private void readSegment() throws IOException {
+    final int fullSegmentLength = ciphertext.length - 1;
+    ciphertextLength += in.readNBytes(ciphertext, ciphertextLength, ciphertext.length - ciphertextLength);
+
+    final boolean last = ciphertextLength <= fullSegmentLength;
+    final int segmentLength = last ? ciphertextLength : fullSegmentLength;
+
+    try {
+      cipher.init(Cipher.DECRYPT_MODE, segmentKey, segmentParameters(noncePrefix, segmentIndex, last));
+      plaintextLength = cipher.doFinal(ciphertext, 0, segmentLength, plaintext, 0);
+      plaintextPosition = 0;
+    } catch (final GeneralSecurityException ex) {
+      log.error("An error occurred while decrypting segment {}. Reason: {}", segmentIndex, ex.getMessage());
+      throw new DecryptionFailedException();
+    }
+
+    if (last) {
+      finished = true;
+      ciphertextLength = 0;
+    } else {
+      ciphertext[0] = ciphertext[fullSegmentLength];
+      ciphertextLength = 1;
+    }
+    segmentIndex++;
+  }
+}
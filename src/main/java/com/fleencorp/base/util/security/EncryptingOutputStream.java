@@ -0,0 +1,176 @@
+package com.fleencorp.base.util.security;
+
+import com.fleencorp.base.exception.security.EncryptionFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Provider;
+import java.util.Arrays;
+
+import static com.fleencorp.base.util.security.StreamSegments.*;
+
+/**
+ * An output stream that encrypts everything written to it with AES-GCM, one segment at a time.
+ *
+ * <p>Plaintext is buffered until a full segment is available, then the segment is encrypted with its own
+ * authentication tag and written to the underlying stream. Memory use is bounded by the segment size,
+ * whatever the size of the payload. The format is described in {@link StreamSegments}.</p>
+ *
+ * <p>The last segment is only written by {@link #finish()} or {@link #close()}; a stream that is neither finished
+ * nor closed cannot be decrypted. Instances are created through {@link EncryptionUtils#encryptingStream(OutputStream)}.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class EncryptingOutputStream extends FilterOutputStream {
+
+  private static final Logger log = LoggerFactory.getLogger(EncryptingOutputStream.class);
+
+  private final Cipher cipher;
+  private final SecretKeySpec segmentKey;
+  private final byte[] noncePrefix;
+  private final byte[] plaintext;
+  private final byte[] ciphertext;
+  private int plaintextLength;
+  private int segmentIndex;
+  private boolean finished;
+
+  /**
+   * Creates the stream and writes the stream header to the target.
+   *
+   * @param target      the stream receiving the encrypted segments
+   * @param masterKey   the key configured on {@link EncryptionUtils}
+   * @param provider    the JCA provider of the AES-GCM transformation
+   * @param segmentSize the number of plaintext bytes in each segment
+   * @throws IOException if the header cannot be written
+   * @throws EncryptionFailedException if the cipher cannot be created
+   */
+  EncryptingOutputStream(final OutputStream target, final SecretKeySpec masterKey, final Provider provider, final int segmentSize) throws IOException {
+    super(target);
+    final byte[] salt = randomBytes(SALT_LENGTH);
+    this.noncePrefix = randomBytes(NONCE_PREFIX_LENGTH);
+    this.plaintext = new byte[checkSegmentSize(segmentSize)];
+    this.ciphertext = new byte[segmentSize + TAG_LENGTH];
+
+    try {
+      this.cipher = Cipher.getInstance(TRANSFORMATION, provider);
+      this.segmentKey = deriveKey(masterKey, salt);
+    } catch (final GeneralSecurityException ex) {
+      log.error("An error occurred while creating the encrypting stream. Reason: {}", ex.getMessage());
+      throw new EncryptionFailedException();
+    }
+
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+    header.put(VERSION);
+    header.putInt(segmentSize);
+    header.put(salt);
+    header.put(noncePrefix);
+    out.write(header.array());
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    if (plaintextLength == plaintext.length) {
+      writeSegment(false);
+    }
+    plaintext[plaintextLength++] = (byte) b;
+  }
+
+  @Override
+  public void write(final byte[] b, int off, int len) throws IOException {
+    ensureOpen();
+    while (len > 0) {
+      // A full segment is only written once more data arrives, since the last segment must be flagged as such
+      if (plaintextLength == plaintext.length) {
+        writeSegment(false);
+      }
+      final int count = Math.min(len, plaintext.length - plaintextLength);
+      System.arraycopy(b, off, plaintext, plaintextLength, count);
+      plaintextLength += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Flushes the underlying stream. Buffered plaintext is not written until its segment is full
+   * or the stream is finished.
+   *
+   * @throws IOException if the underlying stream cannot be flushed
+   */
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  /**
+   * Writes the last segment without closing the underlying stream. No further data can be written afterwards.
+   *
+   * @throws IOException if the last segment cannot be written
+   */
+  public void finish() throws IOException {
+    if (!finished) {
+      try {
+        writeSegment(true);
+        out.flush();
+      } finally {
+        finished = true;
+        Arrays.fill(plaintext, (byte) 0);
+      }
+    }
+  }
+
+  /**
+   * Writes the last segment and closes the underlying stream.
+   *
+   * @throws IOException if the last segment cannot be written or the underlying stream cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      finish();
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Encrypts the buffered plaintext as one segment and writes it to the underlying stream.
+   *
+   * @param last whether this is the last segment of the stream
+   * @throws IOException if the segment cannot be written
+   * @throws EncryptionFailedException if the segment cannot be encrypted
+   */
+  private void writeSegment(final boolean last) throws IOException {
+    if (segmentIndex < 0) {
+      throw new IOException("Stream exceeds the maximum number of segments");
+    }
+
+    final int length;
+    try {
+      cipher.init(Cipher.ENCRYPT_MODE, segmentKey, segmentParameters(noncePrefix, segmentIndex, last));
+      length = cipher.doFinal(plaintext, 0, plaintextLength, ciphertext, 0);
+    } catch (final GeneralSecurityException ex) {
+      log.error("An error occurred while encrypting segment {}. Reason: {}", segmentIndex, ex.getMessage());
+      throw new EncryptionFailedException();
+    }
+
+    out.write(ciphertext, 0, length);
+    segmentIndex++;
+    plaintextLength = 0;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (finished) {
+      throw new IOException("Stream has already been finished");
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.fleencorp.base.util.security;
 
 import com.fleencorp.base.exception.security.DecryptionFailedException;
 import com.fleencorp.base.exception.security.EncryptionFailedException;
+import com.fleencorp.base.util.Base64Util;
 import org.apache.commons.codec.binary.Base64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,9 +11,27 @@ import javax.crypto.Cipher;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
 
 /**
  * Utility class for encryption and decryption operations.
@@ -23,6 +42,28 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * <p>Currently, the class supports symmetric encryption algorithms such as AES (Advanced Encryption Standard)
  * and provides methods to encrypt plaintext data and decrypt encrypted data.</p>
  *
+ * <p>The secret key, the GCM parameters and the JCA provider are resolved once at construction. Decryption
+ * ciphers are initialized once and kept in a bounded {@link CryptoPool}, so the hot path used by
+ * {@code StringCryptoConverter} while hydrating entities does not repeat the provider lookup and key setup
+ * for every column of every row. The pool is not tied to threads, which keeps it safe and bounded when
+ * called from virtual threads.</p>
+ *
+ * <p>Besides the String based methods, the class offers {@code byte[]} and {@link ByteBuffer} overloads that write
+ * into caller-supplied buffers, as well as Base64 variants that encode and decode directly inside those buffers.
+ * These avoid the intermediate copies of the String path when encrypting large values or streaming exports.</p>
+ *
+ * <p>When a {@link KeyRing} is configured, String values are encrypted with the active key of the key ring and a
+ * random IV, and stored in a versioned envelope of the form {@code v1:<keyId>:<Base64(IV || ciphertext)>}. Values
+ * in the original format, which carry no header, are still decrypted with the key given at construction. Since
+ * Base64 never contains {@code ':'}, the two formats cannot be confused. {@link #needsReEncryption(String)} and
+ * {@link #reEncrypt(String)} let a {@link ReEncryptionJob} move existing values to the active key without
+ * downtime. The byte array, buffer and stream methods always use the key given at construction.</p>
+ *
+ * <p>Payloads that should not be loaded on the heap, such as files or large JSON documents, can be encrypted as a
+ * stream of authenticated segments through {@link #encryptingStream(OutputStream)} and
+ * {@link #decryptingStream(InputStream)}, or the {@link InputStream} and {@link FileChannel} convenience methods.
+ * Memory use is then bounded by the segment size.</p>
+ *
  * <p>Note: It is crucial to handle encryption keys securely and manage them properly to maintain the integrity
  * and confidentiality of encrypted data.</p>
  *
@@ -33,12 +74,64 @@ public class EncryptionUtils {
 
   private static final Logger log = LoggerFactory.getLogger(EncryptionUtils.class);
 
-  private final String encryptionKey;
   private static final String TRANSFORMATION = "AES/GCM/NoPadding";
   private static final String ALGORITHM = "AES";
+  private static final int TAG_LENGTH_BITS = 128;
+  private static final int TAG_LENGTH_BYTES = TAG_LENGTH_BITS / 8;
+  private static final int BATCH_CHUNK_SIZE = 256;
+  private static final int INITIAL_BUFFER_SIZE = 256;
+  private static final String ENVELOPE_PREFIX = "v1:";
+  private static final char ENVELOPE_SEPARATOR = ':';
+  private static final int ENVELOPE_IV_LENGTH = 12;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+  private final SecretKeySpec secretKeySpec;
+  private final GCMParameterSpec gcmParameterSpec;
+  private final Provider provider;
+  private final CryptoPool<Cipher> decryptCipherPool;
+  private final CryptoPool<Cipher> envelopeCipherPool;
+  private final KeyRing keyRing;
 
   public EncryptionUtils(final String encryptionKey) {
-    this.encryptionKey = encryptionKey;
+    this(encryptionKey, CryptoPool.defaultSize());
+  }
+
+  /**
+   * Creates a new {@code EncryptionUtils} with the given key and the maximum number of idle decryption
+   * ciphers to retain.
+   *
+   * @param encryptionKey the encryption key
+   * @param cipherPoolSize the maximum number of idle decryption ciphers kept for reuse
+   */
+  public EncryptionUtils(final String encryptionKey, final int cipherPoolSize) {
+    this(encryptionKey, null, cipherPoolSize);
+  }
+
+  /**
+   * Creates a new {@code EncryptionUtils} that encrypts String values with the active key of the key ring.
+   *
+   * @param encryptionKey the key used to decrypt values without envelope and by the byte array, buffer and stream methods
+   * @param keyRing the key ring used to encrypt and decrypt enveloped values, or {@code null} to keep the original format
+   */
+  public EncryptionUtils(final String encryptionKey, final KeyRing keyRing) {
+    this(encryptionKey, keyRing, CryptoPool.defaultSize());
+  }
+
+  /**
+   * Creates a new {@code EncryptionUtils}.
+   *
+   * @param encryptionKey the key used to decrypt values without envelope and by the byte array, buffer and stream methods
+   * @param keyRing the key ring used to encrypt and decrypt enveloped values, or {@code null} to keep the original format
+   * @param cipherPoolSize the maximum number of idle ciphers kept for reuse
+   */
+  public EncryptionUtils(final String encryptionKey, final KeyRing keyRing, final int cipherPoolSize) {
+    final byte[] keyBytes = encryptionKey.getBytes(UTF_8);
+    this.secretKeySpec = new SecretKeySpec(keyBytes, EncryptionUtils.ALGORITHM);
+    this.gcmParameterSpec = new GCMParameterSpec(TAG_LENGTH_BITS, keyBytes);
+    this.provider = resolveProvider();
+    this.decryptCipherPool = new CryptoPool<>(this::newDecryptCipher, cipherPoolSize);
+    this.envelopeCipherPool = new CryptoPool<>(this::newCipher, cipherPoolSize);
+    this.keyRing = keyRing;
   }
 
   /**
@@ -50,6 +143,13 @@ public class EncryptionUtils {
    * using a secret key and GCM parameters obtained from {@link #getSecretKeySpec()} and {@link #getGCMParameterSpec()}.
    * The encrypted value is then Base64-encoded for safe storage and transmission.</p>
    *
+   * <p>Unlike decryption, an encryption cipher cannot be reused: the JCA rejects re-initializing a GCM cipher
+   * for encryption with the same key and IV. A new cipher is therefore created on each call, but from the
+   * provider resolved at construction, which skips the provider list lookup of {@link Cipher#getInstance(String)}.</p>
+   *
+   * <p>When a {@link KeyRing} is configured, the value is instead encrypted with the active key and a random IV,
+   * and returned in the versioned envelope format. Pooled ciphers are then reused since the IV changes on every call.</p>
+   *
    * <p>If an error occurs during encryption, an EncryptionFailedException is thrown with an error message
    * containing details about the exception.</p>
    *
@@ -59,9 +159,7 @@ public class EncryptionUtils {
    */
   public String encrypt(final String value) {
     try {
-      final Cipher cipher = getCipher();
-      cipher.init(Cipher.ENCRYPT_MODE, getSecretKeySpec(), getGCMParameterSpec());
-      return Base64.encodeBase64String(cipher.doFinal(value.getBytes(UTF_8)));
+      return encryptValue(value);
     } catch (final Exception ex) {
       final String errorMessage = String
         .format("An error occurred while calling encrypt of %s. Reason: %s",
@@ -81,6 +179,12 @@ public class EncryptionUtils {
    * using a secret key and GCM parameters obtained from {@link #getSecretKeySpec()} and {@link #getGCMParameterSpec()}.
    * The encrypted value is expected to be Base64-encoded before decryption.</p>
    *
+   * <p>The cipher is borrowed from a pool of ciphers that are already initialized in DECRYPT_MODE. A GCM cipher
+   * returns to its initialized state after {@link Cipher#doFinal(byte[])}, so it can be released back to the pool
+   * and reused. A cipher that fails is discarded rather than released.</p>
+   *
+   * <p>Values in the versioned envelope format are decrypted with the key of the key ring named in the envelope.</p>
+   *
    * <p>If an error occurs during decryption, a DecryptionFailedException is thrown with an error message
    * containing details about the exception.</p>
    *
@@ -90,9 +194,14 @@ public class EncryptionUtils {
    */
   public String decrypt(final String encryptedValue) {
     try {
-      final Cipher cipher = getCipher();
-      cipher.init(Cipher.DECRYPT_MODE, getSecretKeySpec(), getGCMParameterSpec());
-      return new String(cipher.doFinal(Base64.decodeBase64(encryptedValue)), UTF_8);
+      if (isEnvelope(encryptedValue)) {
+        return decryptEnvelope(encryptedValue);
+      }
+
+      final Cipher cipher = decryptCipherPool.borrow();
+      final String decryptedValue = new String(cipher.doFinal(Base64.decodeBase64(encryptedValue)), UTF_8);
+      decryptCipherPool.release(cipher);
+      return decryptedValue;
     } catch (final Exception ex) {
       final String errorMessage = String
         .format("An error occurred while calling decrypt of %s. Reason: %s",
@@ -103,6 +212,566 @@ public class EncryptionUtils {
     }
   }
 
+  /**
+   * Checks whether an encrypted value should be re-encrypted with the active key of the key ring, either because
+   * it is in the original format without envelope or because it was encrypted with another key.
+   *
+   * @param encryptedValue The encrypted value.
+   * @return {@code true} if a key ring is configured and the value was not encrypted with its active key.
+   */
+  public boolean needsReEncryption(final String encryptedValue) {
+    if (keyRing == null || encryptedValue == null) {
+      return false;
+    }
+    return !isEnvelope(encryptedValue) || !keyRing.getActiveKeyId().equals(getEnvelopeKeyId(encryptedValue));
+  }
+
+  /**
+   * Re-encrypts a value with the active key of the key ring if needed.
+   *
+   * @param encryptedValue The encrypted value.
+   * @return The value encrypted with the active key, or the value itself if it already is.
+   * @throws DecryptionFailedException If the value cannot be decrypted.
+   * @throws EncryptionFailedException If the value cannot be encrypted again.
+   */
+  public String reEncrypt(final String encryptedValue) {
+    return needsReEncryption(encryptedValue)
+      ? encrypt(decrypt(encryptedValue))
+      : encryptedValue;
+  }
+
+  /**
+   * Encrypts a range of bytes into a caller-supplied output buffer.
+   *
+   * <p>The output buffer must have room for at least {@link #getEncryptedLength(int)} bytes from
+   * {@code outputOffset}. The input and output may be the same array.</p>
+   *
+   * @param input The buffer holding the plaintext.
+   * @param inputOffset The offset of the plaintext in the input buffer.
+   * @param inputLength The length of the plaintext.
+   * @param output The buffer receiving the ciphertext and authentication tag.
+   * @param outputOffset The offset at which the ciphertext is written.
+   * @return The number of bytes written to the output buffer.
+   * @throws EncryptionFailedException If encryption fails or the output buffer is too small.
+   */
+  public int encrypt(final byte[] input, final int inputOffset, final int inputLength, final byte[] output, final int outputOffset) {
+    try {
+      final Cipher cipher = getCipher();
+      cipher.init(Cipher.ENCRYPT_MODE, getSecretKeySpec(), getGCMParameterSpec());
+      return cipher.doFinal(input, inputOffset, inputLength, output, outputOffset);
+    } catch (final Exception ex) {
+      logFailure("encrypt", ex);
+      throw new EncryptionFailedException();
+    }
+  }
+
+  /**
+   * Decrypts a range of bytes into a caller-supplied output buffer.
+   *
+   * <p>The output buffer must have room for at least {@link #getDecryptedLength(int)} bytes from
+   * {@code outputOffset}. The input and output may be the same array.</p>
+   *
+   * @param input The buffer holding the ciphertext and authentication tag.
+   * @param inputOffset The offset of the ciphertext in the input buffer.
+   * @param inputLength The length of the ciphertext, including the authentication tag.
+   * @param output The buffer receiving the plaintext.
+   * @param outputOffset The offset at which the plaintext is written.
+   * @return The number of bytes written to the output buffer.
+   * @throws DecryptionFailedException If decryption fails or the output buffer is too small.
+   */
+  public int decrypt(final byte[] input, final int inputOffset, final int inputLength, final byte[] output, final int outputOffset) {
+    try {
+      final Cipher cipher = decryptCipherPool.borrow();
+      final int length = cipher.doFinal(input, inputOffset, inputLength, output, outputOffset);
+      decryptCipherPool.release(cipher);
+      return length;
+    } catch (final Exception ex) {
+      logFailure("decrypt", ex);
+      throw new DecryptionFailedException();
+    }
+  }
+
+  /**
+   * Encrypts the remaining bytes of the input buffer into the output buffer. Heap and direct buffers are
+   * both supported. On return, the input position equals its limit and the output position is advanced by
+   * the number of bytes written.
+   *
+   * @param input The buffer holding the plaintext.
+   * @param output The buffer receiving the ciphertext and authentication tag.
+   * @return The number of bytes written to the output buffer.
+   * @throws EncryptionFailedException If encryption fails or the output buffer is too small.
+   */
+  public int encrypt(final ByteBuffer input, final ByteBuffer output) {
+    try {
+      final Cipher cipher = getCipher();
+      cipher.init(Cipher.ENCRYPT_MODE, getSecretKeySpec(), getGCMParameterSpec());
+      return cipher.doFinal(input, output);
+    } catch (final Exception ex) {
+      logFailure("encrypt", ex);
+      throw new EncryptionFailedException();
+    }
+  }
+
+  /**
+   * Decrypts the remaining bytes of the input buffer into the output buffer. Heap and direct buffers are
+   * both supported. On return, the input position equals its limit and the output position is advanced by
+   * the number of bytes written.
+   *
+   * @param input The buffer holding the ciphertext and authentication tag.
+   * @param output The buffer receiving the plaintext.
+   * @return The number of bytes written to the output buffer.
+   * @throws DecryptionFailedException If decryption fails or the output buffer is too small.
+   */
+  public int decrypt(final ByteBuffer input, final ByteBuffer output) {
+    try {
+      final Cipher cipher = decryptCipherPool.borrow();
+      final int length = cipher.doFinal(input, output);
+      decryptCipherPool.release(cipher);
+      return length;
+    } catch (final Exception ex) {
+      logFailure("decrypt", ex);
+      throw new DecryptionFailedException();
+    }
+  }
+
+  /**
+   * Encrypts a range of bytes and writes the Base64-encoded ciphertext into a caller-supplied buffer.
+   *
+   * <p>The ciphertext is written to the output buffer and then expanded to Base64 in place, so no intermediate
+   * array is allocated. The output buffer must have room for at least {@link #getBase64EncryptedLength(int)}
+   * bytes from {@code outputOffset}. The encoded bytes are ASCII and match the output of {@link #encrypt(String)}.</p>
+   *
+   * @param input The buffer holding the plaintext.
+   * @param inputOffset The offset of the plaintext in the input buffer.
+   * @param inputLength The length of the plaintext.
+   * @param output The buffer receiving the Base64-encoded ciphertext.
+   * @param outputOffset The offset at which the encoded ciphertext is written.
+   * @return The number of bytes written to the output buffer.
+   * @throws EncryptionFailedException If encryption fails or the output buffer is too small.
+   */
+  public int encryptToBase64(final byte[] input, final int inputOffset, final int inputLength, final byte[] output, final int outputOffset) {
+    if (output.length - outputOffset < getBase64EncryptedLength(inputLength)) {
+      logFailure("encryptToBase64", new IllegalArgumentException("Output buffer is too small"));
+      throw new EncryptionFailedException();
+    }
+
+    final int encryptedLength = encrypt(input, inputOffset, inputLength, output, outputOffset);
+    return Base64Util.encode(output, outputOffset, encryptedLength, output, outputOffset);
+  }
+
+  /**
+   * Decodes a Base64-encoded ciphertext and decrypts it into a caller-supplied buffer.
+   *
+   * <p>The ciphertext is decoded into the output buffer and then decrypted in place, so no intermediate array is
+   * allocated. The output buffer must have room for the decoded ciphertext, which is at most three quarters of
+   * {@code inputLength}. The input and output may be the same array as long as {@code outputOffset <= inputOffset}.</p>
+   *
+   * @param input The buffer holding the Base64-encoded ciphertext.
+   * @param inputOffset The offset of the encoded ciphertext in the input buffer.
+   * @param inputLength The length of the encoded ciphertext.
+   * @param output The buffer receiving the plaintext.
+   * @param outputOffset The offset at which the plaintext is written.
+   * @return The number of plaintext bytes written to the output buffer.
+   * @throws DecryptionFailedException If decoding or decryption fails, or the output buffer is too small.
+   */
+  public int decryptFromBase64(final byte[] input, final int inputOffset, final int inputLength, final byte[] output, final int outputOffset) {
+    final int encryptedLength;
+    try {
+      encryptedLength = Base64Util.decode(input, inputOffset, inputLength, output, outputOffset);
+    } catch (final IllegalArgumentException ex) {
+      logFailure("decryptFromBase64", ex);
+      throw new DecryptionFailedException();
+    }
+    return decrypt(output, outputOffset, encryptedLength, output, outputOffset);
+  }
+
+  /**
+   * Returns the length of the ciphertext, including the authentication tag, for a plaintext of the given length.
+   *
+   * @param plaintextLength The length of the plaintext.
+   * @return The length of the ciphertext.
+   */
+  public static int getEncryptedLength(final int plaintextLength) {
+    return plaintextLength + TAG_LENGTH_BYTES;
+  }
+
+  /**
+   * Returns the length of the plaintext for a ciphertext of the given length, including the authentication tag.
+   *
+   * @param encryptedLength The length of the ciphertext.
+   * @return The length of the plaintext.
+   */
+  public static int getDecryptedLength(final int encryptedLength) {
+    return Math.max(0, encryptedLength - TAG_LENGTH_BYTES);
+  }
+
+  /**
+   * Returns the length of the Base64-encoded ciphertext for a plaintext of the given length.
+   *
+   * @param plaintextLength The length of the plaintext.
+   * @return The length of the Base64-encoded ciphertext.
+   */
+  public static int getBase64EncryptedLength(final int plaintextLength) {
+    return Base64Util.encodedLength(getEncryptedLength(plaintextLength));
+  }
+
+  /**
+   * Wraps the target stream in a stream that encrypts everything written to it in segments of the default size.
+   *
+   * <p>The returned stream must be finished or closed for the last segment to be written.</p>
+   *
+   * @param target The stream receiving the encrypted data.
+   * @return A stream that encrypts data written to it.
+   * @throws EncryptionFailedException If the stream cannot be created.
+   * @see EncryptingOutputStream
+   */
+  public EncryptingOutputStream encryptingStream(final OutputStream target) {
+    return encryptingStream(target, StreamSegments.DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * Wraps the target stream in a stream that encrypts everything written to it in segments of the given size.
+   *
+   * @param target The stream receiving the encrypted data.
+   * @param segmentSize The number of plaintext bytes in each segment.
+   * @return A stream that encrypts data written to it.
+   * @throws EncryptionFailedException If the stream cannot be created.
+   * @throws IllegalArgumentException If the segment size is out of range.
+   */
+  public EncryptingOutputStream encryptingStream(final OutputStream target, final int segmentSize) {
+    try {
+      return new EncryptingOutputStream(target, getSecretKeySpec(), provider, segmentSize);
+    } catch (final IOException ex) {
+      logFailure("encryptingStream", ex);
+      throw new EncryptionFailedException();
+    }
+  }
+
+  /**
+   * Wraps the source stream in a stream that decrypts data produced by {@link #encryptingStream(OutputStream)}.
+   *
+   * @param source The stream holding the encrypted data.
+   * @return A stream that returns the decrypted data.
+   * @see DecryptingInputStream
+   */
+  public DecryptingInputStream decryptingStream(final InputStream source) {
+    return new DecryptingInputStream(source, getSecretKeySpec(), provider);
+  }
+
+  /**
+   * Encrypts all data from the source stream into the target stream. Neither stream is closed.
+   *
+   * @param source The stream holding the plaintext.
+   * @param target The stream receiving the encrypted data.
+   * @throws EncryptionFailedException If reading, encrypting or writing fails.
+   */
+  public void encrypt(final InputStream source, final OutputStream target) {
+    try {
+      final EncryptingOutputStream encryptingStream = encryptingStream(target);
+      source.transferTo(encryptingStream);
+      encryptingStream.finish();
+    } catch (final IOException ex) {
+      logFailure("encrypt", ex);
+      throw new EncryptionFailedException();
+    }
+  }
+
+  /**
+   * Decrypts all data from the source stream into the target stream. Neither stream is closed.
+   *
+   * <p>Plaintext is only written once its segment has been authenticated, but when decryption fails part
+   * of the plaintext may already have been written to the target.</p>
+   *
+   * @param source The stream holding the encrypted data.
+   * @param target The stream receiving the plaintext.
+   * @throws DecryptionFailedException If reading, decrypting or writing fails.
+   */
+  public void decrypt(final InputStream source, final OutputStream target) {
+    try {
+      decryptingStream(source).transferTo(target);
+    } catch (final IOException ex) {
+      logFailure("decrypt", ex);
+      throw new DecryptionFailedException();
+    }
+  }
+
+  /**
+   * Encrypts the content of the source channel, from its current position, into the target channel.
+   * Neither channel is closed.
+   *
+   * @param source The channel holding the plaintext.
+   * @param target The channel receiving the encrypted data.
+   * @throws EncryptionFailedException If reading, encrypting or writing fails.
+   */
+  public void encrypt(final FileChannel source, final FileChannel target) {
+    encrypt(Channels.newInputStream(source), Channels.newOutputStream(target));
+  }
+
+  /**
+   * Decrypts the content of the source channel, from its current position, into the target channel.
+   * Neither channel is closed.
+   *
+   * @param source The channel holding the encrypted data.
+   * @param target The channel receiving the plaintext.
+   * @throws DecryptionFailedException If reading, decrypting or writing fails.
+   */
+  public void decrypt(final FileChannel source, final FileChannel target) {
+    decrypt(Channels.newInputStream(source), Channels.newOutputStream(target));
+  }
+
+  /**
+   * Encrypts a list of plaintext values in bulk.
+   *
+   * <p>The values are split into chunks that are encrypted in parallel on a bounded {@link ForkJoinPool}
+   * sized to the number of available processors. Small lists are encrypted on the calling thread. The
+   * returned list preserves the order of the input and {@code null} elements are kept as {@code null}.</p>
+   *
+   * @param values The plaintext values to be encrypted.
+   * @return The Base64-encoded encrypted values, in the same order as the input.
+   * @throws EncryptionFailedException If encryption of any value fails.
+   */
+  public List<String> encryptAll(final List<String> values) {
+    try {
+      return transformAll(values, this::encryptChunk);
+    } catch (final Exception ex) {
+      final String errorMessage = String
+        .format("An error occurred while calling encryptAll of %s. Reason: %s",
+          ex.getClass().getName(),
+          ex.getMessage());
+        log.error(errorMessage);
+      throw new EncryptionFailedException();
+    }
+  }
+
+  /**
+   * Decrypts a list of encrypted values in bulk.
+   *
+   * <p>The values are split into chunks that are decrypted in parallel on a bounded {@link ForkJoinPool}
+   * sized to the number of available processors. Each chunk borrows a single pooled cipher and decrypts into
+   * one reusable output buffer, which is wiped once the chunk is done. Small lists are decrypted on the calling
+   * thread. The returned list preserves the order of the input and {@code null} elements are kept as {@code null}.</p>
+   *
+   * @param encryptedValues The Base64-encoded encrypted values to be decrypted.
+   * @return The decrypted plaintext values, in the same order as the input.
+   * @throws DecryptionFailedException If decryption of any value fails.
+   */
+  public List<String> decryptAll(final List<String> encryptedValues) {
+    try {
+      return transformAll(encryptedValues, this::decryptChunk);
+    } catch (final Exception ex) {
+      final String errorMessage = String
+        .format("An error occurred while calling decryptAll of %s. Reason: %s",
+          ex.getClass().getName(),
+          ex.getMessage());
+        log.error(errorMessage);
+      throw new DecryptionFailedException();
+    }
+  }
+
+  /**
+   * Applies a chunk transformation to every element of the list, fanning the chunks out to the batch pool
+   * when the list is larger than a single chunk.
+   *
+   * @param values The values to transform.
+   * @param transformer The transformation applied to each chunk.
+   * @return The transformed values in input order.
+   * @throws Exception If any chunk fails.
+   */
+  private List<String> transformAll(final List<String> values, final ChunkTransformer transformer) throws Exception {
+    if (values == null || values.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    final List<String> source = values instanceof RandomAccess ? values : new ArrayList<>(values);
+    final String[] results = new String[source.size()];
+
+    if (source.size() <= BATCH_CHUNK_SIZE) {
+      transformer.transform(source, results, 0, source.size());
+      return Arrays.asList(results);
+    }
+
+    final List<Callable<Void>> tasks = new ArrayList<>();
+    for (int from = 0; from < source.size(); from += BATCH_CHUNK_SIZE) {
+      final int start = from;
+      final int end = Math.min(from + BATCH_CHUNK_SIZE, source.size());
+      tasks.add(() -> {
+        transformer.transform(source, results, start, end);
+        return null;
+      });
+    }
+
+    for (final Future<Void> future : BatchPoolHolder.POOL.invokeAll(tasks)) {
+      try {
+        future.get();
+      } catch (final ExecutionException ex) {
+        throw ex.getCause() instanceof Exception cause ? cause : ex;
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Encrypts the values between {@code from} (inclusive) and {@code to} (exclusive) into the results array.
+   */
+  private void encryptChunk(final List<String> values, final String[] results, final int from, final int to) throws GeneralSecurityException {
+    for (int i = from; i < to; i++) {
+      final String value = values.get(i);
+      if (value != null) {
+        results[i] = encryptValue(value);
+      }
+    }
+  }
+
+  /**
+   * Decrypts the values between {@code from} (inclusive) and {@code to} (exclusive) into the results array
+   * using a single pooled cipher and a reusable output buffer.
+   */
+  private void decryptChunk(final List<String> values, final String[] results, final int from, final int to) throws GeneralSecurityException {
+    final Cipher cipher = decryptCipherPool.borrow();
+    byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    try {
+      for (int i = from; i < to; i++) {
+        final String value = values.get(i);
+        if (value != null && isEnvelope(value)) {
+          results[i] = decryptEnvelope(value);
+        } else if (value != null) {
+          final byte[] encryptedBytes = Base64.decodeBase64(value);
+          final int outputSize = cipher.getOutputSize(encryptedBytes.length);
+          if (buffer.length < outputSize) {
+            Arrays.fill(buffer, (byte) 0);
+            buffer = new byte[Math.max(outputSize, buffer.length * 2)];
+          }
+          final int length = cipher.doFinal(encryptedBytes, 0, encryptedBytes.length, buffer, 0);
+          results[i] = new String(buffer, 0, length, UTF_8);
+        }
+      }
+      decryptCipherPool.release(cipher);
+    } finally {
+      Arrays.fill(buffer, (byte) 0);
+    }
+  }
+
+  /**
+   * Encrypts a value, in the envelope format with the active key when a key ring is configured and in the original
+   * format otherwise.
+   *
+   * @param value The plaintext value.
+   * @return The encrypted value.
+   * @throws GeneralSecurityException If encryption fails.
+   */
+  private String encryptValue(final String value) throws GeneralSecurityException {
+    if (nonNull(keyRing)) {
+      return encryptEnvelope(value);
+    }
+
+    final Cipher cipher = getCipher();
+    cipher.init(Cipher.ENCRYPT_MODE, getSecretKeySpec(), getGCMParameterSpec());
+    return Base64.encodeBase64String(cipher.doFinal(value.getBytes(UTF_8)));
+  }
+
+  /**
+   * Encrypts a value with the active key of the key ring and a random IV, and wraps it in the envelope format.
+   *
+   * @param value The plaintext value.
+   * @return The enveloped encrypted value.
+   * @throws GeneralSecurityException If encryption fails.
+   */
+  private String encryptEnvelope(final String value) throws GeneralSecurityException {
+    final String keyId = keyRing.getActiveKeyId();
+    final byte[] iv = new byte[ENVELOPE_IV_LENGTH];
+    SECURE_RANDOM.nextBytes(iv);
+
+    final Cipher cipher = envelopeCipherPool.borrow();
+    cipher.init(Cipher.ENCRYPT_MODE, keyRing.getKey(keyId), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+    final byte[] plaintext = value.getBytes(UTF_8);
+    final byte[] payload = new byte[ENVELOPE_IV_LENGTH + cipher.getOutputSize(plaintext.length)];
+    System.arraycopy(iv, 0, payload, 0, ENVELOPE_IV_LENGTH);
+    cipher.doFinal(plaintext, 0, plaintext.length, payload, ENVELOPE_IV_LENGTH);
+    envelopeCipherPool.release(cipher);
+
+    return ENVELOPE_PREFIX + keyId + ENVELOPE_SEPARATOR + Base64.encodeBase64String(payload);
+  }
+
+  /**
+   * Decrypts a value in the envelope format with the key of the key ring named in the envelope.
+   *
+   * @param encryptedValue The enveloped encrypted value.
+   * @return The decrypted value.
+   * @throws GeneralSecurityException If the envelope is malformed, its key is unknown or decryption fails.
+   */
+  private String decryptEnvelope(final String encryptedValue) throws GeneralSecurityException {
+    final String keyId = getEnvelopeKeyId(encryptedValue);
+    final SecretKeySpec key = nonNull(keyRing) && nonNull(keyId) ? keyRing.getKey(keyId) : null;
+    if (key == null) {
+      throw new GeneralSecurityException(String.format("No key found for key id '%s'", keyId));
+    }
+
+    final byte[] payload = Base64.decodeBase64(encryptedValue.substring(ENVELOPE_PREFIX.length() + keyId.length() + 1));
+    if (payload.length < ENVELOPE_IV_LENGTH + TAG_LENGTH_BYTES) {
+      throw new GeneralSecurityException("Enveloped value is too short");
+    }
+
+    final Cipher cipher = envelopeCipherPool.borrow();
+    cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, payload, 0, ENVELOPE_IV_LENGTH));
+    final String decryptedValue = new String(cipher.doFinal(payload, ENVELOPE_IV_LENGTH, payload.length - ENVELOPE_IV_LENGTH), UTF_8);
+    envelopeCipherPool.release(cipher);
+    return decryptedValue;
+  }
+
+  /**
+   * Checks whether an encrypted value is in the versioned envelope format.
+   *
+   * @param encryptedValue The encrypted value.
+   * @return {@code true} if the value starts with the envelope prefix.
+   */
+  private static boolean isEnvelope(final String encryptedValue) {
+    return encryptedValue.startsWith(ENVELOPE_PREFIX);
+  }
+
+  /**
+   * Returns the key id recorded in an enveloped value.
+   *
+   * @param encryptedValue The enveloped encrypted value.
+   * @return The key id, or {@code null} if the envelope is malformed.
+   */
+  private static String getEnvelopeKeyId(final String encryptedValue) {
+    final int separator = encryptedValue.indexOf(ENVELOPE_SEPARATOR, ENVELOPE_PREFIX.length());
+    return separator > ENVELOPE_PREFIX.length()
+      ? encryptedValue.substring(ENVELOPE_PREFIX.length(), separator)
+      : null;
+  }
+
+  /**
+   * A transformation applied to a contiguous range of a list, writing into the matching slots of an output array.
+   */
+  @FunctionalInterface
+  private interface ChunkTransformer {
+    void transform(List<String> values, String[] results, int from, int to) throws Exception;
+  }
+
+  /**
+   * Holds the bounded pool used for bulk operations. The pool is created on first use and its worker
+   * threads are started on demand and retired when idle.
+   */
+  private static final class BatchPoolHolder {
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Logs the failure of an encryption or decryption operation.
+   *
+   * @param operation The name of the operation that failed.
+   * @param ex The exception raised by the operation.
+   */
+  private static void logFailure(final String operation, final Exception ex) {
+    final String errorMessage = String
+      .format("An error occurred while calling %s of %s. Reason: %s",
+        operation,
+        ex.getClass().getName(),
+        ex.getMessage());
+    log.error(errorMessage);
+  }
+
   /**
    * Retrieves a Cipher instance for encryption and decryption operations.
    *
@@ -110,16 +779,62 @@ public class EncryptionUtils {
    * which defines the encryption algorithm, mode of operation, and padding scheme. It is used
    * for performing encryption and decryption operations on data.</p>
    *
-   * <p>The Cipher instance is obtained using the {@link Cipher#getInstance(String)} method,
-   * which may throw NoSuchPaddingException or NoSuchAlgorithmException if the specified
-   * transformation is not available on the system.</p>
+   * <p>The Cipher instance is obtained using the {@link Cipher#getInstance(String, Provider)} method with the
+   * provider resolved at construction, which may throw NoSuchPaddingException or NoSuchAlgorithmException if the
+   * specified transformation is not available on the system.</p>
    *
    * @return A Cipher instance configured with the specified transformation.
    * @throws NoSuchPaddingException If the specified padding scheme is not available.
    * @throws NoSuchAlgorithmException If the specified encryption algorithm is not available.
    */
   private Cipher getCipher() throws NoSuchPaddingException, NoSuchAlgorithmException {
-    return Cipher.getInstance(EncryptionUtils.TRANSFORMATION);
+    return Cipher.getInstance(EncryptionUtils.TRANSFORMATION, provider);
+  }
+
+  /**
+   * Creates a new Cipher initialized in DECRYPT_MODE with the secret key and GCM parameters.
+   * This is the factory used by the decryption cipher pool.
+   *
+   * @return A Cipher ready to decrypt values.
+   * @throws IllegalStateException If the cipher cannot be created or initialized.
+   */
+  private Cipher newDecryptCipher() {
+    try {
+      final Cipher cipher = getCipher();
+      cipher.init(Cipher.DECRYPT_MODE, getSecretKeySpec(), getGCMParameterSpec());
+      return cipher;
+    } catch (final GeneralSecurityException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * Creates a new uninitialized Cipher. This is the factory used by the envelope cipher pool, whose ciphers are
+   * initialized on each use with the key and IV of the value.
+   *
+   * @return A Cipher for the AES-GCM transformation.
+   * @throws IllegalStateException If the cipher cannot be created.
+   */
+  private Cipher newCipher() {
+    try {
+      return getCipher();
+    } catch (final GeneralSecurityException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * Resolves the JCA provider that supplies the transformation used by this class.
+   *
+   * @return The provider of the AES-GCM transformation.
+   * @throws IllegalStateException If no provider supports the transformation.
+   */
+  private static Provider resolveProvider() {
+    try {
+      return Cipher.getInstance(EncryptionUtils.TRANSFORMATION).getProvider();
+    } catch (final GeneralSecurityException ex) {
+      throw new IllegalStateException(ex);
+    }
   }
 
   /**
@@ -130,12 +845,12 @@ public class EncryptionUtils {
    * the encryption key converted to bytes using UTF-8 encoding and the specified encryption algorithm.</p>
    *
    * <p>The encryption key should be securely generated and managed to ensure the security and integrity
-   * of encrypted data.</p>
+   * of encrypted data. The SecretKeySpec is immutable and created once at construction.</p>
    *
    * @return A SecretKeySpec object initialized with the encryption key and algorithm.
    */
   private SecretKeySpec getSecretKeySpec() {
-    return new SecretKeySpec(encryptionKey.getBytes(UTF_8), EncryptionUtils.ALGORITHM);
+    return secretKeySpec;
   }
 
   /**
@@ -146,11 +861,12 @@ public class EncryptionUtils {
    * mode is chosen for its cryptographic security and efficient performance in symmetric encryption.</p>
    *
    * <p>The GCMParameterSpec specifies a 128-bit authentication tag length and uses the encryption key
-   * converted to bytes using UTF-8 encoding as the initialization vector (IV) for the encryption process.</p>
+   * converted to bytes using UTF-8 encoding as the initialization vector (IV) for the encryption process.
+   * The GCMParameterSpec is immutable and created once at construction.</p>
    *
    * @return A GCMParameterSpec object configured with 128-bit tag length and the encryption key as IV.
    */
   private GCMParameterSpec getGCMParameterSpec() {
-    return new GCMParameterSpec(128, encryptionKey.getBytes(UTF_8));
+    return gcmParameterSpec;
   }
 }
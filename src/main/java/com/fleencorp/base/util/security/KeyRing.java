@@ -0,0 +1,39 @@
+package com.fleencorp.base.util.security;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Set;
+
+/**
+ * A set of encryption keys identified by key id, one of which is active.
+ *
+ * <p>{@link EncryptionUtils} encrypts new values with the active key and records its id in the ciphertext envelope,
+ * which lets values encrypted with older keys still be decrypted while they are progressively re-encrypted with
+ * {@link ReEncryptionJob}. Key ids must not contain the {@code ':'} character.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public interface KeyRing {
+
+  /**
+   * Returns the id of the key used to encrypt new values.
+   *
+   * @return the active key id
+   */
+  String getActiveKeyId();
+
+  /**
+   * Returns the key with the given id.
+   *
+   * @param keyId the key id found in a ciphertext envelope
+   * @return the key, or {@code null} if the key ring has no key with that id
+   */
+  SecretKeySpec getKey(String keyId);
+
+  /**
+   * Returns the ids of all keys of the key ring.
+   *
+   * @return the key ids
+   */
+  Set<String> getKeyIds();
+}
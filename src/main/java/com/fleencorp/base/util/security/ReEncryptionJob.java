@@ -0,0 +1,185 @@
+package com.fleencorp.base.util.security;
+
+import com.fleencorp.base.exception.FleenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.fleencorp.base.util.security.ReEncryptionStore.EncryptedRow;
+import static com.fleencorp.base.util.security.ReEncryptionStore.ValueUpdate;
+
+/**
+ * Re-encrypts existing values with the active key of the {@link KeyRing} of an {@link EncryptionUtils}, in the
+ * background and without a maintenance window.
+ *
+ * <p>The job pages through the rows of a {@link ReEncryptionStore} in identifier order, re-encrypts every value that
+ * {@link EncryptionUtils#needsReEncryption(String)} reports, writes back the changed values and records a checkpoint
+ * after each page. Only the re-encrypted columns are written, each as a compare-and-set update against the value it
+ * was re-encrypted from: a value the application changed in the meantime is skipped rather than overwritten, and since
+ * the application writes with the active key, it needs no re-encryption anyway. Throughput is capped at a
+ * configurable number of rows per second so that the job does not compete with regular traffic. The job can be
+ * stopped at any time and resumes from the last checkpoint when run again.</p>
+ *
+ * <p>A value that cannot be decrypted is logged, counted as failed and left untouched, so one corrupted row does not
+ * block the rotation of the others.</p>
+ *
+ * @param <ID> the type of the row identifier
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class ReEncryptionJob<ID extends Comparable<ID>> {
+
+  private static final Logger log = LoggerFactory.getLogger(ReEncryptionJob.class);
+
+  private final EncryptionUtils encryptionUtils;
+  private final ReEncryptionStore<ID> store;
+  private final int batchSize;
+  private final double maxRowsPerSecond;
+  private final AtomicBoolean running = new AtomicBoolean();
+  private volatile boolean stopRequested;
+
+  /**
+   * Creates a new job.
+   *
+   * @param encryptionUtils  the encryption utility holding the key ring
+   * @param store            the store giving access to the rows to re-encrypt
+   * @param batchSize        the number of rows fetched and written per page
+   * @param maxRowsPerSecond the maximum number of rows processed per second, or {@code 0} for no limit
+   */
+  public ReEncryptionJob(final EncryptionUtils encryptionUtils, final ReEncryptionStore<ID> store,
+                         final int batchSize, final double maxRowsPerSecond) {
+    this.encryptionUtils = encryptionUtils;
+    this.store = store;
+    this.batchSize = Math.max(1, batchSize);
+    this.maxRowsPerSecond = Math.max(0, maxRowsPerSecond);
+  }
+
+  /**
+   * Starts the job on a virtual thread. A stop requested before this call is cleared, while a stop requested once
+   * this call returns applies to the started run, even if its thread has not begun yet.
+   *
+   * @return a future completed with the result of the run
+   */
+  public CompletableFuture<ReEncryptionResult<ID>> start() {
+    stopRequested = false;
+    final CompletableFuture<ReEncryptionResult<ID>> future = new CompletableFuture<>();
+    Thread.ofVirtual().name("re-encryption-job").start(() -> {
+      try {
+        future.complete(run());
+      } catch (final Throwable ex) {
+        future.completeExceptionally(ex);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Asks a running job to stop after the current page. The checkpoint of the last completed page is kept.
+   */
+  public void stop() {
+    stopRequested = true;
+  }
+
+  /**
+   * Runs the job on the calling thread until all rows are processed or the job is stopped. A stop requested while the
+   * job was not running stops it before its first page, and the request is cleared when the run ends.
+   *
+   * @return the result of the run
+   * @throws IllegalStateException if the job is already running
+   */
+  public ReEncryptionResult<ID> run() {
+    if (!running.compareAndSet(false, true)) {
+      throw new IllegalStateException("Re-encryption job is already running");
+    }
+
+    final long startedAt = System.nanoTime();
+    long scanned = 0;
+    long reEncrypted = 0;
+    long skipped = 0;
+    long failed = 0;
+    ID lastId = store.loadCheckpoint();
+
+    try {
+      while (!stopRequested) {
+        final List<EncryptedRow<ID>> rows = store.fetchBatch(lastId, batchSize);
+        if (rows.isEmpty()) {
+          log.info("Re-encryption completed. Scanned {} rows, re-encrypted {} values, skipped {} concurrently updated values, {} failures",
+            scanned, reEncrypted, skipped, failed);
+          return new ReEncryptionResult<>(scanned, reEncrypted, skipped, failed, lastId, true);
+        }
+
+        final List<ValueUpdate<ID>> updates = new ArrayList<>();
+        for (final EncryptedRow<ID> row : rows) {
+          for (final Map.Entry<String, String> value : row.values().entrySet()) {
+            if (encryptionUtils.needsReEncryption(value.getValue())) {
+              try {
+                updates.add(new ValueUpdate<>(row.id(), value.getKey(), value.getValue(), encryptionUtils.reEncrypt(value.getValue())));
+              } catch (final FleenException ex) {
+                log.error("Re-encryption of {} for row {} failed: {}", value.getKey(), row.id(), ex.getMessageCode());
+                failed++;
+              }
+            }
+          }
+          lastId = row.id();
+        }
+
+        if (!updates.isEmpty()) {
+          final int applied = store.updateBatch(updates);
+          reEncrypted += applied;
+          skipped += updates.size() - applied;
+        }
+        store.saveCheckpoint(lastId);
+        scanned += rows.size();
+        pace(scanned, startedAt);
+      }
+
+      log.info("Re-encryption stopped after row {}. Scanned {} rows, re-encrypted {} values, skipped {}", lastId, scanned, reEncrypted, skipped);
+      return new ReEncryptionResult<>(scanned, reEncrypted, skipped, failed, lastId, false);
+    } finally {
+      stopRequested = false;
+      running.set(false);
+    }
+  }
+
+  /**
+   * Sleeps long enough to keep the overall throughput under the configured number of rows per second.
+   *
+   * @param scanned   the number of rows processed so far
+   * @param startedAt the {@link System#nanoTime()} value at which the run started
+   */
+  private void pace(final long scanned, final long startedAt) {
+    if (maxRowsPerSecond <= 0) {
+      return;
+    }
+
+    final long expectedNanos = (long) (scanned / maxRowsPerSecond * TimeUnit.SECONDS.toNanos(1));
+    final long aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+    if (aheadNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(aheadNanos);
+      } catch (final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        stopRequested = true;
+      }
+    }
+  }
+
+  /**
+   * The outcome of a run of the job.
+   *
+   * @param scanned     the number of rows read
+   * @param reEncrypted the number of values re-encrypted
+   * @param skipped     the number of re-encrypted values not written because the application changed them meanwhile
+   * @param failed      the number of values that could not be re-encrypted
+   * @param lastId      the identifier of the last processed row
+   * @param completed   {@code true} if all rows were processed, {@code false} if the job was stopped
+   * @param <ID>        the type of the row identifier
+   */
+  public record ReEncryptionResult<ID>(long scanned, long reEncrypted, long skipped, long failed, ID lastId, boolean completed) {}
+}
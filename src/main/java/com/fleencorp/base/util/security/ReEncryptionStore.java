@@ -0,0 +1,76 @@
+package com.fleencorp.base.util.security;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives a {@link ReEncryptionJob} access to the rows holding encrypted values, typically one table or entity.
+ *
+ * <p>Rows are read in pages ordered by an increasing identifier, which lets the job resume after the last
+ * identifier it processed instead of starting over. Implementations are usually thin wrappers around a repository
+ * query such as {@code findByIdGreaterThanOrderByIdAsc}.</p>
+ *
+ * @param <ID> the type of the row identifier, which must be ordered
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public interface ReEncryptionStore<ID extends Comparable<ID>> {
+
+  /**
+   * Fetches the next page of rows, ordered by identifier.
+   *
+   * @param afterId   the identifier after which to start, or {@code null} to start from the first row
+   * @param batchSize the maximum number of rows to return
+   * @return the rows, or an empty list when there are no more rows
+   */
+  List<EncryptedRow<ID>> fetchBatch(ID afterId, int batchSize);
+
+  /**
+   * Persists the re-encrypted values of a page of rows as compare-and-set updates. Only changed values are passed.
+   *
+   * <p>Each update must only be applied if the column still holds the value it was re-encrypted from, for example
+   * with {@code UPDATE t SET col = :newValue WHERE id = :id AND col = :expectedValue}. An update whose row was written
+   * by the application since it was fetched, or was deleted, must be skipped, so that a concurrent write is never
+   * overwritten with stale data. Other columns of the row must not be written.</p>
+   *
+   * @param updates the re-encrypted values
+   * @return the number of updates applied, the others having been skipped
+   */
+  int updateBatch(List<ValueUpdate<ID>> updates);
+
+  /**
+   * Records the identifier of the last processed row, so that a later run can resume from it.
+   *
+   * @param lastId the identifier of the last processed row
+   */
+  default void saveCheckpoint(final ID lastId) {}
+
+  /**
+   * Returns the identifier recorded by the last call to {@link #saveCheckpoint(Comparable)}.
+   *
+   * @return the identifier to resume after, or {@code null} to start from the first row
+   */
+  default ID loadCheckpoint() {
+    return null;
+  }
+
+  /**
+   * A row holding one or more encrypted values.
+   *
+   * @param id     the identifier of the row
+   * @param values the encrypted values of the row, indexed by column or field name
+   * @param <ID>   the type of the row identifier
+   */
+  record EncryptedRow<ID>(ID id, Map<String, String> values) {}
+
+  /**
+   * A re-encrypted value of a row, to be written only if the row still holds the value it was re-encrypted from.
+   *
+   * @param id            the identifier of the row
+   * @param column        the column or field name
+   * @param expectedValue the encrypted value read from the row
+   * @param newValue      the value re-encrypted with the active key
+   * @param <ID>          the type of the row identifier
+   */
+  record ValueUpdate<ID>(ID id, String column, String expectedValue, String newValue) {}
+}
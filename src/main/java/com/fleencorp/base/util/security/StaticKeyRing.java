@@ -0,0 +1,108 @@
+package com.fleencorp.base.util.security;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A {@link KeyRing} holding a fixed set of keys, typically read from configuration.
+ *
+ * <p>Like the single key of {@link EncryptionUtils}, each key is the UTF-8 encoding of its configured value and
+ * must therefore be 16, 24 or 32 bytes long.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+public class StaticKeyRing implements KeyRing {
+
+  private static final String ALGORITHM = "AES";
+  private static final Pattern KEY_ID_PATTERN = Pattern.compile("[A-Za-z0-9_.-]+");
+  private static final String ENTRY_SEPARATOR = ";";
+  private static final String KEY_SEPARATOR = "=";
+
+  private final String activeKeyId;
+  private final Map<String, SecretKeySpec> keys = new HashMap<>();
+
+  /**
+   * Creates a key ring from the given keys.
+   *
+   * @param keys        the keys indexed by key id
+   * @param activeKeyId the id of the key used to encrypt new values
+   * @throws IllegalArgumentException if a key id is invalid, a key has an invalid length or the active key is missing
+   */
+  public StaticKeyRing(final Map<String, String> keys, final String activeKeyId) {
+    keys.forEach((keyId, key) -> {
+      if (!KEY_ID_PATTERN.matcher(keyId).matches()) {
+        throw new IllegalArgumentException(String.format("Invalid key id '%s'", keyId));
+      }
+
+      final byte[] keyBytes = key.getBytes(UTF_8);
+      if (keyBytes.length != 16 && keyBytes.length != 24 && keyBytes.length != 32) {
+        throw new IllegalArgumentException(String.format("Key '%s' must be 16, 24 or 32 bytes long", keyId));
+      }
+      this.keys.put(keyId, new SecretKeySpec(keyBytes, ALGORITHM));
+    });
+
+    if (!this.keys.containsKey(activeKeyId)) {
+      throw new IllegalArgumentException(String.format("Active key '%s' is not part of the key ring", activeKeyId));
+    }
+    this.activeKeyId = activeKeyId;
+  }
+
+  /**
+   * Creates a key ring from a delimited string of the form {@code keyId=key;keyId=key}.
+   *
+   * <p>Each entry is split on its first {@code =} only, so a key may itself contain {@code =}, as Base64 padding
+   * does. Blank entries, such as the one after a trailing {@code ;}, are ignored.</p>
+   *
+   * @param keys        the delimited keys
+   * @param activeKeyId the id of the key used to encrypt new values
+   * @return the key ring
+   * @throws IllegalArgumentException if an entry has no key id or no key, a key id is repeated, the active key id is
+   *                                  missing, or the keys are otherwise invalid
+   */
+  public static StaticKeyRing of(final String keys, final String activeKeyId) {
+    if (isNull(activeKeyId) || activeKeyId.isBlank()) {
+      throw new IllegalArgumentException("The id of the active key is required");
+    }
+
+    final Map<String, String> parsedKeys = new LinkedHashMap<>();
+    for (final String entry : nonNull(keys) ? keys.split(ENTRY_SEPARATOR) : new String[0]) {
+      if (entry.isBlank()) {
+        continue;
+      }
+
+      final String[] keyIdAndKey = entry.split(KEY_SEPARATOR, 2);
+      final String keyId = keyIdAndKey[0].trim();
+      if (keyIdAndKey.length < 2 || keyId.isEmpty() || keyIdAndKey[1].isBlank()) {
+        throw new IllegalArgumentException("Key ring entries must have the form keyId=key");
+      }
+      if (nonNull(parsedKeys.put(keyId, keyIdAndKey[1].trim()))) {
+        throw new IllegalArgumentException(String.format("Key id '%s' is defined more than once", keyId));
+      }
+    }
+    return new StaticKeyRing(parsedKeys, activeKeyId.trim());
+  }
+
+  @Override
+  public String getActiveKeyId() {
+    return activeKeyId;
+  }
+
+  @Override
+  public SecretKeySpec getKey(final String keyId) {
+    return keys.get(keyId);
+  }
+
+  @Override
+  public Set<String> getKeyIds() {
+    return Set.copyOf(keys.keySet());
+  }
+}
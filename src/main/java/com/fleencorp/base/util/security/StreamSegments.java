@@ -0,0 +1,102 @@
+package com.fleencorp.base.util.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * Constants and helpers shared by {@link EncryptingOutputStream} and {@link DecryptingInputStream}.
+ *
+ * <p>A stream starts with a header made of a version byte, the segment size, a random salt and a random
+ * nonce prefix. The salt is used to derive a key that is unique to the stream, and the plaintext follows
+ * as a sequence of AES-GCM segments, each carrying its own authentication tag. The nonce of a segment is made
+ * of the nonce prefix, the segment index and a flag that marks the last segment, so segments cannot be
+ * reordered, and a stream that is truncated on a segment boundary fails to authenticate.</p>
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+final class StreamSegments {
+
+  static final String TRANSFORMATION = "AES/GCM/NoPadding";
+  static final byte VERSION = 1;
+  static final int TAG_LENGTH_BITS = 128;
+  static final int TAG_LENGTH = TAG_LENGTH_BITS / 8;
+  static final int SALT_LENGTH = 16;
+  static final int NONCE_PREFIX_LENGTH = 7;
+  static final int NONCE_LENGTH = 12;
+  static final int HEADER_LENGTH = 1 + Integer.BYTES + SALT_LENGTH + NONCE_PREFIX_LENGTH;
+  static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+  static final int MIN_SEGMENT_SIZE = 1024;
+  static final int MAX_SEGMENT_SIZE = 8 * 1024 * 1024;
+
+  private static final String KEY_DERIVATION_ALGORITHM = "HmacSHA256";
+  private static final String ALGORITHM = "AES";
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+  private StreamSegments() {}
+
+  /**
+   * Generates random bytes of the given length.
+   *
+   * @param length the number of bytes to generate
+   * @return the random bytes
+   */
+  static byte[] randomBytes(final int length) {
+    final byte[] bytes = new byte[length];
+    SECURE_RANDOM.nextBytes(bytes);
+    return bytes;
+  }
+
+  /**
+   * Derives the key of a single stream from the master key and the salt found in the stream header.
+   * The derived key has the same length as the master key.
+   *
+   * @param masterKey the key configured on {@link EncryptionUtils}
+   * @param salt      the salt of the stream
+   * @return the key used to encrypt the segments of the stream
+   * @throws GeneralSecurityException if the key cannot be derived
+   */
+  static SecretKeySpec deriveKey(final SecretKeySpec masterKey, final byte[] salt) throws GeneralSecurityException {
+    final Mac mac = Mac.getInstance(KEY_DERIVATION_ALGORITHM);
+    mac.init(new SecretKeySpec(masterKey.getEncoded(), KEY_DERIVATION_ALGORITHM));
+    final byte[] derived = mac.doFinal(salt);
+    final SecretKeySpec segmentKey = new SecretKeySpec(derived, 0, masterKey.getEncoded().length, ALGORITHM);
+    Arrays.fill(derived, (byte) 0);
+    return segmentKey;
+  }
+
+  /**
+   * Builds the GCM parameters of a segment.
+   *
+   * @param noncePrefix  the nonce prefix of the stream
+   * @param segmentIndex the zero based index of the segment
+   * @param last         whether the segment is the last one of the stream
+   * @return the GCM parameters of the segment
+   */
+  static GCMParameterSpec segmentParameters(final byte[] noncePrefix, final int segmentIndex, final boolean last) {
+    final ByteBuffer nonce = ByteBuffer.allocate(NONCE_LENGTH);
+    nonce.put(noncePrefix);
+    nonce.putInt(segmentIndex);
+    nonce.put(last ? (byte) 1 : (byte) 0);
+    return new GCMParameterSpec(TAG_LENGTH_BITS, nonce.array());
+  }
+
+  /**
+   * Validates a segment size.
+   *
+   * @param segmentSize the number of plaintext bytes in each segment
+   * @return the segment size
+   * @throws IllegalArgumentException if the segment size is out of range
+   */
+  static int checkSegmentSize(final int segmentSize) {
+    if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > MAX_SEGMENT_SIZE) {
+      throw new IllegalArgumentException(String.format("Segment size must be between %d and %d bytes", MIN_SEGMENT_SIZE, MAX_SEGMENT_SIZE));
+    }
+    return segmentSize;
+  }
+}
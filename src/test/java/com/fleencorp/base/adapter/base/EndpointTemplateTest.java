@@ -0,0 +1,41 @@
+package com.fleencorp.base.adapter.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link EndpointTemplate}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class EndpointTemplateTest {
+
+  private static final EndpointTemplate USER_POSTS =
+    EndpointTemplate.compile("https://api.example.com", "/users/{id}/posts?page=1");
+
+  @Test
+  void expandsVariablesWithinTheirSegment() {
+    assertEquals(URI.create("https://api.example.com/users/a%2Fb/posts?page=1"), USER_POSTS.expand("a/b"));
+  }
+
+  @Test
+  void pathTemplateHasNoAuthorityOrQuery() {
+    assertEquals("/users/{id}/posts", USER_POSTS.getPathTemplate());
+    assertEquals("", EndpointTemplate.compile("https://api.example.com").getPathTemplate());
+  }
+
+  @Test
+  void matchesPathsExpandedFromTheTemplate() {
+    assertTrue(USER_POSTS.matchesPath(USER_POSTS.expand("42").getRawPath()));
+    assertTrue(USER_POSTS.matchesPath(USER_POSTS.expand("a b").getRawPath()));
+    assertFalse(USER_POSTS.matchesPath("/users/42/posts/7"));
+    assertFalse(USER_POSTS.matchesPath("/users//posts"));
+    assertFalse(USER_POSTS.matchesPath(null));
+  }
+}
@@ -0,0 +1,53 @@
+package com.fleencorp.base.adapter.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link RateLimiter}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class RateLimiterTest {
+
+  private static final URI URI = java.net.URI.create("https://api.example.com/users");
+
+  @Test
+  void rejectsCallsBeyondBurstWithRejectPolicy() {
+    final RateLimiter rateLimiter = new RateLimiter(properties(RateLimitPolicy.REJECT));
+
+    assertTrue(rateLimiter.acquire("users", URI));
+    assertFalse(rateLimiter.acquire("users", URI));
+    assertEquals(1, rateLimiter.stats().rejected());
+  }
+
+  @Test
+  void interruptedCallGivesBackItsTokenAndKeepsInterruptFlag() {
+    final RateLimiter rateLimiter = new RateLimiter(properties(RateLimitPolicy.QUEUE));
+    assertTrue(rateLimiter.acquire("users", URI));
+
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(IllegalStateException.class, () -> rateLimiter.acquire("users", URI));
+      assertTrue(Thread.currentThread().isInterrupted());
+    } finally {
+      Thread.interrupted();
+    }
+
+    assertEquals(1, rateLimiter.stats().permitted());
+    assertEquals(0, rateLimiter.stats().queued());
+    assertEquals(0, rateLimiter.stats().queueDepth());
+  }
+
+  private static RateLimiterProperties properties(final RateLimitPolicy policy) {
+    return new RateLimiterProperties(1, 1, policy, Duration.ofSeconds(5), 10);
+  }
+}
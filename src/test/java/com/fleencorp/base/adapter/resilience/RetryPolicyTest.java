@@ -0,0 +1,152 @@
+package com.fleencorp.base.adapter.resilience;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link RetryPolicy}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class RetryPolicyTest {
+
+  @Test
+  void retriesIdempotentCallUntilItSucceeds() {
+    final RetryPolicy retryPolicy = new RetryPolicy(properties(3, 10, false));
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final ResponseEntity<String> response = retryPolicy.execute("payments", HttpMethod.GET,
+      () -> attempts.incrementAndGet() < 3 ? status(503) : ResponseEntity.ok("done"));
+
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(3, attempts.get());
+    assertEquals(2, retryPolicy.stats().retries());
+  }
+
+  @Test
+  void returnsLastResponseAfterMaxAttempts() {
+    final RetryPolicy retryPolicy = new RetryPolicy(properties(2, 10, false));
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final ResponseEntity<String> response = retryPolicy.execute("payments", HttpMethod.GET, () -> {
+      attempts.incrementAndGet();
+      return status(502);
+    });
+
+    assertEquals(502, response.getStatusCode().value());
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void doesNotRetryNonIdempotentOrNonRetryableCalls() {
+    final RetryPolicy retryPolicy = new RetryPolicy(properties(3, 10, false));
+    final AtomicInteger attempts = new AtomicInteger();
+
+    retryPolicy.execute("payments", HttpMethod.POST, () -> {
+      attempts.incrementAndGet();
+      return status(503);
+    });
+    retryPolicy.execute("payments", HttpMethod.GET, () -> {
+      attempts.incrementAndGet();
+      return status(404);
+    });
+
+    assertEquals(2, attempts.get());
+    assertEquals(0, retryPolicy.stats().retries());
+  }
+
+  @Test
+  void keepsRetryBudgetPerExternalSystem() {
+    final RetryPolicy retryPolicy = new RetryPolicy(properties(3, 1, false));
+    final AtomicInteger failingAttempts = new AtomicInteger();
+    final Supplier<ResponseEntity<String>> failing = () -> {
+      failingAttempts.incrementAndGet();
+      return status(503);
+    };
+
+    retryPolicy.execute("payments", HttpMethod.GET, failing);
+    retryPolicy.execute("payments", HttpMethod.GET, failing);
+
+    // One retry from the budget of payments, then none
+    assertEquals(3, failingAttempts.get());
+    assertEquals(0, retryPolicy.getBudgetTokens("payments"), 0.001);
+    assertEquals(1, retryPolicy.getBudgetTokens("notifications"), 0.001);
+
+    final AtomicInteger otherAttempts = new AtomicInteger();
+    final ResponseEntity<String> response = retryPolicy.execute("notifications", HttpMethod.GET,
+      () -> otherAttempts.incrementAndGet() < 2 ? status(503) : ResponseEntity.ok("sent"));
+
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(2, otherAttempts.get());
+    assertEquals(2, retryPolicy.stats().budgetExhausted());
+  }
+
+  @Test
+  void hedgesSlowCallWithSecondAttempt() {
+    final RetryPolicy retryPolicy = new RetryPolicy(properties(1, 10, true));
+    warmUp(retryPolicy, "search");
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final long startedAt = System.nanoTime();
+    final ResponseEntity<String> response = retryPolicy.execute("search", HttpMethod.GET, () -> {
+      if (attempts.incrementAndGet() == 1) {
+        sleep(2_000);
+        return ResponseEntity.ok("slow");
+      }
+      return ResponseEntity.ok("hedged");
+    });
+
+    assertEquals("hedged", response.getBody());
+    assertEquals(1, retryPolicy.stats().hedges());
+    assertTrue(System.nanoTime() - startedAt < Duration.ofSeconds(1).toNanos());
+  }
+
+  @Test
+  void hedgingWaitsForOtherAttemptAfterRetryableResponse() {
+    final RetryPolicy retryPolicy = new RetryPolicy(properties(1, 10, true));
+    warmUp(retryPolicy, "search");
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final ResponseEntity<String> response = retryPolicy.execute("search", HttpMethod.GET, () -> {
+      if (attempts.incrementAndGet() == 1) {
+        sleep(300);
+        return ResponseEntity.ok("slow");
+      }
+      return status(503);
+    });
+
+    assertEquals("slow", response.getBody());
+  }
+
+  private static void warmUp(final RetryPolicy retryPolicy, final String name) {
+    for (int i = 0; i < 32; i++) {
+      retryPolicy.execute(name, HttpMethod.GET, () -> ResponseEntity.ok("fast"));
+    }
+  }
+
+  private static RetryProperties properties(final int maxAttempts, final int budgetMaxTokens, final boolean hedging) {
+    return new RetryProperties(maxAttempts, Duration.ZERO, Duration.ZERO, 2.0, 0.0, budgetMaxTokens, hedging,
+      Duration.ofMillis(20));
+  }
+
+  private static ResponseEntity<String> status(final int status) {
+    return ResponseEntity.status(status).build();
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.fleencorp.base.adapter.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link TokenBucket}. Times are passed explicitly and taken once after the bucket is created, so no tokens
+ * are refilled between the calls of a test unless it moves the time forward.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class TokenBucketTest {
+
+  private static final long TOKEN_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long NO_LIMIT = Long.MAX_VALUE;
+
+  @Test
+  void allowsBurstWithoutWaiting() {
+    final TokenBucket bucket = new TokenBucket(10, 2);
+    final long now = System.nanoTime();
+
+    assertEquals(0, bucket.tryReserve(now, NO_LIMIT));
+    assertEquals(0, bucket.tryReserve(now, NO_LIMIT));
+    assertEquals(TOKEN_INTERVAL, bucket.tryReserve(now, NO_LIMIT), TOKEN_INTERVAL / 100);
+  }
+
+  @Test
+  void reservationsWaitInArrivalOrder() {
+    final TokenBucket bucket = new TokenBucket(10, 1);
+    final long now = System.nanoTime();
+
+    assertEquals(0, bucket.tryReserve(now, NO_LIMIT));
+    assertEquals(TOKEN_INTERVAL, bucket.tryReserve(now, NO_LIMIT), TOKEN_INTERVAL / 100);
+    assertEquals(2 * TOKEN_INTERVAL, bucket.tryReserve(now, NO_LIMIT), TOKEN_INTERVAL / 100);
+  }
+
+  @Test
+  void rejectsWithoutTakingTokenWhenWaitIsTooLong() {
+    final TokenBucket bucket = new TokenBucket(10, 1);
+    final long now = System.nanoTime();
+    bucket.tryReserve(now, NO_LIMIT);
+
+    assertEquals(-1, bucket.tryReserve(now, TOKEN_INTERVAL / 2));
+    assertEquals(TOKEN_INTERVAL, bucket.getWaitNanos(now), TOKEN_INTERVAL / 100);
+  }
+
+  @Test
+  void releaseGivesBackReservedToken() {
+    final TokenBucket bucket = new TokenBucket(10, 1);
+    final long now = System.nanoTime();
+    bucket.tryReserve(now, NO_LIMIT);
+    bucket.tryReserve(now, NO_LIMIT);
+
+    bucket.release();
+
+    assertEquals(TOKEN_INTERVAL, bucket.getWaitNanos(now), TOKEN_INTERVAL / 100);
+  }
+
+  @Test
+  void refillsOverTimeUpToBurst() {
+    final TokenBucket bucket = new TokenBucket(10, 2);
+    final long now = System.nanoTime();
+    bucket.tryReserve(now, NO_LIMIT);
+    bucket.tryReserve(now, NO_LIMIT);
+
+    final long later = now + TimeUnit.SECONDS.toNanos(10);
+
+    assertEquals(0, bucket.tryReserve(later, NO_LIMIT));
+    assertEquals(0, bucket.tryReserve(later, NO_LIMIT));
+    assertTrue(bucket.tryReserve(later, 0) < 0);
+  }
+
+  @Test
+  void pauseHoldsCallsUntilItEnds() {
+    final TokenBucket bucket = new TokenBucket(10, 5);
+    final long now = System.nanoTime();
+
+    bucket.pauseUntil(now + TimeUnit.SECONDS.toNanos(2));
+    bucket.pauseUntil(now + TimeUnit.SECONDS.toNanos(1));
+
+    assertEquals(TimeUnit.SECONDS.toNanos(2), bucket.getWaitNanos(now));
+  }
+
+  @Test
+  void limitToLowersAvailableTokens() {
+    final TokenBucket bucket = new TokenBucket(0.001, 5);
+
+    bucket.limitTo(1);
+
+    assertEquals(0, bucket.tryReserve(System.nanoTime(), 0));
+    assertEquals(-1, bucket.tryReserve(System.nanoTime(), 0));
+  }
+}
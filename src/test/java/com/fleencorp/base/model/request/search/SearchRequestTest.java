@@ -0,0 +1,54 @@
+package com.fleencorp.base.model.request.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of the keyset sort of {@link SearchRequest}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class SearchRequestTest {
+
+  @Test
+  void sortsByDefaultPropertyOnly() {
+    final SearchRequest request = new SearchRequest();
+    request.setSortDir("asc");
+
+    assertEquals(Sort.by("id").ascending(), request.getKeysetSort());
+  }
+
+  @Test
+  void rejectsPropertiesThatAreNotSortable() {
+    final SearchRequest request = new SearchRequest();
+    request.setSortBy("password");
+
+    assertThrows(IllegalArgumentException.class, request::getKeysetSort);
+
+    request.setSortBy(null);
+    assertThrows(IllegalArgumentException.class, request::getKeysetSort);
+  }
+
+  @Test
+  void addsDefaultPropertyAsTiebreakerOfSortableProperty() {
+    final SearchRequest request = new EventSearchRequest();
+    request.setSortBy("createdOn");
+    request.setSortDir("desc");
+
+    assertEquals(Sort.by("createdOn").descending().and(Sort.by("id").descending()), request.getKeysetSort());
+  }
+
+  private static final class EventSearchRequest extends SearchRequest {
+
+    @Override
+    public Set<String> getSortableProperties() {
+      return Set.of("id", "createdOn");
+    }
+  }
+}
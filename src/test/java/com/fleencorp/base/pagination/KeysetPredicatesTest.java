@@ -0,0 +1,118 @@
+package com.fleencorp.base.pagination;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of {@link KeysetPredicates}, against a criteria builder rendering the criteria as text.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class KeysetPredicatesTest {
+
+  private static final Sort SORT = Sort.by("createdOn").descending().and(Sort.by("id").ascending());
+
+  private final CriteriaBuilder cb = criteriaBuilder();
+  private final Path<?> root = node(Path.class, "e");
+
+  @Test
+  void initialPositionSelectsEveryRow() {
+    assertEquals("TRUE", KeysetPredicates.seek(cb, root, SORT, null).toString());
+    assertEquals("TRUE", KeysetPredicates.seek(cb, root, SORT, ScrollPosition.forward(Map.of())).toString());
+  }
+
+  @Test
+  void forwardSeekSelectsRowsAfterThePosition() {
+    final Predicate seek = KeysetPredicates.seek(cb, root, SORT, ScrollPosition.forward(keys(5L, 9L)));
+
+    assertEquals("(e.createdOn < 5) OR (e.createdOn = 5 AND e.id > 9)", seek.toString());
+  }
+
+  @Test
+  void backwardSeekSelectsRowsBeforeThePosition() {
+    final Predicate seek = KeysetPredicates.seek(cb, root, SORT, ScrollPosition.backward(keys(5L, 9L)));
+
+    assertEquals("(e.createdOn > 5) OR (e.createdOn = 5 AND e.id < 9)", seek.toString());
+  }
+
+  @Test
+  void resolvesNestedProperties() {
+    final Sort sort = Sort.by("author.id").ascending();
+
+    final Predicate seek = KeysetPredicates.seek(cb, root, sort, ScrollPosition.forward(Map.of("author.id", 3L)));
+
+    assertEquals("(e.author.id > 3)", seek.toString());
+  }
+
+  @Test
+  void rejectsPositionWithoutValueOfASortKey() {
+    final Map<String, Object> keys = Map.of("createdOn", 5L);
+
+    assertThrows(IllegalArgumentException.class,
+      () -> KeysetPredicates.seek(cb, root, SORT, ScrollPosition.forward(keys)));
+  }
+
+  @Test
+  void backwardQueryReversesTheOrder() {
+    assertEquals("[e.createdOn DESC, e.id ASC]",
+      KeysetPredicates.orderBy(cb, root, SORT, ScrollPosition.forward(keys(5L, 9L))).toString());
+    assertEquals("[e.createdOn ASC, e.id DESC]",
+      KeysetPredicates.orderBy(cb, root, SORT, ScrollPosition.backward(keys(5L, 9L))).toString());
+  }
+
+  private static Map<String, Object> keys(final Object createdOn, final Object id) {
+    final Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("createdOn", createdOn);
+    keys.put("id", id);
+    return keys;
+  }
+
+  private static CriteriaBuilder criteriaBuilder() {
+    return (CriteriaBuilder) Proxy.newProxyInstance(CriteriaBuilder.class.getClassLoader(),
+      new Class<?>[] {CriteriaBuilder.class}, (proxy, method, args) -> switch (method.getName()) {
+        case "conjunction" -> node(Predicate.class, "TRUE");
+        case "and" -> node(Predicate.class, "(" + join((Object[]) args[0], " AND ") + ")");
+        case "or" -> node(Predicate.class, join((Object[]) args[0], " OR "));
+        case "equal" -> node(Predicate.class, args[0] + " = " + args[1]);
+        case "greaterThan" -> node(Predicate.class, args[0] + " > " + args[1]);
+        case "lessThan" -> node(Predicate.class, args[0] + " < " + args[1]);
+        case "asc" -> node(Order.class, args[0] + " ASC");
+        case "desc" -> node(Order.class, args[0] + " DESC");
+        default -> throw new UnsupportedOperationException(method.getName());
+      });
+  }
+
+  /**
+   * Creates a criteria node printing as the given text; paths resolve their attributes by appending their names.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> T node(final Class<T> type, final String text) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) ->
+      switch (method.getName()) {
+        case "toString" -> text;
+        case "hashCode" -> System.identityHashCode(proxy);
+        case "equals" -> proxy == args[0];
+        case "get" -> node(Path.class, text + "." + args[0]);
+        default -> throw new UnsupportedOperationException(method.getName());
+      });
+  }
+
+  private static String join(final Object[] values, final String separator) {
+    return Arrays.stream(values).map(String::valueOf).collect(Collectors.joining(separator));
+  }
+}
@@ -0,0 +1,115 @@
+package com.fleencorp.base.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link PageTokenCodec}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class PageTokenCodecTest {
+
+  private static final Sort SORT = Sort.by("createdOn").descending().and(Sort.by("id").descending());
+
+  private final PageTokenCodec codec = new PageTokenCodec("page-token-key");
+
+  @Test
+  void decodesTheEncodedPosition() {
+    final Map<String, Object> keys = keys(Instant.parse("2026-01-02T03:04:05.123456789Z"), 42L);
+
+    final KeysetScrollPosition forward = codec.decode(SORT, codec.encode(SORT, ScrollPosition.forward(keys)));
+    final KeysetScrollPosition backward = codec.decode(SORT, codec.encode(SORT, ScrollPosition.backward(keys)));
+
+    assertTrue(forward.scrollsForward());
+    assertEquals(keys, forward.getKeys());
+    assertFalse(backward.scrollsForward());
+    assertEquals(keys, backward.getKeys());
+  }
+
+  @Test
+  void decodesEverySupportedKeyType() {
+    final Object[] values = {"title", 7L, 7, LocalDate.of(2026, 1, 2), LocalDateTime.of(2026, 1, 2, 3, 4, 5, 6),
+      UUID.randomUUID(), true, 1.5, new BigDecimal("12.340")};
+
+    for (final Object value : values) {
+      final Sort sort = Sort.by("value").ascending();
+      final Map<String, Object> keys = Map.of("value", value);
+
+      assertEquals(keys, codec.decode(sort, codec.encode(sort, ScrollPosition.forward(keys))).getKeys());
+    }
+  }
+
+  @Test
+  void rejectsMissingAndUnsupportedKeys() {
+    final Map<String, Object> missingId = new LinkedHashMap<>();
+    missingId.put("createdOn", Instant.EPOCH);
+
+    assertThrows(IllegalArgumentException.class, () -> codec.encode(SORT, ScrollPosition.forward(missingId)));
+    assertThrows(IllegalArgumentException.class,
+      () -> codec.encode(SORT, ScrollPosition.forward(keys(new Object(), 1L))));
+  }
+
+  @Test
+  void rejectsTokenOfAnotherSort() {
+    final String token = codec.encode(SORT, ScrollPosition.forward(keys(Instant.EPOCH, 1L)));
+    final Sort ascending = Sort.by("createdOn").ascending().and(Sort.by("id").ascending());
+    final Sort otherProperty = Sort.by("title").descending().and(Sort.by("id").descending());
+
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(ascending, token));
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(otherProperty, token));
+  }
+
+  @Test
+  void rejectsTokenOfAnotherKey() {
+    final String token = new PageTokenCodec("other-key").encode(SORT, ScrollPosition.forward(keys(Instant.EPOCH, 1L)));
+
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(SORT, token));
+  }
+
+  @Test
+  void rejectsAlteredAndMalformedTokens() {
+    final byte[] token = Base64.getUrlDecoder()
+      .decode(codec.encode(SORT, ScrollPosition.forward(keys(Instant.EPOCH, 1L))));
+    token[token.length - 20] ^= 1;
+    final String altered = Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(SORT, altered));
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(SORT, "not a token!"));
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(SORT, "AAAA"));
+  }
+
+  @Test
+  void derivedKeyDependsOnTheEncryptionKey() {
+    final Map<String, Object> keys = keys(Instant.EPOCH, 1L);
+    final String token = PageTokenCodec.fromEncryptionKey("encryption-key").encode(SORT, ScrollPosition.forward(keys));
+
+    assertEquals(keys, PageTokenCodec.fromEncryptionKey("encryption-key").decode(SORT, token).getKeys());
+    assertThrows(IllegalArgumentException.class,
+      () -> PageTokenCodec.fromEncryptionKey("rotated-key").decode(SORT, token));
+  }
+
+  private static Map<String, Object> keys(final Object createdOn, final Object id) {
+    final Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("createdOn", createdOn);
+    keys.put("id", id);
+    return keys;
+  }
+}
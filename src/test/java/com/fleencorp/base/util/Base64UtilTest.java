@@ -0,0 +1,101 @@
+package com.fleencorp.base.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of {@link Base64Util}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class Base64UtilTest {
+
+  @Test
+  void encodeMatchesJdkEncoder() {
+    for (int length = 0; length < 10; length++) {
+      final byte[] value = bytes(length);
+      final byte[] encoded = new byte[Base64Util.encodedLength(length)];
+
+      final int written = Base64Util.encode(value, 0, length, encoded, 0);
+
+      assertEquals(encoded.length, written);
+      assertEquals(Base64.getEncoder().encodeToString(value), new String(encoded, US_ASCII));
+    }
+  }
+
+  @Test
+  void decodeReversesEncode() {
+    for (int length = 0; length < 10; length++) {
+      final byte[] value = bytes(length);
+      final byte[] encoded = Base64.getEncoder().encode(value);
+      final byte[] decoded = new byte[Base64Util.decodedLength(encoded, 0, encoded.length)];
+
+      final int written = Base64Util.decode(encoded, 0, encoded.length, decoded, 0);
+
+      assertEquals(length, written);
+      assertArrayEquals(value, decoded);
+    }
+  }
+
+  @Test
+  void decodeInPlace() {
+    final byte[] value = bytes(7);
+    final byte[] buffer = Base64.getEncoder().encode(value);
+
+    final int written = Base64Util.decode(buffer, 0, buffer.length, buffer, 0);
+
+    assertEquals(value.length, written);
+    assertArrayEquals(value, Arrays.copyOf(buffer, written));
+  }
+
+  @Test
+  void decodeRejectsCharacterAfterPadding() {
+    assertRejected("AB=C");
+  }
+
+  @Test
+  void decodeRejectsPaddingOutsideLastGroup() {
+    assertRejected("AB==ABCD");
+    assertRejected("ABC=ABCD");
+  }
+
+  @Test
+  void decodeRejectsPaddingAtStartOfGroup() {
+    assertRejected("====");
+    assertRejected("A===");
+  }
+
+  @Test
+  void decodeRejectsIllegalCharacter() {
+    assertRejected("AB*D");
+  }
+
+  @Test
+  void decodeRejectsUnpaddedInput() {
+    final byte[] src = "ABC".getBytes(US_ASCII);
+    assertThrows(IllegalArgumentException.class, () -> Base64Util.decode(src, 0, src.length, new byte[3], 0));
+  }
+
+  private static void assertRejected(final String encoded) {
+    final byte[] src = encoded.getBytes(US_ASCII);
+    final byte[] dst = new byte[src.length];
+    assertThrows(IllegalArgumentException.class, () -> Base64Util.decode(src, 0, src.length, dst, 0));
+    assertThrows(IllegalArgumentException.class, () -> Base64.getDecoder().decode(src));
+  }
+
+  private static byte[] bytes(final int length) {
+    final byte[] value = new byte[length];
+    for (int i = 0; i < length; i++) {
+      value[i] = (byte) (i * 37 + 250);
+    }
+    return value;
+  }
+}
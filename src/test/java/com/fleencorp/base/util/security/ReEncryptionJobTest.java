@@ -0,0 +1,189 @@
+package com.fleencorp.base.util.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.fleencorp.base.util.security.ReEncryptionJob.ReEncryptionResult;
+import static com.fleencorp.base.util.security.ReEncryptionStore.EncryptedRow;
+import static com.fleencorp.base.util.security.ReEncryptionStore.ValueUpdate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the enveloped values of {@link EncryptionUtils} and of their rotation by {@link ReEncryptionJob}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class ReEncryptionJobTest {
+
+  private static final String LEGACY_KEY = "0123456789abcdef";
+  private static final String KEYS = "k1=aaaaaaaaaaaaaaaa;k2=bbbbbbbbbbbbbbbb";
+
+  private final EncryptionUtils legacy = new EncryptionUtils(LEGACY_KEY);
+  private final EncryptionUtils firstKey = new EncryptionUtils(LEGACY_KEY, StaticKeyRing.of(KEYS, "k1"));
+  private final EncryptionUtils secondKey = new EncryptionUtils(LEGACY_KEY, StaticKeyRing.of(KEYS, "k2"));
+
+  @Test
+  void envelopeDecryptsWithAnyKeyOfTheRing() {
+    final String encrypted = firstKey.encrypt("value");
+
+    assertTrue(encrypted.startsWith("v1:k1:"));
+    assertEquals("value", secondKey.decrypt(encrypted));
+    assertEquals("value", secondKey.decrypt(legacy.encrypt("value")));
+  }
+
+  @Test
+  void onlyValuesNotUnderTheActiveKeyNeedReEncryption() {
+    assertTrue(secondKey.needsReEncryption(legacy.encrypt("value")));
+    assertTrue(secondKey.needsReEncryption(firstKey.encrypt("value")));
+    assertFalse(secondKey.needsReEncryption(secondKey.encrypt("value")));
+    assertFalse(legacy.needsReEncryption(legacy.encrypt("value")));
+  }
+
+  @Test
+  void reEncryptsEveryValueWithTheActiveKey() {
+    final InMemoryStore store = new InMemoryStore();
+    store.put(1L, legacy.encrypt("one"));
+    store.put(2L, firstKey.encrypt("two"));
+    store.put(3L, secondKey.encrypt("three"));
+
+    final ReEncryptionResult<Long> result = new ReEncryptionJob<>(secondKey, store, 2, 0).run();
+
+    assertTrue(result.completed());
+    assertEquals(3, result.scanned());
+    assertEquals(2, result.reEncrypted());
+    assertEquals(0, result.skipped());
+    assertEquals(3L, result.lastId());
+    assertEquals(3L, store.checkpoint);
+    store.values.values().forEach(value -> assertFalse(secondKey.needsReEncryption(value)));
+    assertEquals("two", secondKey.decrypt(store.values.get(2L)));
+  }
+
+  @Test
+  void skipsValueChangedByTheApplicationDuringTheRun() {
+    final InMemoryStore store = new InMemoryStore() {
+      @Override
+      public int updateBatch(final List<ValueUpdate<Long>> updates) {
+        // The application writes a new value between the read and the write of the job
+        values.put(1L, secondKey.encrypt("changed"));
+        return super.updateBatch(updates);
+      }
+    };
+    store.put(1L, legacy.encrypt("one"));
+    store.put(2L, legacy.encrypt("two"));
+
+    final ReEncryptionResult<Long> result = new ReEncryptionJob<>(secondKey, store, 10, 0).run();
+
+    assertEquals(1, result.reEncrypted());
+    assertEquals(1, result.skipped());
+    assertEquals("changed", secondKey.decrypt(store.values.get(1L)));
+    assertEquals("two", secondKey.decrypt(store.values.get(2L)));
+  }
+
+  @Test
+  void countsUndecryptableValueAsFailedAndLeavesItUntouched() {
+    final InMemoryStore store = new InMemoryStore();
+    store.put(1L, "not encrypted");
+    store.put(2L, legacy.encrypt("two"));
+
+    final ReEncryptionResult<Long> result = new ReEncryptionJob<>(secondKey, store, 10, 0).run();
+
+    assertEquals(1, result.failed());
+    assertEquals(1, result.reEncrypted());
+    assertEquals("not encrypted", store.values.get(1L));
+  }
+
+  @Test
+  void resumesFromTheCheckpoint() {
+    final InMemoryStore store = new InMemoryStore();
+    store.put(1L, legacy.encrypt("one"));
+    store.put(2L, legacy.encrypt("two"));
+    store.checkpoint = 1L;
+
+    final ReEncryptionResult<Long> result = new ReEncryptionJob<>(secondKey, store, 10, 0).run();
+
+    assertEquals(1, result.scanned());
+    assertTrue(secondKey.needsReEncryption(store.values.get(1L)));
+    assertFalse(secondKey.needsReEncryption(store.values.get(2L)));
+  }
+
+  @Test
+  void startClearsAStopRequestedBeforeIt() throws Exception {
+    final InMemoryStore store = new InMemoryStore();
+    store.put(1L, legacy.encrypt("one"));
+    final ReEncryptionJob<Long> job = new ReEncryptionJob<>(secondKey, store, 10, 0);
+
+    job.stop();
+    final ReEncryptionResult<Long> result = job.start().get(5, TimeUnit.SECONDS);
+
+    assertTrue(result.completed());
+    assertEquals(1, result.reEncrypted());
+  }
+
+  @Test
+  void stopRequestedBeforeRunStopsItAndIsThenCleared() {
+    final InMemoryStore store = new InMemoryStore();
+    store.put(1L, legacy.encrypt("one"));
+    final ReEncryptionJob<Long> job = new ReEncryptionJob<>(secondKey, store, 10, 0);
+
+    job.stop();
+    assertFalse(job.run().completed());
+    assertTrue(job.run().completed());
+  }
+
+  /**
+   * A store of one encrypted column, whose updates are compare-and-set like those of a SQL implementation.
+   */
+  private static class InMemoryStore implements ReEncryptionStore<Long> {
+
+    private static final String COLUMN = "value";
+
+    protected final TreeMap<Long, String> values = new TreeMap<>();
+    private Long checkpoint;
+
+    void put(final Long id, final String value) {
+      values.put(id, value);
+    }
+
+    @Override
+    public List<EncryptedRow<Long>> fetchBatch(final Long afterId, final int batchSize) {
+      final List<EncryptedRow<Long>> rows = new ArrayList<>();
+      final Map<Long, String> page = afterId == null ? values : values.tailMap(afterId, false);
+      for (final Map.Entry<Long, String> entry : page.entrySet()) {
+        if (rows.size() == batchSize) {
+          break;
+        }
+        rows.add(new EncryptedRow<>(entry.getKey(), Map.of(COLUMN, entry.getValue())));
+      }
+      return rows;
+    }
+
+    @Override
+    public int updateBatch(final List<ValueUpdate<Long>> updates) {
+      int applied = 0;
+      for (final ValueUpdate<Long> update : updates) {
+        if (values.replace(update.id(), update.expectedValue(), update.newValue())) {
+          applied++;
+        }
+      }
+      return applied;
+    }
+
+    @Override
+    public void saveCheckpoint(final Long lastId) {
+      checkpoint = lastId;
+    }
+
+    @Override
+    public Long loadCheckpoint() {
+      return checkpoint;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.fleencorp.base.util.security;
+
+import com.fleencorp.base.exception.security.DecryptionFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static com.fleencorp.base.util.security.StreamSegments.HEADER_LENGTH;
+import static com.fleencorp.base.util.security.StreamSegments.MIN_SEGMENT_SIZE;
+import static com.fleencorp.base.util.security.StreamSegments.TAG_LENGTH;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of the segmented AEAD format written by {@link EncryptingOutputStream} and read by
+ * {@link DecryptingInputStream}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class SegmentedStreamTest {
+
+  private static final int SEGMENT_SIZE = MIN_SEGMENT_SIZE;
+  private static final int ENCRYPTED_SEGMENT_SIZE = SEGMENT_SIZE + TAG_LENGTH;
+
+  private final EncryptionUtils encryptionUtils = new EncryptionUtils("0123456789abcdef");
+
+  @Test
+  void roundTripsPayloadsAroundSegmentBoundaries() throws IOException {
+    final int[] lengths = { 0, 1, SEGMENT_SIZE - 1, SEGMENT_SIZE, SEGMENT_SIZE + 1, 3 * SEGMENT_SIZE + 17 };
+    for (final int length : lengths) {
+      final byte[] plaintext = plaintext(length);
+      assertArrayEquals(plaintext, decrypt(encrypt(plaintext)));
+    }
+  }
+
+  @Test
+  void encryptsTheSamePayloadDifferentlyEachTime() throws IOException {
+    final byte[] plaintext = plaintext(SEGMENT_SIZE);
+    assertNotEquals(Arrays.toString(encrypt(plaintext)), Arrays.toString(encrypt(plaintext)));
+  }
+
+  @Test
+  void rejectsStreamTruncatedAtSegmentBoundary() throws IOException {
+    final byte[] encrypted = encrypt(plaintext(3 * SEGMENT_SIZE + 17));
+    final byte[] truncated = Arrays.copyOf(encrypted, HEADER_LENGTH + 2 * ENCRYPTED_SEGMENT_SIZE);
+
+    assertThrows(DecryptionFailedException.class, () -> decrypt(truncated));
+  }
+
+  @Test
+  void rejectsStreamTruncatedInsideSegment() throws IOException {
+    final byte[] encrypted = encrypt(plaintext(2 * SEGMENT_SIZE));
+    final byte[] truncated = Arrays.copyOf(encrypted, encrypted.length - 1);
+
+    assertThrows(DecryptionFailedException.class, () -> decrypt(truncated));
+  }
+
+  @Test
+  void rejectsStreamTruncatedInsideHeader() throws IOException {
+    final byte[] encrypted = encrypt(plaintext(10));
+    final byte[] truncated = Arrays.copyOf(encrypted, HEADER_LENGTH - 1);
+
+    assertThrows(DecryptionFailedException.class, () -> decrypt(truncated));
+  }
+
+  @Test
+  void rejectsReorderedSegments() throws IOException {
+    final byte[] encrypted = encrypt(plaintext(3 * SEGMENT_SIZE + 17));
+    final byte[] reordered = encrypted.clone();
+    final int first = HEADER_LENGTH;
+    final int second = HEADER_LENGTH + ENCRYPTED_SEGMENT_SIZE;
+    System.arraycopy(encrypted, first, reordered, second, ENCRYPTED_SEGMENT_SIZE);
+    System.arraycopy(encrypted, second, reordered, first, ENCRYPTED_SEGMENT_SIZE);
+
+    assertThrows(DecryptionFailedException.class, () -> decrypt(reordered));
+  }
+
+  @Test
+  void rejectsTamperedLastSegment() throws IOException {
+    final byte[] encrypted = encrypt(plaintext(2 * SEGMENT_SIZE + 17));
+    encrypted[encrypted.length - TAG_LENGTH - 1] ^= 1;
+
+    assertThrows(DecryptionFailedException.class, () -> decrypt(encrypted));
+  }
+
+  @Test
+  void rejectsTamperedHeader() throws IOException {
+    final byte[] encrypted = encrypt(plaintext(10));
+    encrypted[HEADER_LENGTH - 1] ^= 1;
+
+    assertThrows(DecryptionFailedException.class, () -> decrypt(encrypted));
+  }
+
+  @Test
+  void rejectsStreamEncryptedWithAnotherKey() throws IOException {
+    final byte[] encrypted = encrypt(plaintext(10));
+    final EncryptionUtils otherKey = new EncryptionUtils("fedcba9876543210");
+
+    final InputStream decryptingStream = otherKey.decryptingStream(new ByteArrayInputStream(encrypted));
+
+    assertThrows(DecryptionFailedException.class, decryptingStream::readAllBytes);
+  }
+
+  private byte[] encrypt(final byte[] plaintext) throws IOException {
+    final ByteArrayOutputStream target = new ByteArrayOutputStream();
+    try (EncryptingOutputStream encryptingStream = encryptionUtils.encryptingStream(target, SEGMENT_SIZE)) {
+      encryptingStream.write(plaintext);
+    }
+    return target.toByteArray();
+  }
+
+  private byte[] decrypt(final byte[] encrypted) throws IOException {
+    try (InputStream decryptingStream = encryptionUtils.decryptingStream(new ByteArrayInputStream(encrypted))) {
+      return decryptingStream.readAllBytes();
+    }
+  }
+
+  private static byte[] plaintext(final int length) {
+    final byte[] plaintext = new byte[length];
+    for (int i = 0; i < length; i++) {
+      plaintext[i] = (byte) (i * 31);
+    }
+    return plaintext;
+  }
+}
@@ -0,0 +1,53 @@
+package com.fleencorp.base.util.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of {@link StaticKeyRing}.
+ *
+ * @author Yusuf Alamu Musa
+ * @version 1.0
+ */
+class StaticKeyRingTest {
+
+  @Test
+  void parsesKeysContainingPadding() {
+    final StaticKeyRing keyRing = StaticKeyRing.of("k1=abcdefghijklmn==; k2=0123456789abcdef;", "k2");
+
+    assertEquals("k2", keyRing.getActiveKeyId());
+    assertEquals(Set.of("k1", "k2"), keyRing.getKeyIds());
+    assertArrayEquals("abcdefghijklmn==".getBytes(UTF_8), keyRing.getKey("k1").getEncoded());
+  }
+
+  @Test
+  void rejectsEntryWithoutKey() {
+    assertThrows(IllegalArgumentException.class, () -> StaticKeyRing.of("k1=0123456789abcdef;k2", "k1"));
+    assertThrows(IllegalArgumentException.class, () -> StaticKeyRing.of("k1=0123456789abcdef;k2=", "k1"));
+    assertThrows(IllegalArgumentException.class, () -> StaticKeyRing.of("=0123456789abcdef", "k1"));
+  }
+
+  @Test
+  void rejectsDuplicateKeyId() {
+    final String keys = "k1=0123456789abcdef;k1=fedcba9876543210";
+    assertThrows(IllegalArgumentException.class, () -> StaticKeyRing.of(keys, "k1"));
+  }
+
+  @Test
+  void rejectsMissingActiveKey() {
+    assertThrows(IllegalArgumentException.class, () -> StaticKeyRing.of("k1=0123456789abcdef", null));
+    assertThrows(IllegalArgumentException.class, () -> StaticKeyRing.of("k1=0123456789abcdef", " "));
+    assertThrows(IllegalArgumentException.class, () -> StaticKeyRing.of("k1=0123456789abcdef", "k2"));
+  }
+
+  @Test
+  void rejectsInvalidKeyLength() {
+    assertThrows(IllegalArgumentException.class, () -> StaticKeyRing.of("k1=short", "k1"));
+  }
+}